@@ -1,18 +1,49 @@
 package seedu.addressbook;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import javax.management.JMException;
+
+import seedu.addressbook.batch.BatchPipeline;
+import seedu.addressbook.commands.AddCommand;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.UseCommand;
+import seedu.addressbook.common.LaunchOptions;
+import seedu.addressbook.common.Messages;
 import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ColumnarPersonStore;
+import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.metrics.AddressBookMetrics;
+import seedu.addressbook.metrics.AllocationCounter;
+import seedu.addressbook.metrics.CommandCounter;
+import seedu.addressbook.metrics.CommandEvent;
+import seedu.addressbook.metrics.PhaseTimer;
+import seedu.addressbook.metrics.PhaseTimer.Phase;
+import seedu.addressbook.metrics.SlowOperationLog;
+import seedu.addressbook.metrics.ValueRecorder;
 import seedu.addressbook.parser.Parser;
+import seedu.addressbook.parser.TokenizingParser;
+import seedu.addressbook.replication.ReplicationFollower;
+import seedu.addressbook.replication.ReplicationPrimary;
+import seedu.addressbook.storage.AddressBookRegistry;
+import seedu.addressbook.storage.BackgroundLoad;
 import seedu.addressbook.storage.StorageFile;
 import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
 import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.ui.JsonUi;
+import seedu.addressbook.ui.LineReader;
 import seedu.addressbook.ui.TextUi;
 
 
@@ -25,13 +56,39 @@ public class Main {
     /** Version info of the program. */
     public static final String VERSION = "AddressBook Level 2 - Version 1.0";
 
+    /** How long a follower waits at launch for the primary's snapshot. */
+    private static final long INITIAL_SYNC_TIMEOUT_MILLIS = 10_000;
+
+    /** The fewest persons for which the time taken to get ready for the first command is shown. */
+    private static final int LARGE_ADDRESS_BOOK_PERSONS = 100_000;
+
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
     private TextUi ui;
+    private final Parser parser = new TokenizingParser();
+    private LaunchOptions options;
     private StorageFile storage;
     private AddressBook addressBook;
 
+    /** The address book loading in the background, with {@code --progressive}, until a command needs it. */
+    private BackgroundLoad backgroundLoad;
+    private ReplicationPrimary replicationPrimary;
+    private ReplicationFollower replicationFollower;
+    private SlowOperationLog slowOperationLog;
+
+    /** The address books kept in a directory, with {@code --books}; {@link #addressBook} is the one in use. */
+    private AddressBookRegistry registry;
+    private String currentBookName;
+
+    /** Times the phases of the command being handled, for the {@link #slowOperationLog}. */
+    private final PhaseTimer commandTimer = new PhaseTimer();
+
     /** The list of person shown to the user most recently.  */
     private List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
 
+    /** The index in {@link #lastShownList} of the first person on the page shown most recently. */
+    private int lastShownPageStart;
+
 
     public static void main(String... launchArgs) {
         new Main().run(launchArgs);
@@ -40,7 +97,14 @@ public class Main {
     /** Runs the program until termination.  */
     public void run(String[] launchArgs) {
         start(launchArgs);
-        runCommandLoopUntilExitCommand();
+        if (options.isBatchMode()) {
+            runBatchUntilExitCommandOrEndOfInput();
+        } else {
+            runCommandLoopUntilExitCommand();
+        }
+        saveQueuedPersons();
+        saveResidentBooks();
+        closeStorage();
         exit();
     }
 
@@ -53,11 +117,44 @@ public class Main {
     private void start(String[] launchArgs) {
         try {
             this.ui = new TextUi();
-            this.storage = initializeStorage(launchArgs);
-            this.addressBook = storage.load();
+            this.options = LaunchOptions.parse(launchArgs);
+            if (options.isJsonOutput()) {
+                this.ui = new JsonUi();
+            }
+            final String slowLogFailure = openSlowOperationLog();
+            if (options.getBooksDirectory().isPresent()) {
+                openRegistry(options.getBooksDirectory().get());
+            } else {
+                this.storage = initializeStorage(options);
+            }
+            if (registry != null) {
+                openCurrentBook();
+            } else if (options.getFollowedPort().isPresent()) {
+                this.addressBook = LaunchOptions.STORE_COLUMNAR.equals(options.getStore())
+                        ? new AddressBook(new ColumnarPersonStore()) : new AddressBook();
+                startFollowing(options.getFollowedPort().getAsInt());
+            } else if (options.isProgressiveStartup()) {
+                backgroundLoad = new BackgroundLoad(this::loadAddressBook, storage.getLoadProgress());
+                backgroundLoad.start();
+            } else {
+                this.addressBook = loadAddressBook();
+            }
+            if (options.getPrimaryPort().isPresent()) {
+                startServingFollowers(options.getPrimaryPort().getAsInt());
+            }
             ui.showWelcomeMessage(VERSION, storage.getPath());
+            if (slowLogFailure != null) {
+                ui.showToUser(slowLogFailure);
+            }
+            showReplicationRole();
+            if (backgroundLoad != null) {
+                ui.showToUser(Messages.MESSAGE_LOADING_IN_BACKGROUND);
+            } else {
+                registerMetrics();
+                showStartupTimeIfLarge();
+            }
 
-        } catch (InvalidStorageFilePathException | StorageOperationException e) {
+        } catch (IllegalValueException | StorageOperationException | IOException | InterruptedException e) {
             ui.showInitFailedMessage();
             /*
              * ==============NOTE TO STUDENTS=========================================================================
@@ -72,9 +169,235 @@ public class Main {
         }
     }
 
+    /**
+     * Opens the slow operation log, if the user asked for one.
+     * The address book works the same without it, so failing to open it is only reported.
+     *
+     * @return the message to show the user if the log could not be opened, or null
+     */
+    private String openSlowOperationLog() {
+        if (!options.getSlowLogPath().isPresent()) {
+            return null;
+        }
+        try {
+            slowOperationLog = new SlowOperationLog(options.getSlowLogPath().get(),
+                    options.getSlowLogThresholdMillis());
+            return null;
+        } catch (IOException ioe) {
+            return String.format(Messages.MESSAGE_SLOW_LOG_UNAVAILABLE, ioe.getMessage());
+        }
+    }
+
+    /**
+     * Keeps the address books in the given directory, creating it if needed, and starts with the default book.
+     */
+    private void openRegistry(String directory) throws IOException {
+        final Path booksDirectory = Paths.get(directory);
+        Files.createDirectories(booksDirectory);
+        registry = new AddressBookRegistry(booksDirectory, options.getMaxBooks(),
+                options.getMaxBooksMegabytes() * BYTES_PER_MEGABYTE);
+        currentBookName = AddressBookRegistry.DEFAULT_BOOK_NAME;
+    }
+
+    /**
+     * Makes the book currently chosen in the {@link #registry} the address book in use.
+     * The registry may have evicted and reloaded it since it was last used, in which case its new instance
+     * and storage file are taken, and its metrics are exposed again.
+     */
+    private void openCurrentBook() throws IllegalValueException, StorageOperationException {
+        final AddressBook current = registry.open(currentBookName);
+        if (current != addressBook) {
+            final boolean isFirstBook = addressBook == null;
+            addressBook = current;
+            storage = registry.getStorageFile(currentBookName);
+            if (!isFirstBook) {
+                registerMetrics();
+            }
+        }
+    }
+
+    /**
+     * Switches to the address book named by the command, or shows the one in use if it names none.
+     * The book in use is kept if the named one cannot be opened.
+     */
+    private CommandResult useBook(UseCommand command) {
+        if (registry == null) {
+            return command.execute();
+        }
+        if (!command.getBookName().isPresent()) {
+            return new CommandResult(String.format(UseCommand.MESSAGE_CURRENT_BOOK, currentBookName,
+                    registry.getStatistics()));
+        }
+        final String bookName = command.getBookName().get();
+        try {
+            registry.open(bookName);
+        } catch (InvalidStorageFilePathException | StorageOperationException e) {
+            return new CommandResult(e.getMessage());
+        }
+        currentBookName = bookName;
+        lastShownList = Collections.emptyList();
+        lastShownPageStart = 0;
+        return new CommandResult(String.format(UseCommand.MESSAGE_USING_BOOK, bookName));
+    }
+
+    /**
+     * Saves the address books kept in memory that have changed, if several are in use.
+     */
+    private void saveResidentBooks() {
+        if (registry == null) {
+            return;
+        }
+        try {
+            registry.flushAll();
+        } catch (StorageOperationException soe) {
+            ui.showToUser(soe.getMessage());
+            throw new RuntimeException(soe);
+        }
+    }
+
+    /**
+     * Closes the storage file, which leaves the persons deleted from an address book mapped from it out of the file.
+     */
+    private void closeStorage() {
+        if (storage == null) {
+            return;
+        }
+        try {
+            storage.close();
+        } catch (StorageOperationException soe) {
+            ui.showToUser(soe.getMessage());
+        }
+    }
+
+    /**
+     * Loads the address book from storage, logging the load if it was slow.
+     */
+    private AddressBook loadAddressBook() throws StorageOperationException {
+        final PhaseTimer loadTimer = new PhaseTimer();
+        loadTimer.start();
+        final AddressBook loaded;
+        switch (options.getStore()) {
+        case LaunchOptions.STORE_MAPPED:
+            loaded = storage.loadMapped();
+            break;
+        case LaunchOptions.STORE_COLUMNAR:
+            loaded = storage.loadColumnar();
+            break;
+        case LaunchOptions.STORE_LAZY:
+            loaded = storage.loadLazily();
+            break;
+        default:
+            loaded = storage.load();
+        }
+        loadTimer.endPhase(Phase.LOAD);
+        if (slowOperationLog != null) {
+            slowOperationLog.logIfSlow(SlowOperationLog.OPERATION_LOAD, null, loadTimer.getPhaseNanos(),
+                    loaded.size());
+        }
+        return loaded;
+    }
+
+    /**
+     * Waits for the address book loading in the background, showing how far it has got,
+     * and adds the persons queued meanwhile to it.
+     */
+    private void finishBackgroundLoad() throws StorageOperationException, InterruptedException {
+        addressBook = backgroundLoad.await(ui::showToUser);
+        backgroundLoad = null;
+        registerMetrics();
+    }
+
+    /**
+     * Queues the person of an add command entered while the address book is loading, to be added once it has.
+     */
+    private CommandResult queueAdd(AddCommand command) {
+        try {
+            backgroundLoad.queue(new Person(command.getPerson()));
+            return new CommandResult(String.format(Messages.MESSAGE_ADD_QUEUED, command.getPerson()));
+        } catch (DuplicatePersonException dpe) {
+            return new CommandResult(AddCommand.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    /**
+     * Adds and saves the persons still queued when the input ended before the address book had loaded.
+     */
+    private void saveQueuedPersons() {
+        if (backgroundLoad == null) {
+            return;
+        }
+        try {
+            finishBackgroundLoad();
+            storage.save(addressBook);
+        } catch (StorageOperationException | InterruptedException e) {
+            ui.showToUser(e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Shows how long it took from the start of the program until it was ready for the first command,
+     * if the address book is large enough for that to be of interest.
+     */
+    private void showStartupTimeIfLarge() {
+        if (addressBook.size() >= LARGE_ADDRESS_BOOK_PERSONS) {
+            ui.showToUser(String.format(Messages.MESSAGE_READY, ManagementFactory.getRuntimeMXBean().getUptime(),
+                    addressBook.size()));
+        }
+    }
+
+    /**
+     * Exposes the metrics of the address book through JMX.
+     * The address book works the same without them, so failing to register them is only reported.
+     */
+    private void registerMetrics() {
+        try {
+            new AddressBookMetrics(addressBook, storage, isReadOnlyReplica()).register();
+        } catch (JMException jme) {
+            ui.showToUser(String.format(Messages.MESSAGE_METRICS_UNAVAILABLE, jme.getMessage()));
+        }
+    }
+
+    /**
+     * Starts serving the changes made to the address book to followers on the given local port.
+     */
+    private void startServingFollowers(int port) throws IOException {
+        replicationPrimary = new ReplicationPrimary(addressBook, ReplicationPrimary.DEFAULT_LOG_CAPACITY);
+        replicationPrimary.start(port);
+    }
+
+    /**
+     * Starts following the primary on the given local port, and waits for its snapshot.
+     *
+     * @throws IOException if the snapshot did not arrive in time.
+     */
+    private void startFollowing(int port) throws IOException, InterruptedException {
+        replicationFollower = new ReplicationFollower(addressBook, port, ReplicationFollower.DEFAULT_MAX_LAG_ENTRIES);
+        replicationFollower.start();
+        if (!replicationFollower.awaitInitialSync(INITIAL_SYNC_TIMEOUT_MILLIS)) {
+            throw new IOException(String.format(Messages.MESSAGE_PRIMARY_UNREACHABLE, port));
+        }
+    }
+
+    private void showReplicationRole() {
+        if (replicationPrimary != null) {
+            ui.showToUser(String.format(Messages.MESSAGE_SERVING_FOLLOWERS, replicationPrimary.getPort()));
+        }
+        if (replicationFollower != null) {
+            ui.showToUser(String.format(Messages.MESSAGE_FOLLOWING_PRIMARY, options.getFollowedPort().getAsInt()));
+        }
+    }
+
+    private boolean isReadOnlyReplica() {
+        return replicationFollower != null;
+    }
+
     /** Prints the Goodbye message and exits. */
     private void exit() {
         ui.showGoodbyeMessage();
+        if (slowOperationLog != null) {
+            slowOperationLog.close();
+        }
         System.exit(0);
     }
 
@@ -83,48 +406,157 @@ public class Main {
         Command command;
         do {
             String userCommandText = ui.getUserCommand();
-            command = new Parser().parseCommand(userCommandText);
+            commandTimer.start();
+            command = parser.parseCommand(userCommandText);
+            commandTimer.endPhase(Phase.PARSE);
             CommandResult result = executeCommand(command);
             recordResult(result);
             ui.showResultToUser(result);
+            commandTimer.endPhase(Phase.RENDER);
+            logIfSlow(userCommandText);
 
         } while (!ExitCommand.isExit(command));
     }
 
+    /**
+     * Reads commands from standard input and runs them through the {@link BatchPipeline},
+     * until the user issues the exit command or the input ends.
+     * Its commands are not written to the slow operation log, as their phases overlap.
+     */
+    private void runBatchUntilExitCommandOrEndOfInput() {
+        final BatchPipeline pipeline = new BatchPipeline(parser, command -> {
+            CommandResult result = executeCommand(command);
+            recordResult(result);
+            return result;
+        }, ui);
+        try {
+            pipeline.run(new LineReader(System.in), System.out);
+        } catch (IOException ioe) {
+            ui.showToUser(ioe.getMessage());
+            throw new RuntimeException(ioe);
+        }
+    }
+
+    /**
+     * Writes the command just handled to the slow operation log, with private details redacted,
+     * if the log is open and the command was slow.
+     */
+    private void logIfSlow(String userCommandText) {
+        if (slowOperationLog != null) {
+            slowOperationLog.logIfSlow(SlowOperationLog.OPERATION_COMMAND,
+                    Parser.redactPrivateDetails(userCommandText.trim()), commandTimer.getPhaseNanos(),
+                    addressBook == null ? 0 : addressBook.size());
+        }
+    }
+
     /** Updates the {@link #lastShownList} if the result contains a list of Persons. */
     private void recordResult(CommandResult result) {
         final Optional<List<? extends ReadOnlyPerson>> personList = result.getRelevantPersons();
         if (personList.isPresent()) {
             lastShownList = personList.get();
+            lastShownPageStart = result.getShownFromIndex();
         }
     }
 
     /**
      * Executes the command and returns the result.
+     * With several address books, the command works on the one in use, which is saved if it changed.
+     * On a read-only replica, commands that would change the address book are refused,
+     * and nothing is saved since the primary owns the data.
      *
      * @param command user command
      * @return result of the command
      */
     private CommandResult executeCommand(Command command)  {
         try {
+            if (command instanceof UseCommand) {
+                return useBook((UseCommand) command);
+            }
+            if (registry != null) {
+                openCurrentBook();
+            }
+            if (backgroundLoad != null) {
+                if (command instanceof AddCommand) {
+                    return queueAdd((AddCommand) command);
+                }
+                if (!command.needsAddressBook()) {
+                    return command.execute();
+                }
+                finishBackgroundLoad();
+            }
+            if (isReadOnlyReplica() && command.isMutating()) {
+                return new CommandResult(Messages.MESSAGE_READ_ONLY_REPLICA);
+            }
             command.setData(addressBook, lastShownList);
-            CommandResult result = command.execute();
-            storage.save(addressBook);
-            return result;
+            CommandResult result = executeMeasured(command);
+            commandTimer.endPhase(Phase.EXECUTE);
+            if (registry != null) {
+                registry.flush(currentBookName);
+                commandTimer.endPhase(Phase.SAVE);
+            } else if (!isReadOnlyReplica()) {
+                storage.save(addressBook);
+                commandTimer.endPhase(Phase.SAVE);
+            }
+            return selectPage(result);
         } catch (Exception e) {
             ui.showToUser(e.getMessage());
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Executes the command, counting it in {@link CommandCounter}, recording how long it took in
+     * {@link ValueRecorder#COMMANDS} and, if it is being recorded, in a {@link CommandEvent},
+     * and how much memory it allocated in {@link ValueRecorder#ALLOCATIONS}.
+     */
+    private CommandResult executeMeasured(Command command) {
+        final CommandEvent event = new CommandEvent();
+        event.begin();
+        final long allocatedBefore = AllocationCounter.getAllocatedBytes();
+        final long start = System.nanoTime();
+        final CommandResult result = command.execute();
+        ValueRecorder.COMMANDS.record(command.getCommandWord(), System.nanoTime() - start);
+        CommandCounter.increment(command.getCommandWord());
+        if (AllocationCounter.isSupported()) {
+            ValueRecorder.ALLOCATIONS.record(command.getCommandWord(),
+                    AllocationCounter.getAllocatedBytes() - allocatedBefore);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.commandWord = command.getCommandWord();
+            event.resultSize = result.getRelevantPersons().map(List::size).orElse(-1);
+            event.isMutating = command.isMutating();
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Limits a listing of persons in the result to the page to show, if listings are paged.
+     * A new listing starts at its first page; the next and previous page commands move from the page last shown.
+     */
+    private CommandResult selectPage(CommandResult result) {
+        final int pageSize = options.getPageSize();
+        final Optional<List<? extends ReadOnlyPerson>> personList = result.getRelevantPersons();
+        if (pageSize == 0 || !personList.isPresent()) {
+            return result;
+        }
+        final int size = personList.get().size();
+        final long lastPageStart = size == 0 ? 0 : (size - 1) / pageSize * (long) pageSize;
+        final long requestedPageStart = result.getPagesToTurn() == 0 ? 0
+                : lastShownPageStart + (long) result.getPagesToTurn() * pageSize;
+        final int pageStart = (int) Math.max(0, Math.min(requestedPageStart, lastPageStart));
+        return result.showingOnly(pageStart, (int) Math.min((long) pageStart + pageSize, size));
+    }
+
     /**
      * Creates the StorageFile object based on the user specified path (if any) or the default storage path.
-     * @param launchArgs arguments supplied by the user at program launch
+     * @param options options supplied by the user at program launch
      * @throws InvalidStorageFilePathException if the target file path is incorrect.
      */
-    private StorageFile initializeStorage(String[] launchArgs) throws InvalidStorageFilePathException {
-        boolean isStorageFileSpecifiedByUser = launchArgs.length > 0;
-        return isStorageFileSpecifiedByUser ? new StorageFile(launchArgs[0]) : new StorageFile();
+    private StorageFile initializeStorage(LaunchOptions options) throws InvalidStorageFilePathException {
+        boolean isStorageFileSpecifiedByUser = options.getStorageFilePath().isPresent();
+        return isStorageFileSpecifiedByUser ? new StorageFile(options.getStorageFilePath().get()) : new StorageFile();
     }
 
 
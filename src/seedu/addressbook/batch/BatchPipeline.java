@@ -0,0 +1,215 @@
+package seedu.addressbook.batch;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.parser.Parser;
+import seedu.addressbook.ui.LineReader;
+import seedu.addressbook.ui.TextUi;
+
+/**
+ * Runs a script of commands through three pipelined stages:
+ * parsing and result formatting run on a pool of worker threads, while commands are executed one at a time,
+ * strictly in input order, on a single executor thread. The stages are connected by bounded queues that hold
+ * the pending work in input order, so the output is identical to running the commands one after another.
+ * The executor thread copies the persons each result shows before handing it to a worker, as the commands
+ * it executes next may change the list the result was made from while the worker formats it.
+ */
+public class BatchPipeline {
+
+    /** Default number of commands that may be waiting between two stages. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    /** Marks the end of the formatted output. */
+    private static final Future<String> END_OF_OUTPUT = CompletableFuture.completedFuture(null);
+
+    private final Parser parser;
+    private final Function<Command, CommandResult> executor;
+    private final TextUi ui;
+    private final int workerThreads;
+    private final int queueCapacity;
+
+    /** Set once the executor stage has run an exit command or failed, telling the other stages to stop early. */
+    private volatile boolean isStopped;
+
+    /**
+     * Uses one worker thread per spare processor and the {@link #DEFAULT_QUEUE_CAPACITY}.
+     */
+    public BatchPipeline(Parser parser, Function<Command, CommandResult> executor, TextUi ui) {
+        this(parser, executor, ui, Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param parser used concurrently by the worker threads, so it must not hold per-command state
+     * @param executor executes a parsed command; always called from the same thread, in input order
+     * @param ui formats the prompt, command echo and results; its formatting methods are called concurrently
+     * @param workerThreads number of threads that parse commands and format results
+     * @param queueCapacity number of commands that may be waiting between two stages
+     */
+    public BatchPipeline(Parser parser, Function<Command, CommandResult> executor, TextUi ui,
+                         int workerThreads, int queueCapacity) {
+        if (workerThreads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Worker threads and queue capacity must be positive");
+        }
+        this.parser = parser;
+        this.executor = executor;
+        this.ui = ui;
+        this.workerThreads = workerThreads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Reads commands from {@code in} until the input ends or an exit command has been executed,
+     * and writes the formatted output of every command to {@code out}.
+     * Lines are split, and empty and comment lines skipped, as in interactive use.
+     *
+     * @throws IOException if reading the input fails.
+     * @throws RuntimeException wrapping the first failure of a parse, execute or format step.
+     */
+    public void run(LineReader in, PrintStream out) throws IOException {
+        final BlockingQueue<PendingCommand> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        final BlockingQueue<Future<String>> rendered = new ArrayBlockingQueue<>(queueCapacity);
+        final ExecutorService workers = Executors.newFixedThreadPool(workerThreads);
+        final ExecutorService stages = Executors.newFixedThreadPool(2);
+        isStopped = false;
+        try {
+            final Future<?> executeStage = stages.submit(() -> executeInOrder(parsed, rendered, workers));
+            final Future<?> writeStage = stages.submit(() -> writeInOrder(rendered, out));
+            readAndParse(in, parsed, workers);
+            await(executeStage);
+            await(writeStage);
+        } finally {
+            isStopped = true;
+            stages.shutdownNow();
+            workers.shutdownNow();
+            out.flush();
+        }
+    }
+
+    /**
+     * Reader stage, run on the calling thread: hands every command line to a worker for parsing
+     * and queues the pending parse result in input order.
+     */
+    private void readAndParse(LineReader in, BlockingQueue<PendingCommand> parsed, ExecutorService workers)
+            throws IOException {
+        String line;
+        while (!isStopped && (line = in.readLine()) != null) {
+            if (TextUi.shouldIgnore(line)) {
+                continue;
+            }
+            final String commandText = line;
+            final Future<Command> command = workers.submit(() -> parser.parseCommand(commandText));
+            putUnlessStopped(parsed, new PendingCommand(commandText, command));
+        }
+        putUnlessStopped(parsed, PendingCommand.END_OF_INPUT);
+    }
+
+    /**
+     * Executor stage: executes the parsed commands strictly in input order and queues
+     * the formatting of each result, also in input order.
+     */
+    private Void executeInOrder(BlockingQueue<PendingCommand> parsed, BlockingQueue<Future<String>> rendered,
+                                ExecutorService workers) throws Exception {
+        try {
+            PendingCommand pending;
+            while ((pending = takeUnlessStopped(parsed)) != null && pending != PendingCommand.END_OF_INPUT) {
+                final Command command = pending.command.get();
+                final CommandResult result = executor.apply(command).withShownPersonsCopied();
+                final String commandText = pending.commandText;
+                putUnlessStopped(rendered,
+                        workers.submit(() -> ui.formatCommandEntered(commandText) + ui.formatResult(result)));
+                if (ExitCommand.isExit(command)) {
+                    break;
+                }
+            }
+            putUnlessStopped(rendered, END_OF_OUTPUT);
+        } finally {
+            isStopped = true;
+        }
+        return null;
+    }
+
+    /**
+     * Writer stage: prints the formatted output of each command in input order.
+     */
+    private Void writeInOrder(BlockingQueue<Future<String>> rendered, PrintStream out) throws Exception {
+        try {
+            Future<String> output;
+            while ((output = takeUnlessStopped(rendered)) != null && output != END_OF_OUTPUT) {
+                out.print(output.get());
+            }
+        } catch (Exception e) {
+            isStopped = true;
+            throw e;
+        }
+        return null;
+    }
+
+    /**
+     * Blocks until an item is available, returning null if the pipeline is stopped and no item is left.
+     */
+    private <T> T takeUnlessStopped(BlockingQueue<T> queue) throws InterruptedException {
+        T item;
+        while ((item = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+            if (isStopped && queue.isEmpty()) {
+                return null;
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Blocks until {@code item} could be queued, giving up if the pipeline is stopped in the meantime.
+     */
+    private <T> void putUnlessStopped(BlockingQueue<T> queue, T item) {
+        try {
+            while (!isStopped && !queue.offer(item, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // keep waiting for the executor stage to catch up
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ie);
+        }
+    }
+
+    private static void await(Future<?> stage) {
+        try {
+            stage.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ie);
+        } catch (ExecutionException ee) {
+            throw new RuntimeException(ee.getCause());
+        }
+    }
+
+    /**
+     * A command line whose parsing may still be in progress.
+     */
+    private static class PendingCommand {
+        static final PendingCommand END_OF_INPUT = new PendingCommand(null, null);
+
+        final String commandText;
+        final Future<Command> command;
+
+        PendingCommand(String commandText, Future<Command> command) {
+            this.commandText = commandText;
+            this.command = command;
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class AddCommand extends Command {
         this.toAdd = new Person(
                 new Name(name),
                 new Phone(phone, isPhonePrivate),
-                new Email(email, isEmailPrivate),
+                new Email(email, isEmailPrivate).intern(),
                 new Address(address, isAddressPrivate),
                 tagSet
         );
@@ -62,6 +62,16 @@ public class AddCommand extends Command {
         return toAdd;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute() {
         try {
@@ -12,6 +12,10 @@ import static seedu.addressbook.ui.TextUi.DISPLAYED_INDEX_OFFSET;
  * Represents an executable command.
  */
 public class Command {
+
+    /** The command word of commands that are not entered with a command word of their own. */
+    public static final String NO_COMMAND_WORD = "(none)";
+
     protected AddressBook addressBook;
     protected List<? extends ReadOnlyPerson> relevantPersons;
     private int targetIndex = -1;
@@ -43,6 +47,28 @@ public class Command {
         throw new UnsupportedOperationException("This method is to be implemented by child classes");
     };
 
+    /**
+     * Returns true if executing this command may change the address book.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
+    /**
+     * Returns true if this command reads or changes the address book, so that it cannot be executed while the
+     * address book is still loading.
+     */
+    public boolean needsAddressBook() {
+        return true;
+    }
+
+    /**
+     * Returns the word that the user enters to give this command.
+     */
+    public String getCommandWord() {
+        return NO_COMMAND_WORD;
+    }
+
     /**
      * Supplies the data the command will operate on.
      */
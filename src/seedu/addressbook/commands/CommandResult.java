@@ -1,7 +1,10 @@
 package seedu.addressbook.commands;
 
+import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,17 +16,95 @@ public class CommandResult {
     /** The feedback message to be shown to the user. Contains a description of the execution result */
     public final String feedbackToUser;
 
-    /** The list of persons that was produced by the command */
+    /**
+     * The list of persons that was produced by the command.
+     * May be a snapshot shared with the address book, so it is only ever read, one person at a time.
+     */
     private final List<? extends ReadOnlyPerson> relevantPersons;
 
+    /**
+     * Number of pages to move forward (or backward, if negative) from the page of the last listing shown,
+     * or 0 if the persons are a new listing.
+     */
+    private final int pagesToTurn;
+
+    /** Range of {@link #relevantPersons} to show, or -1 to show all of them. */
+    private final int shownFromIndex;
+    private final int shownToIndex;
+
     public CommandResult(String feedbackToUser) {
-        this.feedbackToUser = feedbackToUser;
-        relevantPersons = null;
+        this(feedbackToUser, null);
     }
 
     public CommandResult(String feedbackToUser, List<? extends ReadOnlyPerson> relevantPersons) {
+        this(feedbackToUser, relevantPersons, 0);
+    }
+
+    /**
+     * Constructs a result that shows another page of the last listing of persons.
+     *
+     * @param relevantPersons the last listing shown
+     * @param pagesToTurn number of pages to move forward, or backward if negative
+     */
+    public CommandResult(String feedbackToUser, List<? extends ReadOnlyPerson> relevantPersons, int pagesToTurn) {
+        this(feedbackToUser, relevantPersons, pagesToTurn, -1, -1);
+    }
+
+    private CommandResult(String feedbackToUser, List<? extends ReadOnlyPerson> relevantPersons, int pagesToTurn,
+            int shownFromIndex, int shownToIndex) {
         this.feedbackToUser = feedbackToUser;
         this.relevantPersons = relevantPersons;
+        this.pagesToTurn = pagesToTurn;
+        this.shownFromIndex = shownFromIndex;
+        this.shownToIndex = shownToIndex;
+    }
+
+    /**
+     * Returns a copy of this result that shows only the persons from {@code fromIndex}, inclusive,
+     * to {@code toIndex}, exclusive. The whole list remains the relevant persons.
+     */
+    public CommandResult showingOnly(int fromIndex, int toIndex) {
+        if (relevantPersons == null || fromIndex < 0 || toIndex > relevantPersons.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range of persons to show: " + fromIndex + "-" + toIndex);
+        }
+        return new CommandResult(feedbackToUser, relevantPersons, pagesToTurn, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a copy of this result holding copies of the persons it shows, so that it can be formatted on
+     * another thread while later commands change the persons it was made from.
+     * Only the shown persons can be read from the list of relevant persons of the copy.
+     */
+    public CommandResult withShownPersonsCopied() {
+        if (relevantPersons == null) {
+            return this;
+        }
+        final int fromIndex = getShownFromIndex();
+        final int toIndex = getShownToIndex();
+        final List<Person> shown = new ArrayList<>(toIndex - fromIndex);
+        for (ReadOnlyPerson person : relevantPersons.subList(fromIndex, toIndex)) {
+            shown.add(new Person(person));
+        }
+        return new CommandResult(feedbackToUser, new ShownPersons(shown, fromIndex, relevantPersons.size()),
+                pagesToTurn, shownFromIndex, shownToIndex);
+    }
+
+    public int getPagesToTurn() {
+        return pagesToTurn;
+    }
+
+    /**
+     * Returns the index in the relevant persons of the first person to show.
+     */
+    public int getShownFromIndex() {
+        return shownFromIndex < 0 ? 0 : shownFromIndex;
+    }
+
+    /**
+     * Returns the index in the relevant persons after the last person to show.
+     */
+    public int getShownToIndex() {
+        return shownToIndex < 0 && relevantPersons != null ? relevantPersons.size() : Math.max(shownToIndex, 0);
     }
 
     /**
@@ -33,4 +114,31 @@ public class CommandResult {
         return Optional.ofNullable(relevantPersons);
     }
 
+    /**
+     * A list of the size of a listing that only holds the persons of the range of it that is shown.
+     */
+    private static class ShownPersons extends AbstractList<ReadOnlyPerson> {
+        private final List<Person> shown;
+        private final int fromIndex;
+        private final int size;
+
+        ShownPersons(List<Person> shown, int fromIndex, int size) {
+            this.shown = shown;
+            this.fromIndex = fromIndex;
+            this.size = size;
+        }
+
+        @Override
+        public ReadOnlyPerson get(int index) {
+            if (index < fromIndex || index >= fromIndex + shown.size()) {
+                throw new IndexOutOfBoundsException("Person not shown: " + index);
+            }
+            return shown.get(index - fromIndex);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
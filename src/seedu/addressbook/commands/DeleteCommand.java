@@ -25,6 +25,16 @@ public class DeleteCommand extends Command {
     }
 
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute() {
         try {
@@ -1,11 +1,11 @@
 package seedu.addressbook.commands;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import seedu.addressbook.data.person.ParallelPersonScanner;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
@@ -21,6 +21,8 @@ public class FindCommand extends Command {
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
+    private static final ParallelPersonScanner SCANNER = new ParallelPersonScanner();
+
     private final Set<String> keywords;
 
     public FindCommand(Set<String> keywords) {
@@ -34,6 +36,11 @@ public class FindCommand extends Command {
         return new HashSet<>(keywords);
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute() {
         final List<ReadOnlyPerson> personsFound = getPersonsWithNameContainingAnyKeyword(keywords);
@@ -47,14 +54,10 @@ public class FindCommand extends Command {
      * @return list of persons found
      */
     private List<ReadOnlyPerson> getPersonsWithNameContainingAnyKeyword(Set<String> keywords) {
-        final List<ReadOnlyPerson> matchedPersons = new ArrayList<>();
-        for (ReadOnlyPerson person : addressBook.getAllPersons()) {
+        return SCANNER.filter(addressBook.getAllPersonsSnapshot(), person -> {
             final Set<String> wordsInName = new HashSet<>(person.getName().getWordsInName());
-            if (!Collections.disjoint(wordsInName, keywords)) {
-                matchedPersons.add(person);
-            }
-        }
-        return matchedPersons;
+            return !Collections.disjoint(wordsInName, keywords);
+        });
     }
 
 }
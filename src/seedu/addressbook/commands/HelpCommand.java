@@ -11,6 +11,16 @@ public class HelpCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions.\n"
             + "Example: " + COMMAND_WORD;
 
+    @Override
+    public boolean needsAddressBook() {
+        return false;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute() {
         return new CommandResult(
@@ -19,8 +29,13 @@ public class HelpCommand extends Command {
                 + "\n" + ClearCommand.MESSAGE_USAGE
                 + "\n" + FindCommand.MESSAGE_USAGE
                 + "\n" + ListCommand.MESSAGE_USAGE
+                + "\n" + NextPageCommand.MESSAGE_USAGE
+                + "\n" + PreviousPageCommand.MESSAGE_USAGE
                 + "\n" + ViewCommand.MESSAGE_USAGE
                 + "\n" + ViewAllCommand.MESSAGE_USAGE
+                + "\n" + StatsCommand.MESSAGE_USAGE
+                + "\n" + MemStatsCommand.MESSAGE_USAGE
+                + "\n" + UseCommand.MESSAGE_USAGE
                 + "\n" + HelpCommand.MESSAGE_USAGE
                 + "\n" + ExitCommand.MESSAGE_USAGE
         );
@@ -17,9 +17,14 @@ public class ListCommand extends Command {
             + "Example: " + COMMAND_WORD;
 
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute() {
-        List<ReadOnlyPerson> allPersons = addressBook.getAllPersons().immutableListView();
+        List<ReadOnlyPerson> allPersons = addressBook.getAllPersonsSnapshot();
         return new CommandResult(getMessageForPersonListShownSummary(allPersons), allPersons);
     }
 }
@@ -0,0 +1,69 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.metrics.MemoryEstimate;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.metrics.MemoryEstimator;
+
+/**
+ * Shows an estimate of the heap retained by the address book, by structure from the largest,
+ * and projects it to an address book of a given number of persons.
+ */
+public class MemStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "memstats";
+
+    /** The number of persons to project the heap to if none is given, to plan for large address books. */
+    public static final int DEFAULT_PROJECTED_PERSONS = 10_000_000;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows an estimate of the memory taken by the address book, by structure, and per person, "
+            + "and projects it to the given number of persons (" + DEFAULT_PROJECTED_PERSONS + " if not given).\n"
+            + "Parameters: [PERSONS]\n"
+            + "Example: " + COMMAND_WORD + " 1000000";
+
+    public static final String MESSAGE_SUMMARY = "Estimated memory taken by %1$d persons: %2$.1f MB, "
+            + "%3$.0f bytes per person";
+    public static final String MESSAGE_PROJECTION = "Projected for %1$d persons: %2$.1f MB";
+    public static final String MESSAGE_NO_PERSONS = "The address book has no persons to estimate the memory of.";
+
+    private static final String HEADER_FORMAT = "%-16s %14s %11s %7s";
+    private static final String ROW_FORMAT = "%-16s %14d %11.1f %6.1f%%";
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private static final MemoryEstimator ESTIMATOR = new MemoryEstimator();
+
+    private final long projectedPersons;
+
+    public MemStatsCommand(long projectedPersons) {
+        this.projectedPersons = projectedPersons;
+    }
+
+    public long getProjectedPersons() {
+        return projectedPersons;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final MemoryEstimate estimate = ESTIMATOR.estimate(addressBook, relevantPersons);
+        if (estimate.getPersons() == 0) {
+            return new CommandResult(MESSAGE_NO_PERSONS);
+        }
+        final long totalBytes = estimate.getTotalBytes();
+        final StringBuilder stats = new StringBuilder(String.format(MESSAGE_SUMMARY, estimate.getPersons(),
+                totalBytes / BYTES_PER_MEGABYTE, estimate.getBytesPerPerson()));
+        stats.append('\n').append(String.format(HEADER_FORMAT, "structure", "bytes", "per person", "share"));
+        for (Structure structure : estimate.getTopContributors()) {
+            final long bytes = estimate.getBytes(structure);
+            stats.append('\n').append(String.format(ROW_FORMAT, structure.getName(), bytes,
+                    (double) bytes / estimate.getPersons(), 100.0 * bytes / totalBytes));
+        }
+        stats.append('\n').append(String.format(MESSAGE_PROJECTION, projectedPersons,
+                estimate.projectTotalBytes(projectedPersons) / BYTES_PER_MEGABYTE));
+        return new CommandResult(stats.toString());
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.addressbook.commands;
+
+/**
+ * Shows the previous page of the last listing of persons.
+ */
+public class PreviousPageCommand extends Command {
+
+    public static final String COMMAND_WORD = "prev";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the previous page of the last person listing, when it is too long to show at once.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute() {
+        return new CommandResult(getMessageForPersonListShownSummary(relevantPersons), relevantPersons, -1);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.addressbook.commands;
+
+import java.util.Map;
+
+import seedu.addressbook.metrics.ValueHistogram;
+import seedu.addressbook.metrics.ValueRecorder;
+
+/**
+ * Shows how long each kind of command, and saving and loading the address book, have taken so far,
+ * or how much memory each kind of command has allocated, or forgets these.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String ALLOCATIONS_ARGUMENT = "allocations";
+    public static final String RESET_ARGUMENT = "reset";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the count, mean, percentiles and maximum of the time taken by each command word, "
+            + "and by saving and loading the address book, in milliseconds.\n"
+            + "With \"" + ALLOCATIONS_ARGUMENT + "\", shows the memory allocated by each command word "
+            + "in kilobytes instead. With \"" + RESET_ARGUMENT + "\", forgets the times and memory so far.\n"
+            + "Parameters: [" + ALLOCATIONS_ARGUMENT + " | " + RESET_ARGUMENT + "]\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_STATS = "No commands have been measured yet.";
+    public static final String MESSAGE_RESET = "Forgot the times taken and memory allocated so far.";
+
+    private static final String HEADER_FORMAT = "%-10s %8s %10s %10s %10s %10s %10s %10s";
+    private static final String ROW_FORMAT = "%-10s %8d %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f";
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double BYTES_PER_KILOBYTE = 1024;
+
+    /**
+     * What the command shows or does.
+     */
+    public enum Mode {
+        LATENCIES, ALLOCATIONS, RESET
+    }
+
+    private final Mode mode;
+
+    public StatsCommand(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public CommandResult execute() {
+        switch (mode) {
+        case RESET:
+            ValueRecorder.COMMANDS.reset();
+            ValueRecorder.STORAGE.reset();
+            ValueRecorder.ALLOCATIONS.reset();
+            return new CommandResult(MESSAGE_RESET);
+        case ALLOCATIONS:
+            return showStats(BYTES_PER_KILOBYTE, ValueRecorder.ALLOCATIONS.getHistograms());
+        default:
+            return showStats(NANOS_PER_MILLI, ValueRecorder.COMMANDS.getHistograms(),
+                    ValueRecorder.STORAGE.getHistograms());
+        }
+    }
+
+    /**
+     * Shows a row for each histogram, with amounts divided by {@code unit}.
+     */
+    @SafeVarargs
+    private static CommandResult showStats(double unit, Map<String, ValueHistogram>... histogramGroups) {
+        final StringBuilder stats = new StringBuilder(String.format(HEADER_FORMAT,
+                "command", "count", "total", "mean", "p50", "p90", "p99", "max"));
+        boolean hasRows = false;
+        for (Map<String, ValueHistogram> histograms : histogramGroups) {
+            for (Map.Entry<String, ValueHistogram> entry : histograms.entrySet()) {
+                final ValueHistogram histogram = entry.getValue();
+                stats.append('\n').append(String.format(ROW_FORMAT, entry.getKey(), histogram.getCount(),
+                        histogram.getTotal() / unit, histogram.getMean() / unit, histogram.getPercentile(50) / unit,
+                        histogram.getPercentile(90) / unit, histogram.getPercentile(99) / unit,
+                        histogram.getMax() / unit));
+                hasRows = true;
+            }
+        }
+        return new CommandResult(hasRows ? stats.toString() : MESSAGE_NO_STATS);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.addressbook.commands;
+
+import java.util.Optional;
+
+/**
+ * Switches to the address book with the given name, when several are kept in a directory,
+ * or shows which address book is in use.
+ * The switch itself is made by the application, which knows where the address books are kept.
+ */
+public class UseCommand extends Command {
+
+    public static final String COMMAND_WORD = "use";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Switches to the address book with the given name, creating it if it does not exist yet, "
+            + "when the program was launched with --books=DIRECTORY. "
+            + "Without a name, shows the address book in use and how well the open books are cached.\n"
+            + "Parameters: [NAME]\n"
+            + "Example: " + COMMAND_WORD + " work";
+
+    public static final String MESSAGE_USING_BOOK = "Using address book: %1$s";
+    public static final String MESSAGE_CURRENT_BOOK = "Using address book: %1$s\nOpen address books: %2$s";
+    public static final String MESSAGE_SINGLE_BOOK =
+            "Only one address book is open; launch with --books=DIRECTORY to use several";
+
+    private final String bookName;
+
+    /**
+     * @param bookName the address book to switch to, or null to show the address book in use
+     */
+    public UseCommand(String bookName) {
+        this.bookName = bookName;
+    }
+
+    /**
+     * Returns the address book to switch to, if one was given.
+     */
+    public Optional<String> getBookName() {
+        return Optional.ofNullable(bookName);
+    }
+
+    @Override
+    public boolean needsAddressBook() {
+        return false;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    /**
+     * Returns the result of the command when only one address book is open, as it then has nothing to switch to.
+     */
+    @Override
+    public CommandResult execute() {
+        return new CommandResult(MESSAGE_SINGLE_BOOK);
+    }
+}
@@ -25,6 +25,11 @@ public class ViewAllCommand extends Command {
     }
 
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
     @Override
     public CommandResult execute() {
         try {
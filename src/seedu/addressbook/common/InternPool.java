@@ -0,0 +1,41 @@
+package seedu.addressbook.common;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one instance among equal immutable values, as {@link String#intern} does for strings,
+ * so that many equal values take the memory of one.
+ * Instances are held weakly: once no one else uses an instance, it can be garbage collected,
+ * and an equal value interned later becomes the shared instance in its place.
+ * Thread-safe.
+ *
+ * @param <T> an immutable type whose equal values can be used in place of each other
+ */
+public class InternPool<T> {
+
+    /** Each shared instance, referred to weakly both as key and as value so that it can be collected. */
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the shared instance equal to {@code value}, making {@code value} the shared instance if there is none.
+     */
+    public synchronized T intern(T value) {
+        final WeakReference<T> reference = instances.get(value);
+        final T shared = reference == null ? null : reference.get();
+        if (shared != null) {
+            return shared;
+        }
+        instances.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of shared instances, including any that are no longer used
+     * but have not been collected yet.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
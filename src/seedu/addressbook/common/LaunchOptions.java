@@ -0,0 +1,339 @@
+package seedu.addressbook.common;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+/**
+ * Options supplied by the user at program launch.
+ * Options start with {@code --} and those that take a value are given as {@code --option=value};
+ * the first argument that is not an option is the storage file path.
+ */
+public class LaunchOptions {
+
+    /** Runs the commands read from standard input through the pipelined batch engine. */
+    public static final String OPTION_BATCH = "--batch";
+
+    /** Serves the changes made to the address book to read-only followers on the given local port. */
+    public static final String OPTION_PRIMARY_PORT = "--primary-port";
+
+    /** Runs as a read-only follower of the primary serving on the given local port. */
+    public static final String OPTION_FOLLOW = "--follow";
+
+    /** Shows long person listings a page of the given number of persons at a time; 0 shows them whole. */
+    public static final String OPTION_PAGE_SIZE = "--page-size";
+
+    /** Chooses how output is written: {@value #OUTPUT_TEXT} for people, or {@value #OUTPUT_JSON} for programs. */
+    public static final String OPTION_OUTPUT = "--output";
+    public static final String OUTPUT_TEXT = "text";
+    public static final String OUTPUT_JSON = "json";
+
+    /** Writes commands, saves and loads that take longer than the slow operation threshold to the given file. */
+    public static final String OPTION_SLOW_LOG = "--slow-log";
+
+    /** Sets the number of milliseconds beyond which operations are written to the slow operation log. */
+    public static final String OPTION_SLOW_LOG_THRESHOLD = "--slow-log-threshold";
+    public static final int DEFAULT_SLOW_LOG_THRESHOLD_MILLIS = 100;
+
+    /**
+     * Chooses how persons are kept in memory: {@value #STORE_LIST} as objects, {@value #STORE_COLUMNAR}
+     * as columns of their details, which takes far less memory but makes reading persons slower,
+     * {@value #STORE_MAPPED} in the storage file mapped into memory, which takes almost no heap,
+     * or {@value #STORE_LAZY} as objects decoded from the storage file only when first read.
+     */
+    public static final String OPTION_STORE = "--store";
+    public static final String STORE_LIST = "list";
+    public static final String STORE_COLUMNAR = "columnar";
+    public static final String STORE_MAPPED = "mapped";
+    public static final String STORE_LAZY = "lazy";
+
+    /** Loads the address book in the background, accepting commands while it loads. */
+    public static final String OPTION_PROGRESSIVE = "--progressive";
+
+    /** Keeps several address books, one file per book, in the given directory, switching between them by name. */
+    public static final String OPTION_BOOKS = "--books";
+
+    /** Sets the most address books kept in memory at once with {@code --books}. */
+    public static final String OPTION_MAX_BOOKS = "--max-books";
+    public static final int DEFAULT_MAX_BOOKS = 16;
+
+    /** Sets the most memory, in megabytes, that the address books kept in memory with {@code --books} may take. */
+    public static final String OPTION_MAX_BOOKS_MB = "--max-books-mb";
+    public static final int DEFAULT_MAX_BOOKS_MB = 512;
+
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown launch option: %1$s";
+    public static final String MESSAGE_EXTRA_ARGUMENT = "Unexpected launch argument: %1$s";
+    public static final String MESSAGE_INVALID_OPTION_VALUE = "Invalid value for launch option: %1$s";
+    public static final String MESSAGE_CONFLICTING_OPTIONS = "Launch options %1$s and %2$s cannot be used together";
+
+    private static final String OPTION_PREFIX = "--";
+    private static final char OPTION_VALUE_SEPARATOR = '=';
+    private static final int MAX_PORT = 65535;
+
+    private String storageFilePath;
+    private boolean isBatchMode;
+    private boolean isProgressiveStartup;
+    private Integer primaryPort;
+    private Integer followedPort;
+    private int pageSize;
+    private boolean isJsonOutput;
+    private String store = STORE_LIST;
+    private String slowLogPath;
+    private int slowLogThresholdMillis = DEFAULT_SLOW_LOG_THRESHOLD_MILLIS;
+    private String booksDirectory;
+    private int maxBooks = DEFAULT_MAX_BOOKS;
+    private int maxBooksMegabytes = DEFAULT_MAX_BOOKS_MB;
+
+    private LaunchOptions() {
+    }
+
+    /**
+     * Parses the given launch arguments.
+     *
+     * @throws IllegalValueException if an option is not recognised or more than one file path is given.
+     */
+    public static LaunchOptions parse(String... launchArgs) throws IllegalValueException {
+        final LaunchOptions options = new LaunchOptions();
+        for (String arg : launchArgs) {
+            if (!arg.startsWith(OPTION_PREFIX)) {
+                options.setStorageFilePath(arg);
+                continue;
+            }
+            final int valueSeparator = arg.indexOf(OPTION_VALUE_SEPARATOR);
+            final String option = valueSeparator == -1 ? arg : arg.substring(0, valueSeparator);
+            final String value = valueSeparator == -1 ? null : arg.substring(valueSeparator + 1);
+            switch (option) {
+            case OPTION_BATCH:
+                requireNoValue(arg, value);
+                options.isBatchMode = true;
+                break;
+            case OPTION_PROGRESSIVE:
+                requireNoValue(arg, value);
+                options.isProgressiveStartup = true;
+                break;
+            case OPTION_PRIMARY_PORT:
+                options.primaryPort = parsePort(arg, value);
+                break;
+            case OPTION_FOLLOW:
+                options.followedPort = parsePort(arg, value);
+                break;
+            case OPTION_OUTPUT:
+                options.isJsonOutput = parseOutputFormat(arg, value);
+                break;
+            case OPTION_STORE:
+                options.store = parseStore(arg, value);
+                break;
+            case OPTION_PAGE_SIZE:
+                options.pageSize = parseInt(arg, value, 0, Integer.MAX_VALUE);
+                break;
+            case OPTION_SLOW_LOG:
+                options.slowLogPath = requireValue(arg, value);
+                break;
+            case OPTION_SLOW_LOG_THRESHOLD:
+                options.slowLogThresholdMillis = parseInt(arg, value, 0, Integer.MAX_VALUE);
+                break;
+            case OPTION_BOOKS:
+                options.booksDirectory = requireValue(arg, value);
+                break;
+            case OPTION_MAX_BOOKS:
+                options.maxBooks = parseInt(arg, value, 1, Integer.MAX_VALUE);
+                break;
+            case OPTION_MAX_BOOKS_MB:
+                options.maxBooksMegabytes = parseInt(arg, value, 1, Integer.MAX_VALUE);
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPTION, arg));
+            }
+        }
+        if (options.primaryPort != null && options.followedPort != null) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_CONFLICTING_OPTIONS, OPTION_PRIMARY_PORT, OPTION_FOLLOW));
+        }
+        // a follower's persons come from its primary, so it has no storage file to map
+        if (options.followedPort != null && STORE_MAPPED.equals(options.store)) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_OPTIONS,
+                    OPTION_STORE + OPTION_VALUE_SEPARATOR + STORE_MAPPED, OPTION_FOLLOW));
+        }
+        // followers must start from the whole address book, and a follower loads none
+        if (options.isProgressiveStartup && options.primaryPort != null) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_CONFLICTING_OPTIONS, OPTION_PROGRESSIVE, OPTION_PRIMARY_PORT));
+        }
+        if (options.isProgressiveStartup && options.followedPort != null) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_CONFLICTING_OPTIONS, OPTION_PROGRESSIVE, OPTION_FOLLOW));
+        }
+        if (options.booksDirectory != null) {
+            options.checkCompatibleWithBooks();
+        }
+        return options;
+    }
+
+    /**
+     * Checks that no option conflicts with keeping several address books.
+     * Each book is loaded into and saved from a list of persons on its own, so the options that
+     * load a single book differently, or replicate it, cannot be used with them.
+     */
+    private void checkCompatibleWithBooks() throws IllegalValueException {
+        if (storageFilePath != null) {
+            throw new IllegalValueException(String.format(MESSAGE_EXTRA_ARGUMENT, storageFilePath));
+        }
+        final String conflictingOption;
+        if (!STORE_LIST.equals(store)) {
+            conflictingOption = OPTION_STORE + OPTION_VALUE_SEPARATOR + store;
+        } else if (isProgressiveStartup) {
+            conflictingOption = OPTION_PROGRESSIVE;
+        } else if (primaryPort != null) {
+            conflictingOption = OPTION_PRIMARY_PORT;
+        } else if (followedPort != null) {
+            conflictingOption = OPTION_FOLLOW;
+        } else {
+            return;
+        }
+        throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_OPTIONS, OPTION_BOOKS, conflictingOption));
+    }
+
+    private static void requireNoValue(String arg, String value) throws IllegalValueException {
+        if (value != null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPTION_VALUE, arg));
+        }
+    }
+
+    private static String requireValue(String arg, String value) throws IllegalValueException {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPTION_VALUE, arg));
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if the output format is JSON, or false if it is text.
+     */
+    private static boolean parseOutputFormat(String arg, String value) throws IllegalValueException {
+        if (OUTPUT_JSON.equals(value)) {
+            return true;
+        }
+        if (OUTPUT_TEXT.equals(value)) {
+            return false;
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_OPTION_VALUE, arg));
+    }
+
+    private static String parseStore(String arg, String value) throws IllegalValueException {
+        if (STORE_LIST.equals(value) || STORE_COLUMNAR.equals(value) || STORE_MAPPED.equals(value)
+                || STORE_LAZY.equals(value)) {
+            return value;
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_OPTION_VALUE, arg));
+    }
+
+    private static int parsePort(String arg, String value) throws IllegalValueException {
+        return parseInt(arg, value, 0, MAX_PORT);
+    }
+
+    private static int parseInt(String arg, String value, int min, int max) throws IllegalValueException {
+        try {
+            final int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_OPTION_VALUE, arg));
+            }
+            return parsed;
+        } catch (NumberFormatException nfe) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPTION_VALUE, arg));
+        }
+    }
+
+    private void setStorageFilePath(String path) throws IllegalValueException {
+        if (storageFilePath != null) {
+            throw new IllegalValueException(String.format(MESSAGE_EXTRA_ARGUMENT, path));
+        }
+        storageFilePath = path;
+    }
+
+    /**
+     * Returns the storage file path given by the user, if any.
+     */
+    public Optional<String> getStorageFilePath() {
+        return Optional.ofNullable(storageFilePath);
+    }
+
+    public boolean isBatchMode() {
+        return isBatchMode;
+    }
+
+    public boolean isProgressiveStartup() {
+        return isProgressiveStartup;
+    }
+
+    /**
+     * Returns true if output is to be written as JSON, one line per command result.
+     */
+    public boolean isJsonOutput() {
+        return isJsonOutput;
+    }
+
+    /**
+     * Returns how persons are to be kept: {@link #STORE_LIST}, {@link #STORE_COLUMNAR}, {@link #STORE_MAPPED}
+     * or {@link #STORE_LAZY}.
+     */
+    public String getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the number of persons shown per page of a listing, or 0 if listings are shown whole.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the path of the slow operation log, if operations taking longer than the threshold are to be logged.
+     */
+    public Optional<String> getSlowLogPath() {
+        return Optional.ofNullable(slowLogPath);
+    }
+
+    /**
+     * Returns the number of milliseconds beyond which operations are written to the slow operation log.
+     */
+    public int getSlowLogThresholdMillis() {
+        return slowLogThresholdMillis;
+    }
+
+    /**
+     * Returns the directory keeping the address books, if several are to be used.
+     */
+    public Optional<String> getBooksDirectory() {
+        return Optional.ofNullable(booksDirectory);
+    }
+
+    /**
+     * Returns the most address books kept in memory at once when several are used.
+     */
+    public int getMaxBooks() {
+        return maxBooks;
+    }
+
+    /**
+     * Returns the most memory, in megabytes, that the address books kept in memory may take when several are used.
+     */
+    public int getMaxBooksMegabytes() {
+        return maxBooksMegabytes;
+    }
+
+    /**
+     * Returns the port to serve changes to followers on, if this instance is a replication primary.
+     */
+    public OptionalInt getPrimaryPort() {
+        return primaryPort == null ? OptionalInt.empty() : OptionalInt.of(primaryPort);
+    }
+
+    /**
+     * Returns the port of the primary to follow, if this instance is a read-only follower.
+     */
+    public OptionalInt getFollowedPort() {
+        return followedPort == null ? OptionalInt.empty() : OptionalInt.of(followedPort);
+    }
+}
@@ -15,4 +15,22 @@ public class Messages {
             "java seedu.addressbook.Main [STORAGE_FILE_PATH]";
     public static final String MESSAGE_WELCOME = "Welcome to your Address Book!";
     public static final String MESSAGE_USING_STORAGE_FILE = "Using storage file : %1$s";
+    public static final String MESSAGE_SERVING_FOLLOWERS = "Serving read-only followers on port %1$d";
+    public static final String MESSAGE_FOLLOWING_PRIMARY = "Following the primary on port %1$d (read-only)";
+    public static final String MESSAGE_METRICS_UNAVAILABLE = "Could not expose the metrics through JMX: %1$s";
+    public static final String MESSAGE_SLOW_LOG_UNAVAILABLE = "Could not open the slow operation log: %1$s";
+    public static final String MESSAGE_PRIMARY_UNREACHABLE = "Could not sync with the primary on port %1$d";
+    public static final String MESSAGE_READY = "Ready in %1$d ms with %2$d persons";
+    public static final String MESSAGE_LOADING_IN_BACKGROUND =
+            "Loading the address book in the background; persons added meanwhile are added once it has loaded";
+    public static final String MESSAGE_LOADING_FILE = "Still loading the address book: reading the storage file";
+    public static final String MESSAGE_LOADING_PROGRESS =
+            "Still loading the address book: %1$d of %2$d persons read (%3$d%%)";
+    public static final String MESSAGE_ADD_QUEUED =
+            "The address book is still loading; this person will be added once it has: %1$s";
+    public static final String MESSAGE_QUEUED_PERSON_ADDED = "Queued person added: %1$s";
+    public static final String MESSAGE_QUEUED_PERSON_DUPLICATE =
+            "Queued person not added, as this person already exists in the address book: %1$s";
+    public static final String MESSAGE_READ_ONLY_REPLICA =
+            "This address book is a read-only replica; make changes on the primary instead";
 }
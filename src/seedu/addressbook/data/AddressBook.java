@@ -1,23 +1,45 @@
 package seedu.addressbook.data;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
 import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PersonStore;
 import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.UniquePersonList;
 import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
 import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.tag.Tag;
 
 /**
  * Represents the entire address book. Contains the data of the address book.
+ * All operations are synchronized, so that a book can be read and snapshotted from other threads,
+ * for example while it is being replicated.
  */
 public class AddressBook {
 
-    private final UniquePersonList allPersons;
+    private final PersonStore allPersons;
+
+    /**
+     * The number of persons with each tag, for the tags of at least one person, or null if not counted yet.
+     * Counted when first asked for, so that taking over a store does not read every person in it.
+     */
+    private Map<Tag, Integer> tagCounts;
+
+    /** The number of changes made to this address book since it was created. */
+    private long mutationCount;
+
+    private final List<MutationListener> mutationListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates an empty address book.
      */
     public AddressBook() {
         allPersons = new UniquePersonList();
+        tagCounts = new HashMap<>();
     }
 
     /**
@@ -26,7 +48,23 @@ public class AddressBook {
      * @param persons external changes to this will not affect this address book
      */
     public AddressBook(UniquePersonList persons) {
-        this.allPersons = new UniquePersonList(persons);
+        this((PersonStore) new UniquePersonList(persons));
+    }
+
+    /**
+     * Constructs an address book that keeps its persons in the given store, and takes it over.
+     */
+    public AddressBook(PersonStore store) {
+        this.allPersons = store;
+        tagCounts = store.size() == 0 ? new HashMap<>() : null;
+    }
+
+    /**
+     * Registers a listener that is told about every subsequent change to this address book.
+     * Listeners are called while the address book is locked, in the order of the changes.
+     */
+    public void addMutationListener(MutationListener listener) {
+        mutationListeners.add(listener);
     }
 
     /**
@@ -34,14 +72,19 @@ public class AddressBook {
      *
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
-    public void addPerson(Person toAdd) throws DuplicatePersonException {
+    public synchronized void addPerson(Person toAdd) throws DuplicatePersonException {
         allPersons.add(toAdd);
+        countTags(toAdd, 1);
+        mutationCount++;
+        for (MutationListener listener : mutationListeners) {
+            listener.personAdded(toAdd);
+        }
     }
 
     /**
      * Returns true if an equivalent person exists in the address book.
      */
-    public boolean containsPerson(ReadOnlyPerson key) {
+    public synchronized boolean containsPerson(ReadOnlyPerson key) {
         return allPersons.contains(key);
     }
 
@@ -50,28 +93,146 @@ public class AddressBook {
      *
      * @throws PersonNotFoundException if no such Person could be found.
      */
-    public void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+    public synchronized void removePerson(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         allPersons.remove(toRemove);
+        countTags(toRemove, -1);
+        mutationCount++;
+        for (MutationListener listener : mutationListeners) {
+            listener.personRemoved(toRemove);
+        }
     }
 
     /**
      * Clears all persons and tags from the address book.
      */
-    public void clear() {
+    public synchronized void clear() {
         allPersons.clear();
+        tagCounts = new HashMap<>();
+        mutationCount++;
+        for (MutationListener listener : mutationListeners) {
+            listener.cleared();
+        }
+    }
+
+    /**
+     * Replaces all persons in the address book with the given persons, as a single change.
+     * Listeners are told about it as a clear followed by the additions.
+     *
+     * @param persons external changes to this will not affect this address book
+     */
+    public synchronized void resetData(UniquePersonList persons) {
+        allPersons.setPersons(persons);
+        tagCounts = null;
+        mutationCount++;
+        for (MutationListener listener : mutationListeners) {
+            listener.cleared();
+            for (Person person : persons) {
+                listener.personAdded(person);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons in the address book.
+     */
+    public synchronized int size() {
+        return allPersons.size();
+    }
+
+    /**
+     * Returns the number of different tags that persons in the address book have.
+     */
+    public synchronized int getDistinctTagCount() {
+        if (tagCounts == null) {
+            // only kept once every person has been read, so that a failed read is retried by the next call
+            final Map<Tag, Integer> counted = new HashMap<>();
+            allPersons.forEachPerson(person -> countTags(counted, person, 1));
+            tagCounts = counted;
+        }
+        return tagCounts.size();
+    }
+
+    /**
+     * Returns the number of different tags that persons in the address book have, like
+     * {@link #getDistinctTagCount()}, or -1 if they have not been counted yet and the store is slow to read.
+     */
+    public synchronized int getDistinctTagCountIfCheap() {
+        return tagCounts == null && !allPersons.isCheapToRead() ? -1 : getDistinctTagCount();
+    }
+
+    /**
+     * Returns the number of tags in the count of persons with each tag, without counting them if they have not
+     * been counted yet, in which case it is 0.
+     */
+    public synchronized int getTagIndexSize() {
+        return tagCounts == null ? 0 : tagCounts.size();
+    }
+
+    /**
+     * Returns the number of changes made to the address book since it was created,
+     * counting a {@link #resetData} as one change.
+     */
+    public synchronized long getMutationCount() {
+        return mutationCount;
     }
 
     /**
      * Returns a new UniquePersonList of all persons in the address book at the time of the call.
      */
-    public UniquePersonList getAllPersons() {
-        return new UniquePersonList(allPersons);
+    public synchronized UniquePersonList getAllPersons() {
+        return allPersons.toUniquePersonList();
+    }
+
+    /**
+     * Returns an unmodifiable list of all persons in the address book at the time of the call.
+     * Unlike {@link #getAllPersons()}, this does not copy the persons unless the address book is modified later.
+     */
+    public synchronized List<ReadOnlyPerson> getAllPersonsSnapshot() {
+        return allPersons.immutableSnapshot();
+    }
+
+    /**
+     * Returns what {@code reader} returns for the store of the persons, which it reads while the address book
+     * is locked. Unlike reading a snapshot, this does not make the next change copy the persons.
+     *
+     * @param reader must not change the store, or keep it or the persons read from it after it returns
+     */
+    public synchronized <T> T readPersonStore(Function<? super PersonStore, T> reader) {
+        return reader.apply(allPersons);
+    }
+
+    /**
+     * Adds {@code delta} to the number of persons with each of the {@code person}'s tags, if they are counted.
+     */
+    private void countTags(ReadOnlyPerson person, int delta) {
+        if (tagCounts != null) {
+            countTags(tagCounts, person, delta);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the number of persons with each of the {@code person}'s tags in {@code counts}.
+     */
+    private static void countTags(Map<Tag, Integer> counts, ReadOnlyPerson person, int delta) {
+        for (Tag tag : person.getTags()) {
+            counts.merge(tag, delta, (count, change) -> count + change == 0 ? null : count + change);
+        }
     }
 
     @Override
-    public boolean equals(Object other) {
+    public synchronized boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddressBook // instanceof handles nulls
-                        && this.allPersons.equals(((AddressBook) other).allPersons));
+                        && this.allPersons.immutableListView()
+                                .equals(((AddressBook) other).allPersons.immutableListView()));
+    }
+
+    /**
+     * Receives the changes made to an address book.
+     */
+    public interface MutationListener {
+        void personAdded(ReadOnlyPerson added);
+        void personRemoved(ReadOnlyPerson removed);
+        void cleared();
     }
 }
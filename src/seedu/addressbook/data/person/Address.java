@@ -31,9 +31,20 @@ public class Address {
 
     /**
      * Returns true if a given string is a valid person address.
+     * Accepts exactly what {@link #ADDRESS_VALIDATION_REGEX} matches, without compiling it on every call.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        // '.' matches anything but a line terminator
+        for (int i = 0; i < test.length(); i++) {
+            final char c = test.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,603 @@
+package seedu.addressbook.data.person;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.tag.CompactTagSet;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.tag.TagDictionary;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.metrics.MemoryEstimator;
+
+/**
+ * A {@link PersonStore} that keeps each detail of its persons in a column of its own rather than in objects:
+ * names, phones, emails and addresses as UTF-8 bytes in an array per detail, with an array of where each
+ * person's bytes end; whether each detail is private as packed bits; and tags as their numbers in the
+ * {@link seedu.addressbook.data.tag.TagDictionary#getShared() shared dictionary}.
+ * A person thus takes little more than the characters of its details, rather than the headers and references
+ * of a {@link Person} and the objects of its details, which suits address books of many millions of persons.
+ *
+ * Persons are read through views that decode their details each time they are asked for,
+ * so reading persons is slower than from a {@link UniquePersonList};
+ * copy a view into a {@link Person} to read its details many times.
+ * Views and snapshots stay valid after the store is changed, as the columns are copied before they are changed
+ * if a view or snapshot may be reading them.
+ *
+ * A column is limited to the length of a Java array: adding a person whose details would take a column past
+ * {@value #MAX_ARRAY_LENGTH} bytes, or past as many persons, fails and leaves the store unchanged.
+ */
+public class ColumnarPersonStore implements PersonStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The length of the longest array that JVMs can allocate. */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private Columns columns = new Columns(INITIAL_CAPACITY);
+
+    /**
+     * True if {@link #columns} may be read by a view or snapshot, in which case they must be copied before they
+     * are modified.
+     */
+    private boolean isColumnsShared;
+
+    /**
+     * Constructs an empty store.
+     */
+    public ColumnarPersonStore() {}
+
+    /**
+     * Constructs a store of the given persons.
+     */
+    public ColumnarPersonStore(UniquePersonList persons) {
+        setPersons(persons);
+    }
+
+    @Override
+    public int size() {
+        return columns.size;
+    }
+
+    @Override
+    public boolean contains(ReadOnlyPerson toCheck) {
+        return columns.indexOfSamePerson(toCheck) != -1;
+    }
+
+    @Override
+    public void add(Person toAdd) throws DuplicatePersonException {
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        prepareForModification();
+        columns.add(toAdd);
+    }
+
+    /**
+     * Adds {@code toAppend} after the last person without checking that the store does not have the same person,
+     * which would take a scan of the store per person added; whoever appends persons must make sure of it.
+     * Call {@link #trimToSize()} after appending many persons.
+     *
+     * @throws IllegalStateException if the store is full.
+     */
+    public void append(ReadOnlyPerson toAppend) {
+        prepareForModification();
+        columns.add(toAppend);
+    }
+
+    /**
+     * Shrinks the columns to the persons in them, giving up the room reserved for adding more.
+     */
+    public void trimToSize() {
+        prepareForModification();
+        columns.trimToSize();
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+        final int row = columns.indexOfSameData(toRemove);
+        if (row == -1) {
+            throw new PersonNotFoundException();
+        }
+        prepareForModification();
+        columns.remove(row);
+    }
+
+    @Override
+    public void clear() {
+        columns = new Columns(INITIAL_CAPACITY);
+        isColumnsShared = false;
+    }
+
+    @Override
+    public void setPersons(UniquePersonList persons) {
+        columns = new Columns(Math.max(INITIAL_CAPACITY, persons.size()));
+        isColumnsShared = false;
+        for (Person person : persons) {
+            columns.add(person);
+        }
+        // most details are shorter than the bytes reserved for them, and few persons are added after loading
+        columns.trimToSize();
+    }
+
+    @Override
+    public void forEachPerson(Consumer<? super ReadOnlyPerson> action) {
+        final PersonView flyweight = new PersonView(columns, 0);
+        for (int row = 0; row < columns.size; row++) {
+            flyweight.row = row;
+            action.accept(flyweight);
+        }
+    }
+
+    @Override
+    public List<ReadOnlyPerson> immutableListView() {
+        return new ImmutableListView();
+    }
+
+    @Override
+    public List<ReadOnlyPerson> immutableSnapshot() {
+        isColumnsShared = true;
+        return new Snapshot(columns);
+    }
+
+    @Override
+    public UniquePersonList toUniquePersonList() {
+        final List<Person> persons = new ArrayList<>(columns.size);
+        forEachPerson(person -> persons.add(new Person(person)));
+        try {
+            return new UniquePersonList(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("Persons in the store are unique", dpe);
+        }
+    }
+
+    @Override
+    public void estimateHeap(MemoryEstimator estimator, Map<Structure, Long> bytes) {
+        columns.estimateHeap(estimator, bytes);
+        // this store and its columns
+        MemoryEstimator.add(bytes, Structure.PERSON_LIST, estimator.objectBytes(1, 1) + estimator.objectBytes(7, 4));
+    }
+
+    /**
+     * Gives this store its own copy of the columns if a view or snapshot may be reading them,
+     * so they can be modified.
+     */
+    private void prepareForModification() {
+        if (isColumnsShared) {
+            columns = new Columns(columns);
+            isColumnsShared = false;
+        }
+    }
+
+    /**
+     * The details of the persons, a column per detail, with a row per person.
+     */
+    private static final class Columns {
+
+        /** The bits of each row in {@link #privateDetails}: whether the phone, email and address are private. */
+        private static final int PRIVATE_BITS_PER_ROW = 3;
+        private static final int PRIVATE_PHONE = 0;
+        private static final int PRIVATE_EMAIL = 1;
+        private static final int PRIVATE_ADDRESS = 2;
+
+        private static final int[] NO_LARGE_TAG_IDS = new int[0];
+
+        private int size;
+        private final Utf8Column names;
+        private final Utf8Column phones;
+        private final Utf8Column emails;
+        private final Utf8Column addresses;
+        private long[] privateDetails;
+        private long[] tagMasks;
+
+        /** The tag numbers of each row too large for its mask, or null if it has none. */
+        private int[][] largeTagIds;
+
+        Columns(int capacity) {
+            names = new Utf8Column(capacity);
+            phones = new Utf8Column(capacity);
+            emails = new Utf8Column(capacity);
+            addresses = new Utf8Column(capacity);
+            privateDetails = new long[wordsFor((long) capacity * PRIVATE_BITS_PER_ROW)];
+            tagMasks = new long[capacity];
+            largeTagIds = new int[capacity][];
+        }
+
+        /**
+         * Copies {@code source}. The arrays of large tag numbers are never modified, so they are shared.
+         */
+        Columns(Columns source) {
+            size = source.size;
+            names = new Utf8Column(source.names);
+            phones = new Utf8Column(source.phones);
+            emails = new Utf8Column(source.emails);
+            addresses = new Utf8Column(source.addresses);
+            privateDetails = source.privateDetails.clone();
+            tagMasks = source.tagMasks.clone();
+            largeTagIds = source.largeTagIds.clone();
+        }
+
+        /**
+         * Adds {@code person} as the last row.
+         *
+         * @throws IllegalStateException if a column has no room for it; the columns are then unchanged.
+         */
+        void add(ReadOnlyPerson person) {
+            final byte[] name = encode(person.getName().fullName);
+            final byte[] phone = encode(person.getPhone().value);
+            final byte[] email = encode(person.getEmail().getValue());
+            final byte[] address = encode(person.getAddress().value);
+            if (size == MAX_ARRAY_LENGTH || !names.hasRoomFor(size, name) || !phones.hasRoomFor(size, phone)
+                    || !emails.hasRoomFor(size, email) || !addresses.hasRoomFor(size, address)) {
+                throw new IllegalStateException("The columnar store has no room for more persons");
+            }
+            if (size == tagMasks.length) {
+                final int capacity = grownCapacity(size, size + 1);
+                privateDetails = Arrays.copyOf(privateDetails, wordsFor((long) capacity * PRIVATE_BITS_PER_ROW));
+                tagMasks = Arrays.copyOf(tagMasks, capacity);
+                largeTagIds = Arrays.copyOf(largeTagIds, capacity);
+            }
+            names.add(size, name);
+            phones.add(size, phone);
+            emails.add(size, email);
+            addresses.add(size, address);
+            setPrivate(size, PRIVATE_PHONE, person.getPhone().isPrivate());
+            setPrivate(size, PRIVATE_EMAIL, person.getEmail().isPrivate());
+            setPrivate(size, PRIVATE_ADDRESS, person.getAddress().isPrivate());
+            final CompactTagSet tags = CompactTagSet.of(person.getTags());
+            tagMasks[size] = tags.getMask();
+            largeTagIds[size] = tags.getLargeIdCount() == 0 ? null : tags.getLargeIds();
+            size++;
+        }
+
+        /**
+         * Shrinks the arrays of the columns to the rows in them.
+         */
+        void trimToSize() {
+            names.trimToSize(size);
+            phones.trimToSize(size);
+            emails.trimToSize(size);
+            addresses.trimToSize(size);
+            privateDetails = Arrays.copyOf(privateDetails, wordsFor((long) size * PRIVATE_BITS_PER_ROW));
+            tagMasks = Arrays.copyOf(tagMasks, size);
+            largeTagIds = Arrays.copyOf(largeTagIds, size);
+        }
+
+        void remove(int row) {
+            names.remove(row, size);
+            phones.remove(row, size);
+            emails.remove(row, size);
+            addresses.remove(row, size);
+            for (long bit = (long) row * PRIVATE_BITS_PER_ROW; bit < (long) (size - 1) * PRIVATE_BITS_PER_ROW; bit++) {
+                setBit(bit, getBit(bit + PRIVATE_BITS_PER_ROW));
+            }
+            System.arraycopy(tagMasks, row + 1, tagMasks, row, size - row - 1);
+            System.arraycopy(largeTagIds, row + 1, largeTagIds, row, size - row - 1);
+            size--;
+            largeTagIds[size] = null;
+        }
+
+        /**
+         * Returns the first row with the same name and phone as {@code key}, or -1 if there is none.
+         */
+        int indexOfSamePerson(ReadOnlyPerson key) {
+            final byte[] name = encode(key.getName().fullName);
+            final byte[] phone = encode(key.getPhone().value);
+            for (int row = 0; row < size; row++) {
+                if (names.equalsAt(row, name) && phones.equalsAt(row, phone)) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the first row with the same data as {@code key}, or -1 if there is none.
+         */
+        int indexOfSameData(ReadOnlyPerson key) {
+            final byte[] name = encode(key.getName().fullName);
+            final byte[] phone = encode(key.getPhone().value);
+            final byte[] email = encode(key.getEmail().getValue());
+            final byte[] address = encode(key.getAddress().value);
+            final CompactTagSet tags = CompactTagSet.of(key.getTags());
+            final int[] largeIds = tags.getLargeIdCount() == 0 ? null : tags.getLargeIds();
+            for (int row = 0; row < size; row++) {
+                if (names.equalsAt(row, name) && phones.equalsAt(row, phone) && emails.equalsAt(row, email)
+                        && addresses.equalsAt(row, address) && tagMasks[row] == tags.getMask()
+                        && Arrays.equals(largeTagIds[row], largeIds)) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Adds the heap retained by the columns to {@code bytes}: each column of details as the structure of
+         * that detail, the private bits as the persons, and the tags of the persons once each.
+         */
+        void estimateHeap(MemoryEstimator estimator, Map<Structure, Long> bytes) {
+            MemoryEstimator.add(bytes, Structure.NAMES, names.estimateHeap(estimator));
+            MemoryEstimator.add(bytes, Structure.PHONES, phones.estimateHeap(estimator));
+            MemoryEstimator.add(bytes, Structure.EMAILS, emails.estimateHeap(estimator));
+            MemoryEstimator.add(bytes, Structure.ADDRESSES, addresses.estimateHeap(estimator));
+            MemoryEstimator.add(bytes, Structure.PERSONS, estimator.arrayBytes(privateDetails.length, Long.BYTES));
+            long tagSetBytes = estimator.arrayBytes(tagMasks.length, Long.BYTES)
+                    + estimator.referenceArrayBytes(largeTagIds.length);
+            long usedMask = 0L;
+            final Set<Integer> usedLargeIds = new HashSet<>();
+            for (int row = 0; row < size; row++) {
+                usedMask |= tagMasks[row];
+                if (largeTagIds[row] != null) {
+                    tagSetBytes += estimator.arrayBytes(largeTagIds[row].length, Integer.BYTES);
+                    for (int id : largeTagIds[row]) {
+                        usedLargeIds.add(id);
+                    }
+                }
+            }
+            MemoryEstimator.add(bytes, Structure.TAG_SETS, tagSetBytes);
+            final TagDictionary dictionary = TagDictionary.getShared();
+            for (long remaining = usedMask; remaining != 0L; remaining &= remaining - 1) {
+                MemoryEstimator.add(bytes, Structure.TAGS,
+                        estimator.tagBytes(dictionary.getTag(Long.numberOfTrailingZeros(remaining))));
+            }
+            for (int id : usedLargeIds) {
+                MemoryEstimator.add(bytes, Structure.TAGS, estimator.tagBytes(dictionary.getTag(id)));
+            }
+        }
+
+        boolean isPrivate(int row, int detail) {
+            return getBit((long) row * PRIVATE_BITS_PER_ROW + detail);
+        }
+
+        CompactTagSet getTags(int row) {
+            final int[] largeIds = largeTagIds[row];
+            return CompactTagSet.ofIds(tagMasks[row], largeIds == null ? NO_LARGE_TAG_IDS : largeIds);
+        }
+
+        private void setPrivate(int row, int detail, boolean isPrivate) {
+            setBit((long) row * PRIVATE_BITS_PER_ROW + detail, isPrivate);
+        }
+
+        private boolean getBit(long bit) {
+            return (privateDetails[(int) (bit / Long.SIZE)] & (1L << bit)) != 0;
+        }
+
+        private void setBit(long bit, boolean value) {
+            if (value) {
+                privateDetails[(int) (bit / Long.SIZE)] |= 1L << bit;
+            } else {
+                privateDetails[(int) (bit / Long.SIZE)] &= ~(1L << bit);
+            }
+        }
+
+        private static int wordsFor(long bits) {
+            return (int) ((bits + Long.SIZE - 1) / Long.SIZE);
+        }
+    }
+
+    /**
+     * The values of one detail of the persons, as UTF-8 bytes one after another.
+     */
+    private static final class Utf8Column {
+
+        /** The number of bytes to reserve per row at first; most details are shorter. */
+        private static final int INITIAL_BYTES_PER_ROW = 16;
+
+        private byte[] bytes;
+
+        /** The index in {@link #bytes} just after the value of each row. */
+        private int[] ends;
+
+        Utf8Column(int capacity) {
+            bytes = new byte[(int) Math.min(MAX_ARRAY_LENGTH, (long) capacity * INITIAL_BYTES_PER_ROW)];
+            ends = new int[capacity];
+        }
+
+        Utf8Column(Utf8Column source) {
+            bytes = source.bytes.clone();
+            ends = source.ends.clone();
+        }
+
+        /**
+         * Returns true if {@code encoded} can be added as the value of {@code row}, the row after the last one,
+         * without the column growing past the length of an array.
+         */
+        boolean hasRoomFor(int row, byte[] encoded) {
+            return (long) start(row) + encoded.length <= MAX_ARRAY_LENGTH;
+        }
+
+        /**
+         * Sets {@code encoded} as the value of {@code row}, which must be the row after the last one and have
+         * {@link #hasRoomFor room} for it.
+         */
+        void add(int row, byte[] encoded) {
+            final int start = start(row);
+            if (start + encoded.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, grownCapacity(bytes.length, start + encoded.length));
+            }
+            if (row == ends.length) {
+                ends = Arrays.copyOf(ends, grownCapacity(ends.length, row + 1));
+            }
+            System.arraycopy(encoded, 0, bytes, start, encoded.length);
+            ends[row] = start + encoded.length;
+        }
+
+        /**
+         * Removes the value of {@code row} from a column of {@code size} rows, moving the later rows up.
+         */
+        void remove(int row, int size) {
+            final int start = start(row);
+            final int length = ends[row] - start;
+            System.arraycopy(bytes, ends[row], bytes, start, ends[size - 1] - ends[row]);
+            for (int later = row; later < size - 1; later++) {
+                ends[later] = ends[later + 1] - length;
+            }
+        }
+
+        void trimToSize(int size) {
+            bytes = Arrays.copyOf(bytes, size == 0 ? 0 : ends[size - 1]);
+            ends = Arrays.copyOf(ends, size);
+        }
+
+        /**
+         * Returns the bytes of heap taken by the column.
+         */
+        long estimateHeap(MemoryEstimator estimator) {
+            return estimator.objectBytes(2, 0) + estimator.arrayBytes(bytes.length, Byte.BYTES)
+                    + estimator.arrayBytes(ends.length, Integer.BYTES);
+        }
+
+        String get(int row) {
+            final int start = start(row);
+            return new String(bytes, start, ends[row] - start, StandardCharsets.UTF_8);
+        }
+
+        boolean equalsAt(int row, byte[] value) {
+            return Arrays.equals(bytes, start(row), ends[row], value, 0, value.length);
+        }
+
+        private int start(int row) {
+            return row == 0 ? 0 : ends[row - 1];
+        }
+    }
+
+    private static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the capacity to grow an array of {@code capacity} elements to, so that it holds at least
+     * {@code minCapacity}: half as large again, but no longer than an array can be.
+     */
+    private static int grownCapacity(int capacity, int minCapacity) {
+        final long grown = Math.min(MAX_ARRAY_LENGTH, capacity + (long) (capacity >> 1));
+        return (int) Math.max(Math.max(INITIAL_CAPACITY, grown), minCapacity);
+    }
+
+    /**
+     * A person read from a row of the columns, decoding its details each time they are asked for.
+     */
+    private static final class PersonView implements ReadOnlyPerson {
+
+        private final Columns columns;
+        private int row;
+
+        PersonView(Columns columns, int row) {
+            this.columns = columns;
+            this.row = row;
+        }
+
+        @Override
+        public Name getName() {
+            try {
+                return new Name(columns.names.get(row));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored details were valid when added", ive);
+            }
+        }
+
+        @Override
+        public Phone getPhone() {
+            try {
+                return new Phone(columns.phones.get(row), columns.isPrivate(row, Columns.PRIVATE_PHONE));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored details were valid when added", ive);
+            }
+        }
+
+        @Override
+        public Email getEmail() {
+            try {
+                return new Email(columns.emails.get(row), columns.isPrivate(row, Columns.PRIVATE_EMAIL));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored details were valid when added", ive);
+            }
+        }
+
+        @Override
+        public Address getAddress() {
+            try {
+                return new Address(columns.addresses.get(row), columns.isPrivate(row, Columns.PRIVATE_ADDRESS));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored details were valid when added", ive);
+            }
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            return columns.getTags(row);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ReadOnlyPerson // instanceof handles nulls
+                    && this.hasSameData((ReadOnlyPerson) other));
+        }
+
+        @Override
+        public int hashCode() {
+            // the same as that of a Person with the same details
+            return Objects.hash(getName(), getPhone(), getEmail(), getAddress(), getTags());
+        }
+
+        @Override
+        public String toString() {
+            return getAsTextShowAll();
+        }
+    }
+
+    /**
+     * Unmodifiable view that always reads the current columns, even after they are replaced by a copy.
+     */
+    private class ImmutableListView extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+        @Override
+        public ReadOnlyPerson get(int index) {
+            Objects.checkIndex(index, columns.size);
+            // the person returned may be kept, so it must not see later changes
+            isColumnsShared = true;
+            return new PersonView(columns, index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size;
+        }
+    }
+
+    /**
+     * Unmodifiable list of the persons in columns that are no longer modified.
+     */
+    private static class Snapshot extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+
+        private final Columns columns;
+        private final int size;
+
+        Snapshot(Columns columns) {
+            this.columns = columns;
+            this.size = columns.size;
+        }
+
+        @Override
+        public ReadOnlyPerson get(int index) {
+            Objects.checkIndex(index, size);
+            return new PersonView(columns, index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.addressbook.data.person;
 
+import seedu.addressbook.common.InternPool;
 import seedu.addressbook.data.exception.IllegalValueException;
 
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
+ * The part before the '@' and the domain are kept apart, so that persons with the same domain can share it.
  */
 public class Email {
 
@@ -13,7 +15,11 @@ public class Email {
             "Person emails should be 2 alphanumeric/period strings separated by '@'";
     public static final String EMAIL_VALIDATION_REGEX = "[\\w\\.]+@[\\w\\.]+";
 
-    public final String value;
+    /** Shared domains; most persons have one of a few domains, so sharing them saves a string per person. */
+    private static final InternPool<String> DOMAINS = new InternPool<>();
+
+    private final String localPart;
+    private final String domain;
     private boolean isPrivate;
 
     /**
@@ -27,31 +33,91 @@ public class Email {
         if (!isValidEmail(trimmedEmail)) {
             throw new IllegalValueException(MESSAGE_EMAIL_CONSTRAINTS);
         }
-        this.value = trimmedEmail;
+        final int at = trimmedEmail.indexOf('@');
+        this.localPart = trimmedEmail.substring(0, at);
+        this.domain = trimmedEmail.substring(at + 1);
+    }
+
+    /**
+     * Creates a copy of {@code email} with its domain replaced by the equal {@code sharedDomain}.
+     */
+    private Email(Email email, String sharedDomain) {
+        this.localPart = email.localPart;
+        this.domain = sharedDomain;
+        this.isPrivate = email.isPrivate;
+    }
+
+    /**
+     * Returns an equal email whose domain is shared by all interned emails with that domain, which may be this email.
+     * Emails read from storage or entered by the user should be interned before they are kept.
+     */
+    public Email intern() {
+        final String sharedDomain = DOMAINS.intern(domain);
+        return sharedDomain == domain ? this : new Email(this, sharedDomain);
+    }
+
+    /**
+     * Returns the email address, as it was given.
+     */
+    public String getValue() {
+        return localPart + '@' + domain;
+    }
+
+    /**
+     * Returns the part of the email address before the '@'.
+     */
+    public String getLocalPart() {
+        return localPart;
+    }
+
+    /**
+     * Returns the part of the email address after the '@', which may be shared with other emails.
+     */
+    public String getDomain() {
+        return domain;
     }
 
     /**
      * Returns true if the given string is a valid person email.
+     * Accepts exactly what {@link #EMAIL_VALIDATION_REGEX} matches, without compiling it on every call.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(EMAIL_VALIDATION_REGEX);
+        final int at = test.indexOf('@');
+        if (at < 1 || at == test.length() - 1) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            final char c = test.charAt(i);
+            if (i != at && !isLocalOrDomainCharacter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the character is allowed on either side of the '@': a word character or a '.'.
+     */
+    private static boolean isLocalOrDomainCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '.';
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Email // instanceof handles nulls
-                && this.value.equals(((Email) other).value)); // state check
+                && this.localPart.equals(((Email) other).localPart)
+                && this.domain.equals(((Email) other).domain)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * localPart.hashCode() + domain.hashCode();
     }
 
 
@@ -31,9 +31,19 @@ public class Name {
 
     /**
      * Returns true if the given string is a valid person name.
+     * Accepts exactly what {@link #NAME_VALIDATION_REGEX} matches, without compiling it on every call.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            final char c = test.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == ' ')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -0,0 +1,145 @@
+package seedu.addressbook.data.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import seedu.addressbook.metrics.AllocationCounter;
+
+/**
+ * Finds the persons matching a predicate that no index can answer, by scanning the list.
+ * Lists larger than the sequential threshold are split into spliterator chunks that are scanned in parallel
+ * on a {@link ForkJoinPool}; the matches are returned in their original order.
+ * Memory allocated by the pool's threads while scanning is counted as allocated by the calling thread,
+ * in {@link AllocationCounter}.
+ */
+public class ParallelPersonScanner {
+
+    /**
+     * Lists up to this size are scanned sequentially on the calling thread.
+     * Below it, the cost of forking tasks outweighs the gain from parallelism (see the JMH ParallelScanBenchmark).
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 16_384;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * Uses the common pool and the {@link #DEFAULT_SEQUENTIAL_THRESHOLD}.
+     */
+    public ParallelPersonScanner() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * @param sequentialThreshold lists and chunks up to this size are scanned without further splitting
+     */
+    public ParallelPersonScanner(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("Sequential threshold must be positive");
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate}, in their original order.
+     * The predicate may be called concurrently from several threads.
+     */
+    public <T extends ReadOnlyPerson> List<T> filter(List<T> persons, Predicate<? super T> predicate) {
+        if (persons.size() <= sequentialThreshold) {
+            final List<T> matches = new ArrayList<>();
+            persons.spliterator().forEachRemaining(person -> addIfMatches(person, predicate, matches));
+            return matches;
+        }
+        final ScanResult<T> result = pool.invoke(new ScanTask<>(persons.spliterator(), predicate,
+                Thread.currentThread()));
+        AllocationCounter.addOffloadedBytes(result.offloadedBytes);
+        final List<T> matches = new ArrayList<>(result.size);
+        result.appendTo(matches);
+        return matches;
+    }
+
+    private static <T> void addIfMatches(T person, Predicate<? super T> predicate, List<T> matches) {
+        if (predicate.test(person)) {
+            matches.add(person);
+        }
+    }
+
+    /**
+     * Scans one chunk, splitting it further while it is larger than the sequential threshold.
+     */
+    private class ScanTask<T> extends RecursiveTask<ScanResult<T>> {
+        private final Spliterator<T> chunk;
+        private final Predicate<? super T> predicate;
+        private final Thread requester;
+
+        ScanTask(Spliterator<T> chunk, Predicate<? super T> predicate, Thread requester) {
+            this.chunk = chunk;
+            this.predicate = predicate;
+            this.requester = requester;
+        }
+
+        @Override
+        protected ScanResult<T> compute() {
+            if (chunk.estimateSize() > sequentialThreshold) {
+                final Spliterator<T> prefix = chunk.trySplit();
+                if (prefix != null) {
+                    final ScanTask<T> left = new ScanTask<>(prefix, predicate, requester);
+                    left.fork();
+                    final ScanResult<T> right = new ScanTask<>(chunk, predicate, requester).compute();
+                    return new ScanResult<>(left.join(), right);
+                }
+            }
+            final boolean isOffloaded = Thread.currentThread() != requester;
+            final long allocatedBefore = isOffloaded ? AllocationCounter.getCurrentThreadAllocatedBytes() : 0;
+            final List<T> matches = new ArrayList<>();
+            chunk.forEachRemaining(person -> addIfMatches(person, predicate, matches));
+            final long offloadedBytes = isOffloaded
+                    ? AllocationCounter.getCurrentThreadAllocatedBytes() - allocatedBefore : 0;
+            return new ScanResult<>(matches, offloadedBytes);
+        }
+    }
+
+    /**
+     * Matches of a chunk, kept as a tree of the sub-chunk results so that merging does not copy
+     * until the final list is built.
+     */
+    private static class ScanResult<T> {
+        final int size;
+        /** Bytes allocated while scanning by threads other than the one that asked for the scan. */
+        final long offloadedBytes;
+        private final List<T> matches;
+        private final ScanResult<T> left;
+        private final ScanResult<T> right;
+
+        ScanResult(List<T> matches, long offloadedBytes) {
+            this.size = matches.size();
+            this.offloadedBytes = offloadedBytes;
+            this.matches = matches;
+            this.left = null;
+            this.right = null;
+        }
+
+        ScanResult(ScanResult<T> left, ScanResult<T> right) {
+            this.size = left.size + right.size;
+            this.offloadedBytes = left.offloadedBytes + right.offloadedBytes;
+            this.matches = null;
+            this.left = left;
+            this.right = right;
+        }
+
+        /** Appends the matches, in their original order, to {@code target}. */
+        void appendTo(List<T> target) {
+            if (matches != null) {
+                target.addAll(matches);
+                return;
+            }
+            left.appendTo(target);
+            right.appendTo(target);
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package seedu.addressbook.data.person;
 
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.addressbook.data.tag.CompactTagSet;
 import seedu.addressbook.data.tag.Tag;
 
 /**
@@ -17,7 +17,7 @@ public class Person implements ReadOnlyPerson {
     private Email email;
     private Address address;
 
-    private final Set<Tag> tags = new HashSet<>();
+    private CompactTagSet tags;
 
     /**
      * Assumption: Every field must be present and not null.
@@ -27,7 +27,7 @@ public class Person implements ReadOnlyPerson {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = CompactTagSet.of(tags);
     }
 
     /**
@@ -59,15 +59,14 @@ public class Person implements ReadOnlyPerson {
 
     @Override
     public Set<Tag> getTags() {
-        return new HashSet<>(tags);
+        return tags;
     }
 
     /**
      * Replaces this person's tags with the tags in the argument tag set.
      */
     public void setTags(Set<Tag> replacement) {
-        tags.clear();
-        tags.addAll(replacement);
+        tags = CompactTagSet.of(replacement);
     }
 
     @Override
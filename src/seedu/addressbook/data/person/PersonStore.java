@@ -0,0 +1,105 @@
+package seedu.addressbook.data.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.metrics.MemoryEstimator;
+
+/**
+ * Keeps the persons of an address book in the order they were added, without duplicates.
+ * Implementations need not be thread-safe, as {@link seedu.addressbook.data.AddressBook} locks around them.
+ *
+ * @see ReadOnlyPerson#isSamePerson(ReadOnlyPerson)
+ */
+public interface PersonStore {
+
+    /**
+     * Returns the number of persons in the store.
+     */
+    int size();
+
+    /**
+     * Returns true if reading every person costs little more than going through a list of them, so that it can be
+     * done when nobody is waiting for it, such as when a monitoring tool polls the address book.
+     * Stores that decode or assemble each person as it is read are not.
+     */
+    default boolean isCheapToRead() {
+        return false;
+    }
+
+    /**
+     * Returns true if the store has the same person as {@code toCheck}, by {@link ReadOnlyPerson#isSamePerson}.
+     */
+    boolean contains(ReadOnlyPerson toCheck);
+
+    /**
+     * Adds a person to the end of the store.
+     *
+     * @throws DuplicatePersonException if the store already has the same person.
+     */
+    void add(Person toAdd) throws DuplicatePersonException;
+
+    /**
+     * Removes the first person with the same data as {@code toRemove}.
+     *
+     * @throws PersonNotFoundException if no such person could be found.
+     */
+    void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException;
+
+    /**
+     * Removes all persons from the store.
+     */
+    void clear();
+
+    /**
+     * Replaces all persons in the store with the given persons.
+     *
+     * @param persons external changes to this will not affect the store
+     */
+    void setPersons(UniquePersonList persons);
+
+    /**
+     * Calls {@code action} with each person in the store, in order.
+     * The person given may be reused for the next one, so it must not be kept after the call.
+     */
+    void forEachPerson(Consumer<? super ReadOnlyPerson> action);
+
+    /**
+     * Returns an unmodifiable view of the persons, in which changes to the store are immediately visible.
+     */
+    List<ReadOnlyPerson> immutableListView();
+
+    /**
+     * Returns an unmodifiable list of the persons in the store at the time of the call.
+     * Later changes to the store are not visible in the returned list.
+     */
+    List<ReadOnlyPerson> immutableSnapshot();
+
+    /**
+     * Returns a new UniquePersonList of the persons in the store.
+     */
+    UniquePersonList toUniquePersonList();
+
+    /**
+     * Returns the lines of a storage file of the persons in the store, in order, each person encoded by
+     * {@code encoder}. Stores that keep persons as the lines they were loaded from, in the format of
+     * {@code encoder}, may return those lines as they are instead of reading the persons.
+     */
+    default List<String> encodeLines(Function<? super ReadOnlyPerson, String> encoder) {
+        final List<String> lines = new ArrayList<>(size());
+        forEachPerson(person -> lines.add(encoder.apply(person)));
+        return lines;
+    }
+
+    /**
+     * Adds the heap retained by the store and its persons, by structure, to {@code bytes}, using the sizes
+     * of {@code estimator}. Persons kept in another form than objects are not decoded to estimate them.
+     */
+    void estimateHeap(MemoryEstimator estimator, Map<Structure, Long> bytes);
+}
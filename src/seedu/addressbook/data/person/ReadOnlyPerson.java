@@ -16,8 +16,8 @@ public interface ReadOnlyPerson {
     Address getAddress();
 
     /**
-     * Returns a new TagSet that is a deep copy of the internal TagSet,
-     * changes on the returned set will not affect the person's internal tags.
+     * Returns the person's tags as a set that cannot be changed,
+     * so the person's tags cannot be changed through the returned set.
      */
     Set<Tag> getTags();
 
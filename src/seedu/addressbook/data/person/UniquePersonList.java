@@ -1,14 +1,21 @@
 package seedu.addressbook.data.person;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.metrics.MemoryEstimator;
+import seedu.addressbook.metrics.PersonListCopyEvent;
 
 
 
@@ -18,11 +25,16 @@ import seedu.addressbook.data.exception.DuplicateDataException;
  * @see Person#equals(Object)
  * @see Utils#elementsAreUnique(Collection)
  */
-public class UniquePersonList implements Iterable<Person> {
+public class UniquePersonList implements Iterable<Person>, PersonStore {
 
 
 
-    private final List<Person> internalList = new ArrayList<>();
+    private List<Person> internalList = new ArrayList<>();
+
+    /**
+     * True if {@link #internalList} is shared with a snapshot, in which case it must be copied before it is modified.
+     */
+    private boolean isInternalListShared;
 
     /**
      * Constructs empty person list.
@@ -64,16 +76,59 @@ public class UniquePersonList implements Iterable<Person> {
      * For use with other methods/libraries.
      * Any changes to the internal list/elements are immediately visible in the returned list.
      */
+    @Override
     public List<ReadOnlyPerson> immutableListView() {
+        return new ImmutableListView();
+    }
+
+    /**
+     * Returns an unmodifiable java List of the persons in this list at the time of the call.
+     * Later changes to this list are not visible in the returned list.
+     * Taking a snapshot does not copy the persons; the list is only copied when it is next modified.
+     */
+    @Override
+    public List<ReadOnlyPerson> immutableSnapshot() {
+        isInternalListShared = true;
         return Collections.unmodifiableList(internalList);
     }
 
+    @Override
+    public boolean isCheapToRead() {
+        return true;
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    @Override
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Gives this list its own copy of the persons if they are shared with a snapshot, so they can be modified.
+     */
+    private void prepareForModification() {
+        if (isInternalListShared) {
+            final PersonListCopyEvent event = new PersonListCopyEvent();
+            event.begin();
+            internalList = new ArrayList<>(internalList);
+            isInternalListShared = false;
+            event.end();
+            if (event.shouldCommit()) {
+                event.persons = internalList.size();
+                event.commit();
+            }
+        }
+    }
+
 
     /**
      * Checks if the list contains an equivalent person as the given argument.
      * The {@link ReadOnlyPerson#isSamePerson} method is used for this comparison, which
      * defines a weaker notion of equality.
      */
+    @Override
     public boolean contains(ReadOnlyPerson toCheck) {
         for (Person p : internalList) {
             if (p.isSamePerson(toCheck)) {
@@ -90,10 +145,12 @@ public class UniquePersonList implements Iterable<Person> {
      *    The @link{ReadOnlyPerson#isSamePerson} method is used for this comparison,
      *    which defines a weaker notion of equality.
      */
+    @Override
     public void add(Person toAdd) throws DuplicatePersonException {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        prepareForModification();
         internalList.add(toAdd);
     }
 
@@ -102,23 +159,59 @@ public class UniquePersonList implements Iterable<Person> {
      *
      * @throws PersonNotFoundException if no such person could be found in the list.
      */
+    @Override
     public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        prepareForModification();
+        internalList.remove(index);
     }
 
     /**
      * Clears all persons in list.
      */
+    @Override
     public void clear() {
+        if (isInternalListShared) {
+            internalList = new ArrayList<>();
+            isInternalListShared = false;
+            return;
+        }
         internalList.clear();
     }
 
+    @Override
+    public void setPersons(UniquePersonList persons) {
+        internalList = new ArrayList<>(persons.internalList);
+        isInternalListShared = false;
+    }
+
+    @Override
+    public void forEachPerson(Consumer<? super ReadOnlyPerson> action) {
+        internalList.forEach(action);
+    }
+
+    @Override
+    public UniquePersonList toUniquePersonList() {
+        return new UniquePersonList(this);
+    }
+
+    @Override
+    public void estimateHeap(MemoryEstimator estimator, Map<Structure, Long> bytes) {
+        estimator.addPersonObjects(internalList, bytes);
+        // this list and its ArrayList
+        MemoryEstimator.add(bytes, Structure.PERSON_LIST,
+                estimator.objectBytes(1, 1) + estimator.arrayListBytes(internalList.size()));
+    }
+
+    /**
+     * Returns an iterator over the persons. The iterator does not support removal.
+     */
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
     }
 
     @Override
@@ -128,11 +221,26 @@ public class UniquePersonList implements Iterable<Person> {
                         && this.internalList.equals(((UniquePersonList) other).internalList));
     }
 
+    /**
+     * Unmodifiable view that always reads the current internal list, even after it is replaced by a copy.
+     */
+    private class ImmutableListView extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+        @Override
+        public ReadOnlyPerson get(int index) {
+            return internalList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return internalList.size();
+        }
+    }
+
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
     public static class DuplicatePersonException extends DuplicateDataException {
-        protected DuplicatePersonException() {
+        public DuplicatePersonException() {
             super("Operation would result in duplicate persons");
         }
     }
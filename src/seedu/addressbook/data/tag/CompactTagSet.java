@@ -0,0 +1,233 @@
+package seedu.addressbook.data.tag;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * An immutable set of tags, kept as their numbers in the {@link TagDictionary#getShared() shared dictionary}:
+ * the first {@value #MASK_IDS} numbers as the bits of a {@code long}, and any larger ones in a sorted array.
+ * A person with a few common tags thus takes one small object for them, rather than a {@link java.util.HashSet}
+ * with an entry per tag, and comparing or intersecting two sets takes a few bitwise operations.
+ * Iterates over the tags in the order of their names, so that persons are shown and saved the same way
+ * whatever order this run of the application numbered their tags in.
+ */
+public final class CompactTagSet extends AbstractSet<Tag> {
+
+    /** The number of tag numbers held in the bitmask. */
+    public static final int MASK_IDS = Long.SIZE;
+
+    private static final int[] NO_IDS = new int[0];
+
+    private static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+
+    public static final CompactTagSet EMPTY = new CompactTagSet(0L, NO_IDS);
+
+    /** Bit {@code i} is set if the set has the tag numbered {@code i}. */
+    private final long mask;
+
+    /** The numbers of {@link #MASK_IDS} and more in the set, in increasing order. */
+    private final int[] largeIds;
+
+    /** Cached {@link #hashCode()}, or 0 if not computed yet. */
+    private int hash;
+
+    private CompactTagSet(long mask, int[] largeIds) {
+        this.mask = mask;
+        this.largeIds = largeIds;
+    }
+
+    /**
+     * Returns a set of the given tags, which may be {@code tags} itself if it is a {@code CompactTagSet}.
+     */
+    public static CompactTagSet of(Collection<? extends Tag> tags) {
+        if (tags instanceof CompactTagSet) {
+            return (CompactTagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        final TagDictionary dictionary = TagDictionary.getShared();
+        long mask = 0L;
+        int[] largeIds = new int[tags.size()];
+        int largeCount = 0;
+        for (Tag tag : tags) {
+            final int id = dictionary.getId(tag);
+            if (id < MASK_IDS) {
+                mask |= 1L << id;
+            } else {
+                largeIds[largeCount++] = id;
+            }
+        }
+        return create(mask, largeIds, largeCount);
+    }
+
+    /**
+     * Returns a set of the tags with the given numbers in the shared dictionary: those of the bits set in
+     * {@code mask}, and {@code largeIds}, which must be {@link #MASK_IDS} or more.
+     * For keeping sets of tags as their numbers, see {@link #getMask()} and {@link #getLargeIds()}.
+     */
+    public static CompactTagSet ofIds(long mask, int[] largeIds) {
+        return create(mask, largeIds.clone(), largeIds.length);
+    }
+
+    /**
+     * Returns a set of the tags numbered in {@code mask} and the first {@code largeCount} of {@code largeIds},
+     * which may be in any order and repeat.
+     */
+    private static CompactTagSet create(long mask, int[] largeIds, int largeCount) {
+        if (largeCount == 0) {
+            return mask == 0L ? EMPTY : new CompactTagSet(mask, NO_IDS);
+        }
+        Arrays.sort(largeIds, 0, largeCount);
+        int distinct = 1;
+        for (int i = 1; i < largeCount; i++) {
+            if (largeIds[i] != largeIds[distinct - 1]) {
+                largeIds[distinct++] = largeIds[i];
+            }
+        }
+        return new CompactTagSet(mask, Arrays.copyOf(largeIds, distinct));
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(mask) + largeIds.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mask == 0L && largeIds.length == 0;
+    }
+
+    /**
+     * Returns the bits of the numbers of the tags in this set that are less than {@link #MASK_IDS}.
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the numbers of the tags in this set that are {@link #MASK_IDS} or more, in increasing order.
+     */
+    public int[] getLargeIds() {
+        return largeIds.length == 0 ? largeIds : largeIds.clone();
+    }
+
+    /**
+     * Returns the number of tags in this set numbered too large for the bitmask, which are kept in an array.
+     */
+    public int getLargeIdCount() {
+        return largeIds.length;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Tag)) {
+            return false;
+        }
+        // finding rather than getting the number does not add tags that no person has to the dictionary
+        final int id = TagDictionary.getShared().findId((Tag) object);
+        if (id == TagDictionary.NO_ID) {
+            return false;
+        }
+        return id < MASK_IDS ? (mask & (1L << id)) != 0 : Arrays.binarySearch(largeIds, id) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        if (!(collection instanceof CompactTagSet)) {
+            return super.containsAll(collection);
+        }
+        final CompactTagSet other = (CompactTagSet) collection;
+        return (other.mask & ~mask) == 0L && countCommonLargeIds(other, null) == other.largeIds.length;
+    }
+
+    /**
+     * Returns true if this set and {@code other} have a tag in common.
+     */
+    public boolean intersects(CompactTagSet other) {
+        return (mask & other.mask) != 0L || countCommonLargeIds(other, null) > 0;
+    }
+
+    /**
+     * Returns the set of the tags in both this set and {@code other}.
+     */
+    public CompactTagSet intersection(CompactTagSet other) {
+        final int[] common = new int[Math.min(largeIds.length, other.largeIds.length)];
+        return create(mask & other.mask, common, countCommonLargeIds(other, common));
+    }
+
+    /**
+     * Returns the number of large numbers in both this set and {@code other}, and stores them in {@code common}
+     * unless it is null.
+     */
+    private int countCommonLargeIds(CompactTagSet other, int[] common) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < largeIds.length && j < other.largeIds.length) {
+            if (largeIds[i] < other.largeIds[j]) {
+                i++;
+            } else if (largeIds[i] > other.largeIds[j]) {
+                j++;
+            } else {
+                if (common != null) {
+                    common[count] = largeIds[i];
+                }
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        if (largeIds.length == 0 && Long.bitCount(mask) <= 1) {
+            return mask == 0L ? Collections.emptyIterator()
+                    : Collections.singleton(getTag(Long.numberOfTrailingZeros(mask))).iterator();
+        }
+        return Arrays.asList(toSortedArray()).iterator();
+    }
+
+    /**
+     * Returns the tags in this set, in the order of their names.
+     */
+    private Tag[] toSortedArray() {
+        final Tag[] tags = new Tag[size()];
+        int count = 0;
+        for (long remainingMask = mask; remainingMask != 0L; remainingMask &= remainingMask - 1) {
+            tags[count++] = getTag(Long.numberOfTrailingZeros(remainingMask));
+        }
+        for (int id : largeIds) {
+            tags[count++] = getTag(id);
+        }
+        Arrays.sort(tags, BY_NAME);
+        return tags;
+    }
+
+    private static Tag getTag(int id) {
+        return TagDictionary.getShared().getTag(id);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof CompactTagSet) {
+            final CompactTagSet otherSet = (CompactTagSet) other;
+            return mask == otherSet.mask && Arrays.equals(largeIds, otherSet.largeIds);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = super.hashCode();
+        }
+        return hash;
+    }
+}
@@ -5,6 +5,7 @@ import seedu.addressbook.data.exception.IllegalValueException;
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Persons share one instance of each tag, the one numbered in the {@link TagDictionary}.
  */
 public class Tag {
 
@@ -28,9 +29,19 @@ public class Tag {
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Accepts exactly what {@link #TAG_VALIDATION_REGEX} matches, without compiling it on every call.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            final char c = test.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,94 @@
+package seedu.addressbook.data.tag;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Numbers the distinct tags from 0, in the order they are first seen, so that a set of tags can be kept
+ * as a set of small numbers, see {@link CompactTagSet}. The first tag numbered with each name is the one instance
+ * of that tag shared by all persons with it.
+ *
+ * A tag keeps its number for the life of the application, even after no person has it any more, so the dictionary
+ * grows with the number of distinct tag names used since launch, by about 100 bytes per name, and never shrinks.
+ * This is the price of numbers that never change meaning: sets of tags are held by the person stores, by listings
+ * shown to the user and by persons not yet added, and a number given to another tag while any of them still held it
+ * would silently change that set's tags. Tags are few compared to persons, so the dictionary stays small.
+ * Thread-safe; numbering a tag locks, but finding the number of a tag or the tag of a number does not.
+ */
+public class TagDictionary {
+
+    /** Returned by {@link #findId(Tag)} for tags that have no number. */
+    public static final int NO_ID = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final TagDictionary SHARED = new TagDictionary();
+
+    private final Map<Tag, Integer> ids = new ConcurrentHashMap<>();
+
+    /**
+     * The tag of each number, followed by room for more; replaced by a longer copy when it is full.
+     * Only the first {@link #size} are set.
+     */
+    private volatile Tag[] tagsById = new Tag[INITIAL_CAPACITY];
+
+    /** The number of tags numbered; written after their tags, so that readers of it see them. */
+    private volatile int size;
+
+    /**
+     * Returns the dictionary numbering the tags of all persons.
+     */
+    public static TagDictionary getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the number of {@code tag}, numbering it if it has none.
+     */
+    public int getId(Tag tag) {
+        final Integer id = ids.get(tag);
+        return id != null ? id : addId(tag);
+    }
+
+    private synchronized int addId(Tag tag) {
+        final Integer id = ids.get(tag);
+        if (id != null) {
+            return id;
+        }
+        final int newId = size;
+        if (newId == tagsById.length) {
+            tagsById = Arrays.copyOf(tagsById, newId * 2);
+        }
+        tagsById[newId] = tag;
+        size = newId + 1;
+        ids.put(tag, newId);
+        return newId;
+    }
+
+    /**
+     * Returns the number of {@code tag}, or {@link #NO_ID} if it has none.
+     */
+    public int findId(Tag tag) {
+        return ids.getOrDefault(tag, NO_ID);
+    }
+
+    /**
+     * Returns the tag with the number {@code id}.
+     *
+     * @throws IndexOutOfBoundsException if no tag has the number.
+     */
+    public Tag getTag(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No tag numbered " + id);
+        }
+        return tagsById[id];
+    }
+
+    /**
+     * Returns the number of tags numbered.
+     */
+    public int size() {
+        return size;
+    }
+}
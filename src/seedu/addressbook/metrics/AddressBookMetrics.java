@@ -0,0 +1,103 @@
+package seedu.addressbook.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+
+/**
+ * Exposes the metrics of an address book and the file it is saved to, read from the counters they keep,
+ * and the command counts in {@link CommandCounter}.
+ * Reading an attribute costs about as much as a method call, except the first read of the distinct tag count,
+ * which counts the tags of the persons if they are kept as objects; persons kept in any other way are never read.
+ */
+public class AddressBookMetrics implements AddressBookMetricsMXBean {
+
+    /** The name under which the metrics are registered with the platform MBean server. */
+    public static final String OBJECT_NAME = "seedu.addressbook:type=AddressBookMetrics";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final AddressBook addressBook;
+    private final StorageFile storage;
+
+    /** True if the address book is a read-only replica, which is never saved as its primary owns the data. */
+    private final boolean isReplica;
+
+    public AddressBookMetrics(AddressBook addressBook, StorageFile storage) {
+        this(addressBook, storage, false);
+    }
+
+    /**
+     * @param isReplica true if the address book is a read-only replica, which never has unsaved changes
+     */
+    public AddressBookMetrics(AddressBook addressBook, StorageFile storage, boolean isReplica) {
+        this.addressBook = addressBook;
+        this.storage = storage;
+        this.isReplica = isReplica;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under {@link #OBJECT_NAME},
+     * replacing any metrics registered there before.
+     *
+     * @throws JMException if the metrics could not be registered.
+     */
+    public void register() throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+    }
+
+    @Override
+    public int getPersonCount() {
+        return addressBook.size();
+    }
+
+    @Override
+    public int getDistinctTagCount() {
+        return addressBook.getDistinctTagCountIfCheap();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        final long nanos = storage.getLastSaveNanos();
+        return nanos < 0 ? -1 : nanos / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return storage.getLastSaveBytes();
+    }
+
+    @Override
+    public long getUnsavedMutationCount() {
+        if (isReplica) {
+            return 0;
+        }
+        return addressBook.getMutationCount() - storage.getSavedMutationCount();
+    }
+
+    @Override
+    public boolean isDirty() {
+        return getUnsavedMutationCount() > 0;
+    }
+
+    @Override
+    public Map<String, Long> getCommandCounts() {
+        return CommandCounter.getCounts();
+    }
+
+    @Override
+    public long getTotalCommandCount() {
+        return getCommandCounts().values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.addressbook.metrics;
+
+import java.util.Map;
+
+/**
+ * Live metrics of a running address book, for monitoring through JMX.
+ */
+public interface AddressBookMetricsMXBean {
+
+    int getPersonCount();
+
+    /**
+     * Returns the number of different tags that persons have, or -1 if the tags have not been counted yet and
+     * counting them would decode every person of a large store.
+     */
+    int getDistinctTagCount();
+
+    /**
+     * Returns how long the last successful save took, in milliseconds, or -1 if nothing has been saved.
+     */
+    double getLastSaveMillis();
+
+    /**
+     * Returns the size of the file written by the last successful save, or -1 if nothing has been saved.
+     */
+    long getLastSaveBytes();
+
+    /**
+     * Returns the number of changes made to the address book since it was last saved,
+     * or 0 for a read-only replica, which is never saved.
+     */
+    long getUnsavedMutationCount();
+
+    /**
+     * Returns true if the address book has changes that have not been saved.
+     */
+    boolean isDirty();
+
+    /**
+     * Returns the number of commands executed since the program started, by command word.
+     * The counts only increase.
+     */
+    Map<String, Long> getCommandCounts();
+
+    /**
+     * Returns the number of commands executed since the program started.
+     */
+    long getTotalCommandCount();
+}
@@ -0,0 +1,65 @@
+package seedu.addressbook.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Counts the bytes of memory allocated by a thread, including the work handed off to other threads for it,
+ * using the per-thread allocation counter of HotSpot's {@link ThreadMXBean}.
+ * Work handed off must be reported with {@link #addOffloadedBytes}, as the other threads' counters cannot tell
+ * whom they worked for.
+ */
+public final class AllocationCounter {
+
+    private static final ThreadMXBean THREADS = findThreadMXBean();
+
+    /** Bytes allocated by other threads on behalf of each thread. */
+    private static final ThreadLocal<long[]> OFFLOADED_BYTES = ThreadLocal.withInitial(() -> new long[1]);
+
+    private AllocationCounter() {}
+
+    /**
+     * Returns true if allocations can be counted in this JVM.
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far, or -1 if allocations cannot be counted.
+     * Only differences between two calls on the same thread are meaningful.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread and by other threads on its behalf,
+     * or -1 if allocations cannot be counted.
+     * Only differences between two calls on the same thread are meaningful.
+     */
+    public static long getAllocatedBytes() {
+        return THREADS == null ? -1 : getCurrentThreadAllocatedBytes() + OFFLOADED_BYTES.get()[0];
+    }
+
+    /**
+     * Counts {@code bytes} allocated by other threads on behalf of the current thread.
+     */
+    public static void addOffloadedBytes(long bytes) {
+        OFFLOADED_BYTES.get()[0] += bytes;
+    }
+
+    private static ThreadMXBean findThreadMXBean() {
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof ThreadMXBean)) {
+            return null;
+        }
+        final ThreadMXBean hotSpotThreads = (ThreadMXBean) threads;
+        if (!hotSpotThreads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        hotSpotThreads.setThreadAllocatedMemoryEnabled(true);
+        return hotSpotThreads;
+    }
+}
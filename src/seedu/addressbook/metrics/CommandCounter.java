@@ -0,0 +1,35 @@
+package seedu.addressbook.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the commands executed since the program started, by command word.
+ * Unlike the histograms of {@link ValueRecorder#COMMANDS}, which {@code stats reset} clears, the counts are
+ * never reset, so they only increase, as monitoring tools expect of counters.
+ */
+public final class CommandCounter {
+
+    private static final Map<String, LongAdder> COUNTS = new ConcurrentHashMap<>();
+
+    private CommandCounter() {}
+
+    /**
+     * Counts one execution of the command with the given command word.
+     */
+    public static void increment(String commandWord) {
+        COUNTS.computeIfAbsent(commandWord, word -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the number of commands executed so far, by command word in sorted order.
+     */
+    public static SortedMap<String, Long> getCounts() {
+        final SortedMap<String, Long> counts = new TreeMap<>();
+        COUNTS.forEach((commandWord, count) -> counts.put(commandWord, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.addressbook.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for the execution of one command.
+ * Records the command word, the number of persons listed in the result and whether the command may change
+ * the address book.
+ */
+@Name("seedu.addressbook.Command")
+@Label("Command")
+@Category("Address Book")
+@Description("Execution of a command")
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    public String commandWord;
+
+    @Label("Persons Listed")
+    @Description("Number of persons listed in the result, or -1 if the result has no listing")
+    public int resultSize;
+
+    @Label("Mutating")
+    @Description("Whether the command may change the address book")
+    public boolean isMutating;
+}
@@ -0,0 +1,92 @@
+package seedu.addressbook.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimated bytes of heap retained by each structure of an address book.
+ */
+public class MemoryEstimate {
+
+    /**
+     * A part of the address book that retains heap.
+     */
+    public enum Structure {
+        PERSONS("persons"),
+        NAMES("names"),
+        PHONES("phones"),
+        EMAILS("emails"),
+        ADDRESSES("addresses"),
+        TAG_SETS("tag sets"),
+        TAGS("tags"),
+        PERSON_LIST("person list"),
+        TAG_INDEX("tag index"),
+        LAST_SHOWN_LIST("last shown list");
+
+        private final String name;
+
+        Structure(String name) {
+            this.name = name;
+        }
+
+        /** Returns the name of the structure as shown to the user. */
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final int persons;
+    private final Map<Structure, Long> bytesByStructure;
+
+    /**
+     * @param persons number of persons in the address book
+     * @param bytesByStructure estimated bytes retained by each structure; structures missing retain none
+     */
+    public MemoryEstimate(int persons, Map<Structure, Long> bytesByStructure) {
+        this.persons = persons;
+        this.bytesByStructure = new EnumMap<>(Structure.class);
+        for (Structure structure : Structure.values()) {
+            this.bytesByStructure.put(structure, bytesByStructure.getOrDefault(structure, 0L));
+        }
+    }
+
+    public int getPersons() {
+        return persons;
+    }
+
+    public long getBytes(Structure structure) {
+        return bytesByStructure.get(structure);
+    }
+
+    public long getTotalBytes() {
+        return bytesByStructure.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the estimated bytes retained per person, or 0 if there are no persons.
+     */
+    public double getBytesPerPerson() {
+        return persons == 0 ? 0 : (double) getTotalBytes() / persons;
+    }
+
+    /**
+     * Returns the estimated bytes that an address book of {@code otherPersons} persons like these would retain,
+     * assuming that every structure grows in proportion to the number of persons.
+     */
+    public long projectTotalBytes(long otherPersons) {
+        return Math.round(getBytesPerPerson() * otherPersons);
+    }
+
+    /**
+     * Returns the structures, from the one retaining the most heap to the one retaining the least.
+     */
+    public List<Structure> getTopContributors() {
+        final List<Structure> structures = new ArrayList<>(bytesByStructure.keySet());
+        structures.sort(Collections.reverseOrder((first, second) ->
+                Long.compare(bytesByStructure.get(first), bytesByStructure.get(second))));
+        return structures;
+    }
+}
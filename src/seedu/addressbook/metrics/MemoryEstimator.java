@@ -0,0 +1,228 @@
+package seedu.addressbook.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.PersonStore;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.CompactTagSet;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+
+/**
+ * Estimates the heap retained by an address book from the sizes of its persons' fields and collections,
+ * using the object layout of the running JVM: the size of object headers and references and the alignment
+ * of objects. Each store of persons estimates its own heap, see {@link PersonStore#estimateHeap}:
+ * the persons kept as objects are walked one by one, so that takes time in proportion to their number,
+ * while persons kept in another form are estimated from the arrays they are kept in, without decoding them.
+ *
+ * The estimates assume the layouts of OpenJDK 17, in which strings hold one byte per character if they can.
+ * Tags shared by several persons are counted once, and so are empty tag sets.
+ * Lists are counted as if their arrays were exactly as long as the lists.
+ */
+public class MemoryEstimator {
+
+    private static final int DEFAULT_ALIGNMENT = 8;
+    private static final float HASH_LOAD_FACTOR = 0.75f;
+    private static final int HASH_DEFAULT_CAPACITY = 16;
+
+    private final int referenceBytes;
+    private final int headerBytes;
+    private final int alignment;
+
+    /**
+     * Uses the object layout of the running JVM, or of a 64-bit HotSpot JVM with a heap of less than 32 GB
+     * if it cannot be found out.
+     */
+    public MemoryEstimator() {
+        this(isVmOptionEnabled("UseCompressedOops") ? 4 : 8,
+                isVmOptionEnabled("UseCompressedClassPointers") ? 12 : 16, getObjectAlignment());
+    }
+
+    /**
+     * @param referenceBytes size of a reference
+     * @param headerBytes size of the header of an object that is not an array
+     * @param alignment objects take up a multiple of this many bytes
+     */
+    public MemoryEstimator(int referenceBytes, int headerBytes, int alignment) {
+        this.referenceBytes = referenceBytes;
+        this.headerBytes = headerBytes;
+        this.alignment = alignment;
+    }
+
+    /**
+     * Estimates the heap retained by the {@code addressBook} and by the {@code lastShownList} of its persons.
+     */
+    public MemoryEstimate estimate(AddressBook addressBook, List<? extends ReadOnlyPerson> lastShownList) {
+        final Map<Structure, Long> bytes = new EnumMap<>(Structure.class);
+        final int persons = addressBook.readPersonStore(store -> {
+            store.estimateHeap(this, bytes);
+            return store.size();
+        });
+        // the map from each tag to the number of persons with it, with its counts boxed
+        final int indexedTags = addressBook.getTagIndexSize();
+        add(bytes, Structure.TAG_INDEX, hashMapBytes(indexedTags) + indexedTags * objectBytes(0, 4));
+        // an unmodifiable list, which keeps its own array once the address book changes
+        add(bytes, Structure.LAST_SHOWN_LIST, objectBytes(1, 0) + arrayListBytes(lastShownList.size()));
+        return new MemoryEstimate(persons, bytes);
+    }
+
+    /**
+     * Adds the bytes taken by {@code persons}, kept as {@link seedu.addressbook.data.person.Person} objects,
+     * and by their details to {@code bytes}. Tags and email domains shared by several of the persons are counted once.
+     */
+    public void addPersonObjects(Iterable<? extends ReadOnlyPerson> persons, Map<Structure, Long> bytes) {
+        final Set<Tag> countedTags = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<String> countedDomains = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ReadOnlyPerson person : persons) {
+            add(bytes, Structure.PERSONS, objectBytes(5, 0));
+            add(bytes, Structure.NAMES, objectBytes(1, 0) + stringBytes(person.getName().fullName));
+            add(bytes, Structure.PHONES, objectBytes(1, 1) + stringBytes(person.getPhone().value));
+            final Email email = person.getEmail();
+            add(bytes, Structure.EMAILS, objectBytes(2, 1) + stringBytes(email.getLocalPart())
+                    + (countedDomains.add(email.getDomain()) ? stringBytes(email.getDomain()) : 0));
+            add(bytes, Structure.ADDRESSES, objectBytes(1, 1) + stringBytes(person.getAddress().value));
+            final Set<Tag> tags = person.getTags();
+            add(bytes, Structure.TAG_SETS, tagSetBytes(tags));
+            for (Tag tag : tags) {
+                if (countedTags.add(tag)) {
+                    add(bytes, Structure.TAGS, tagBytes(tag));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bytes taken by a string of the given characters and its array.
+     */
+    public long stringBytes(String string) {
+        final boolean isLatin1 = string.chars().allMatch(c -> c < 256);
+        // hash, coder, hashIsZero and the array
+        return objectBytes(1, 4 + 1 + 1) + arrayBytes(string.length(), isLatin1 ? 1 : 2);
+    }
+
+    /**
+     * Returns the bytes taken by a tag and its name.
+     */
+    public long tagBytes(Tag tag) {
+        return objectBytes(1, 0) + stringBytes(tag.tagName);
+    }
+
+    /**
+     * Returns the bytes taken by a person's set of {@code tags}, not counting the tags.
+     * Empty {@link CompactTagSet}s are shared, so they take none.
+     */
+    public long tagSetBytes(Set<Tag> tags) {
+        if (!(tags instanceof CompactTagSet)) {
+            return hashSetBytes(tags.size());
+        }
+        if (tags.isEmpty()) {
+            return 0;
+        }
+        final int largeIds = ((CompactTagSet) tags).getLargeIdCount();
+        // largeIds; mask and hash
+        return objectBytes(1, 8 + 4) + (largeIds == 0 ? 0 : arrayBytes(largeIds, 4));
+    }
+
+    /**
+     * Returns the bytes taken by a {@link java.util.HashSet} of {@code size} elements, not counting the elements.
+     */
+    public long hashSetBytes(int size) {
+        return objectBytes(1, 0) + hashMapBytes(size);
+    }
+
+    /**
+     * Returns the bytes taken by a {@link java.util.HashMap} of {@code size} entries filled from empty,
+     * not counting the keys and values.
+     */
+    public long hashMapBytes(int size) {
+        // table, entrySet, keySet and values; size, modCount, threshold and loadFactor
+        final long map = objectBytes(4, 4 * 4);
+        // hash, key, value and next
+        final long nodes = size * objectBytes(3, 4);
+        return map + (size == 0 ? 0 : arrayBytes(hashTableCapacity(size), referenceBytes)) + nodes;
+    }
+
+    /**
+     * Returns the bytes taken by an {@link java.util.ArrayList} of {@code size} elements,
+     * not counting the elements.
+     */
+    public long arrayListBytes(int size) {
+        // elementData; size and modCount
+        return objectBytes(1, 4 + 4) + arrayBytes(size, referenceBytes);
+    }
+
+    /**
+     * Returns the bytes taken by an object with {@code references} reference fields
+     * and {@code primitiveBytes} bytes of primitive fields.
+     */
+    public long objectBytes(int references, int primitiveBytes) {
+        return align(headerBytes + (long) references * referenceBytes + primitiveBytes);
+    }
+
+    /**
+     * Returns the bytes taken by an array of {@code length} primitives of {@code elementBytes} bytes each.
+     */
+    public long arrayBytes(int length, int elementBytes) {
+        return align(headerBytes + 4 + (long) length * elementBytes);
+    }
+
+    /**
+     * Returns the bytes taken by an array of {@code length} references, not counting the objects referred to.
+     */
+    public long referenceArrayBytes(int length) {
+        return arrayBytes(length, referenceBytes);
+    }
+
+    private long align(long bytes) {
+        return (bytes + alignment - 1) / alignment * alignment;
+    }
+
+    private static int hashTableCapacity(int size) {
+        int capacity = HASH_DEFAULT_CAPACITY;
+        while (size > capacity * HASH_LOAD_FACTOR) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Adds {@code more} to the bytes of {@code structure} in {@code bytes}.
+     */
+    public static void add(Map<Structure, Long> bytes, Structure structure, long more) {
+        bytes.merge(structure, more, Long::sum);
+    }
+
+    private static boolean isVmOptionEnabled(String name) {
+        return Boolean.parseBoolean(getVmOption(name, "true"));
+    }
+
+    private static int getObjectAlignment() {
+        try {
+            return Integer.parseInt(getVmOption("ObjectAlignmentInBytes", String.valueOf(DEFAULT_ALIGNMENT)));
+        } catch (NumberFormatException nfe) {
+            return DEFAULT_ALIGNMENT;
+        }
+    }
+
+    /**
+     * Returns the value of a HotSpot VM option, or {@code defaultValue} if this JVM does not have it.
+     */
+    private static String getVmOption(String name, String defaultValue) {
+        try {
+            final HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return hotSpot == null ? defaultValue : hotSpot.getVMOption(name).getValue();
+        } catch (IllegalArgumentException iae) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.addressbook.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for copying a person list that is shared with a snapshot, before modifying it.
+ * This is the cost of keeping the snapshots taken by listings unchanged.
+ * Records the number of persons copied.
+ */
+@Name("seedu.addressbook.PersonListCopy")
+@Label("Person List Copy")
+@Category("Address Book")
+@Description("Copying a person list shared with a snapshot before modifying it")
+public class PersonListCopyEvent extends Event {
+
+    @Label("Persons")
+    @Description("Number of persons copied")
+    public int persons;
+}
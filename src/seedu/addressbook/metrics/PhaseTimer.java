@@ -0,0 +1,53 @@
+package seedu.addressbook.metrics;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Times the phases of one operation, such as parsing, executing and saving a command, one after another.
+ * Each phase lasts from the end of the previous one, or from {@link #start} for the first.
+ * Not thread-safe: the phases of an operation must be timed on one thread.
+ */
+public class PhaseTimer {
+
+    /**
+     * A phase of handling a command, or of starting the program.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE, RENDER, LOAD;
+
+        /** Returns the name of the phase as written in logs. */
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+    private long phaseStart;
+
+    /**
+     * Forgets the phases timed so far and starts timing the first phase of a new operation.
+     */
+    public void start() {
+        phaseNanos.clear();
+        phaseStart = System.nanoTime();
+    }
+
+    /**
+     * Ends the current phase, counting the time since the previous phase ended as {@code phase},
+     * and starts the next one.
+     */
+    public void endPhase(Phase phase) {
+        final long now = System.nanoTime();
+        phaseNanos.merge(phase, now - phaseStart, Long::sum);
+        phaseStart = now;
+    }
+
+    /**
+     * Returns the nanoseconds taken by each phase ended since the last {@link #start}.
+     */
+    public Map<Phase, Long> getPhaseNanos() {
+        return new EnumMap<>(phaseNanos);
+    }
+}
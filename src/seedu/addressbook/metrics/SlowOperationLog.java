@@ -0,0 +1,108 @@
+package seedu.addressbook.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import seedu.addressbook.metrics.PhaseTimer.Phase;
+
+/**
+ * Writes operations that took longer than a threshold, with the time taken by each of their phases
+ * and the size of the address book, to a local log file, one line per operation.
+ * The file is rotated when it reaches {@value #FILE_SIZE_LIMIT} bytes, keeping {@value #FILE_COUNT} files:
+ * the newest is {@code PATH.0}, the oldest {@code PATH.4}.
+ */
+public class SlowOperationLog implements Closeable {
+
+    public static final int FILE_SIZE_LIMIT = 1024 * 1024;
+    public static final int FILE_COUNT = 5;
+
+    public static final String OPERATION_COMMAND = "command";
+    public static final String OPERATION_LOAD = "load";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final Logger logger = Logger.getAnonymousLogger();
+    private final Handler handler;
+    private final long thresholdNanos;
+
+    /**
+     * Appends to the log files at {@code path}, rotating them as needed.
+     *
+     * @param thresholdMillis operations taking longer than this are logged
+     * @throws IOException if the log file cannot be opened.
+     */
+    public SlowOperationLog(String path, long thresholdMillis) throws IOException {
+        // FileHandler treats '%' as the start of a placeholder in the file name pattern
+        this(new FileHandler(path.replace("%", "%%"), FILE_SIZE_LIMIT, FILE_COUNT, true), thresholdMillis);
+    }
+
+    /**
+     * Writes the log entries to {@code handler}.
+     */
+    SlowOperationLog(Handler handler, long thresholdMillis) {
+        this.handler = handler;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        handler.setFormatter(new EntryFormatter());
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+    }
+
+    /**
+     * Logs the operation if its phases took longer than the threshold in total.
+     *
+     * @param operation kind of operation, such as {@value #OPERATION_COMMAND}
+     * @param text text of the command, written as given, or null if there is none;
+     *             private details must already have been redacted from it
+     * @param phaseNanos nanoseconds taken by each phase of the operation
+     * @param persons number of persons in the address book after the operation
+     * @return true if the operation was logged
+     */
+    public boolean logIfSlow(String operation, String text, Map<Phase, Long> phaseNanos, int persons) {
+        final long totalNanos = phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+        if (totalNanos <= thresholdNanos) {
+            return false;
+        }
+        final StringBuilder entry = new StringBuilder(operation);
+        appendMillis(entry, "total", totalNanos);
+        for (Map.Entry<Phase, Long> phase : phaseNanos.entrySet()) {
+            appendMillis(entry, phase.getKey().getName(), phase.getValue());
+        }
+        entry.append(" persons=").append(persons);
+        if (text != null) {
+            entry.append(" text=").append(text);
+        }
+        logger.log(Level.WARNING, entry.toString());
+        return true;
+    }
+
+    private static void appendMillis(StringBuilder entry, String name, long nanos) {
+        entry.append(' ').append(name).append('=').append(String.format("%.3fms", nanos / NANOS_PER_MILLI));
+    }
+
+    /**
+     * Flushes and closes the log file.
+     */
+    @Override
+    public void close() {
+        logger.removeHandler(handler);
+        handler.close();
+    }
+
+    /**
+     * Writes each entry on a line of its own, after the local time it was logged at.
+     */
+    private static class EntryFormatter extends Formatter {
+        @Override
+        public String format(LogRecord record) {
+            return String.format("%1$tF %1$tT.%1$tL %2$s%n", record.getMillis(), record.getMessage());
+        }
+    }
+}
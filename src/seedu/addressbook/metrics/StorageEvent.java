@@ -0,0 +1,38 @@
+package seedu.addressbook.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for saving or loading the address book.
+ * Records whether it saved or loaded, the path and size of the storage file, and the number of persons.
+ */
+@Name("seedu.addressbook.Storage")
+@Label("Storage")
+@Category("Address Book")
+@Description("Saving the address book to, or loading it from, the storage file")
+public class StorageEvent extends Event {
+
+    public static final String SAVE = "save";
+    public static final String LOAD = "load";
+
+    @Label("Operation")
+    @Description("\"" + SAVE + "\" or \"" + LOAD + "\"")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Size")
+    @Description("Size of the storage file after saving, or before loading")
+    @DataAmount
+    public long bytes;
+
+    @Label("Persons")
+    @Description("Number of persons saved or loaded")
+    public int persons;
+}
@@ -0,0 +1,95 @@
+package seedu.addressbook.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Counts non-negative values, such as latencies in nanoseconds or bytes allocated, in buckets whose width grows
+ * with the value, so that any value up to {@link Long#MAX_VALUE} is counted in a fixed amount of memory,
+ * at constant cost, and to within 1/16 of its value.
+ * Each power of two is split into {@value #SUB_BUCKETS} buckets of equal width; values below
+ * {@value #SUB_BUCKETS} have a bucket each.
+ */
+public class ValueHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one value. Negative values are counted as 0.
+     */
+    public synchronized void record(long recorded) {
+        final long value = Math.max(0, recorded);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all values recorded.
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the mean value, or 0 if none have been recorded.
+     */
+    public synchronized long getMean() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns a value that {@code percentile} percent of the values recorded are not above,
+     * to within the width of its bucket, or 0 if none have been recorded.
+     */
+    public synchronized long getPercentile(double percentile) {
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(bucket), max);
+            }
+        }
+        return 0;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.addressbook.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records a value of each operation, such as how long it took or how much memory it allocated,
+ * into a {@link ValueHistogram} for each kind of operation, named by the caller.
+ */
+public class ValueRecorder {
+
+    /** Latencies of executing commands in nanoseconds, by command word. */
+    public static final ValueRecorder COMMANDS = new ValueRecorder();
+
+    /** Latencies of saving and loading the address book in nanoseconds. */
+    public static final ValueRecorder STORAGE = new ValueRecorder();
+
+    /** Bytes of memory allocated by executing commands, by command word. */
+    public static final ValueRecorder ALLOCATIONS = new ValueRecorder();
+
+    private final Map<String, ValueHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records the value of one operation of the given kind.
+     */
+    public void record(String operation, long value) {
+        histograms.computeIfAbsent(operation, name -> new ValueHistogram()).record(value);
+    }
+
+    /**
+     * Returns the histograms of all kinds of operation recorded since the last reset, by name in sorted order.
+     */
+    public SortedMap<String, ValueHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Forgets all values recorded.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Measurements of the address book while it runs: latency and allocation counts per command, JMX metrics,
+ * memory estimates, a log of slow operations and JDK Flight Recorder events.
+ *
+ * The Flight Recorder events cost next to nothing when they are not being recorded. Whoever commits one
+ * checks {@code shouldCommit()} after ending it, and only then fills in its fields and commits it.
+ */
+package seedu.addressbook.metrics;
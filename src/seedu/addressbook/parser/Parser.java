@@ -20,6 +20,11 @@ import seedu.addressbook.commands.FindCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.MemStatsCommand;
+import seedu.addressbook.commands.NextPageCommand;
+import seedu.addressbook.commands.PreviousPageCommand;
+import seedu.addressbook.commands.StatsCommand;
+import seedu.addressbook.commands.UseCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.commands.ViewCommand;
 import seedu.addressbook.data.exception.IllegalValueException;
@@ -41,6 +46,16 @@ public class Parser {
                     + " (?<isAddressPrivate>p?)a/(?<address>[^/]+)"
                     + "(?<tagArguments>(?: t/[^/]+)*)"); // variable number of tags
 
+    /**
+     * A contact detail marked private in the add command's arguments: its prefix, then its value,
+     * which runs up to the next prefix of a detail or tag, or the end of the arguments.
+     * The value may contain anything else, even slashes, so that a malformed value is still matched in full.
+     */
+    public static final Pattern PRIVATE_DETAIL_FORMAT =
+            Pattern.compile("(?<prefix> p[pea]/).*?(?= (?:p?[pea]|t)/|$)");
+
+    /** Shown instead of the values of private contact details in redacted user input. */
+    public static final String REDACTED_VALUE = "*****";
 
     /**
      * Used for initial separation of command word and args.
@@ -59,9 +74,25 @@ public class Parser {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        return prepareCommand(matcher.group("commandWord"), matcher.group("arguments"));
+    }
+
+    /**
+     * Returns the user input with the values of any contact details marked private replaced by
+     * {@link #REDACTED_VALUE}, so that it can be written where the user did not choose to show them.
+     */
+    public static String redactPrivateDetails(String userInput) {
+        return PRIVATE_DETAIL_FORMAT.matcher(userInput).replaceAll("${prefix}" + REDACTED_VALUE);
+    }
 
+    /**
+     * Prepares the command named by the command word from its arguments.
+     *
+     * @param commandWord first word of the user input
+     * @param arguments rest of the user input, containing no line terminators
+     * @return the command based on the user input
+     */
+    protected Command prepareCommand(String commandWord, String arguments) {
         switch (commandWord) {
 
         case AddCommand.COMMAND_WORD:
@@ -79,12 +110,27 @@ public class Parser {
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
+        case NextPageCommand.COMMAND_WORD:
+            return new NextPageCommand();
+
+        case PreviousPageCommand.COMMAND_WORD:
+            return new PreviousPageCommand();
+
         case ViewCommand.COMMAND_WORD:
             return prepareView(arguments);
 
         case ViewAllCommand.COMMAND_WORD:
             return prepareViewAll(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return prepareStats(arguments);
+
+        case MemStatsCommand.COMMAND_WORD:
+            return prepareMemStats(arguments);
+
+        case UseCommand.COMMAND_WORD:
+            return prepareUse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -100,7 +146,7 @@ public class Parser {
      * @param args full command args string
      * @return the prepared command
      */
-    private Command prepareAdd(String args) {
+    protected Command prepareAdd(String args) {
         final Matcher matcher = PERSON_DATA_ARGS_FORMAT.matcher(args.trim());
         // Validate arg string format
         if (!matcher.matches()) {
@@ -211,7 +257,7 @@ public class Parser {
      * @throws ParseException if no region of the args string could be found for the index
      * @throws NumberFormatException the args string region is not a valid number
      */
-    private int parseArgsAsDisplayedIndex(String args) throws ParseException, NumberFormatException {
+    protected int parseArgsAsDisplayedIndex(String args) throws ParseException, NumberFormatException {
         final Matcher matcher = PERSON_INDEX_ARGS_FORMAT.matcher(args.trim());
         if (!matcher.matches()) {
             throw new ParseException("Could not find index number to parse");
@@ -226,7 +272,7 @@ public class Parser {
      * @param args full command args string
      * @return the prepared command
      */
-    private Command prepareFind(String args) {
+    protected Command prepareFind(String args) {
         final Matcher matcher = KEYWORDS_ARGS_FORMAT.matcher(args.trim());
         if (!matcher.matches()) {
             return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -239,6 +285,64 @@ public class Parser {
         return new FindCommand(keywordSet);
     }
 
+    /**
+     * Parses arguments in the context of the stats command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStats(String args) {
+        switch (args.trim()) {
+        case "":
+            return new StatsCommand(StatsCommand.Mode.LATENCIES);
+        case StatsCommand.ALLOCATIONS_ARGUMENT:
+            return new StatsCommand(StatsCommand.Mode.ALLOCATIONS);
+        case StatsCommand.RESET_ARGUMENT:
+            return new StatsCommand(StatsCommand.Mode.RESET);
+        default:
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the memstats command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareMemStats(String args) {
+        final String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new MemStatsCommand(MemStatsCommand.DEFAULT_PROJECTED_PERSONS);
+        }
+        try {
+            final long projectedPersons = Long.parseLong(trimmedArgs);
+            if (projectedPersons > 0) {
+                return new MemStatsCommand(projectedPersons);
+            }
+        } catch (NumberFormatException nfe) {
+            // shown as an invalid format below
+        }
+        return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MemStatsCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses arguments in the context of the use command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareUse(String args) {
+        final String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new UseCommand(null);
+        }
+        if (trimmedArgs.split("\\s+").length > 1) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UseCommand.MESSAGE_USAGE));
+        }
+        return new UseCommand(trimmedArgs);
+    }
+
     /**
      * Signals that the user input could not be parsed.
      */
@@ -0,0 +1,225 @@
+package seedu.addressbook.parser;
+
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.HelpCommand;
+import seedu.addressbook.commands.IncorrectCommand;
+import seedu.addressbook.data.exception.IllegalValueException;
+
+/**
+ * Parses user input by scanning it once, without regular expressions.
+ * Accepts exactly the same input as {@link Parser} and produces the same commands and error messages.
+ * Holds no state, so a single instance can be reused for all input, including from several threads.
+ */
+public class TokenizingParser extends Parser {
+
+    private static final char DELIMITER = '/';
+    private static final char PRIVATE_PREFIX = 'p';
+    private static final char PHONE_PREFIX = 'p';
+    private static final char EMAIL_PREFIX = 'e';
+    private static final char ADDRESS_PREFIX = 'a';
+    private static final char TAG_PREFIX = 't';
+
+    /** Minimum number of '/'-separated segments in the add command's arguments: name, phone, email, address. */
+    private static final int MIN_PERSON_DATA_SEGMENTS = 4;
+
+    @Override
+    public Command parseCommand(String userInput) {
+        final String input = userInput.trim();
+        final int commandWordEnd = indexOfWhitespace(input, 0);
+        if (input.isEmpty() || containsLineTerminator(input, commandWordEnd)) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+        return prepareCommand(input.substring(0, commandWordEnd), input.substring(commandWordEnd));
+    }
+
+    /**
+     * Parses arguments in the context of the add person command.
+     * Since '/' only appears at the end of a delimiter prefix, each field is the text between two slashes
+     * with the next field's prefix removed from its end.
+     */
+    @Override
+    protected Command prepareAdd(String args) {
+        final List<String> segments = splitOnDelimiters(args.trim());
+        if (segments.size() < MIN_PERSON_DATA_SEGMENTS) {
+            return incorrectAddCommand();
+        }
+        final String nameSegment = segments.get(0);
+        final String phoneSegment = segments.get(1);
+        final String emailSegment = segments.get(2);
+        final int phonePrefixLength = getPrefixLength(nameSegment, PHONE_PREFIX);
+        final int emailPrefixLength = getPrefixLength(phoneSegment, EMAIL_PREFIX);
+        final int addressPrefixLength = getPrefixLength(emailSegment, ADDRESS_PREFIX);
+        if (phonePrefixLength == 0 || emailPrefixLength == 0 || addressPrefixLength == 0) {
+            return incorrectAddCommand();
+        }
+
+        final boolean hasTags = segments.size() > MIN_PERSON_DATA_SEGMENTS;
+        final String address = hasTags ? removeTagPrefix(segments.get(3)) : segments.get(3);
+        if (address == null || address.isEmpty()) {
+            return incorrectAddCommand();
+        }
+        final Set<String> tags = hasTags ? new HashSet<>() : Collections.emptySet();
+        final int lastSegment = segments.size() - 1;
+        for (int i = MIN_PERSON_DATA_SEGMENTS; i < lastSegment; i++) {
+            final String tag = removeTagPrefix(segments.get(i));
+            if (tag == null) {
+                return incorrectAddCommand();
+            }
+            tags.add(tag);
+        }
+        if (hasTags) {
+            if (segments.get(lastSegment).isEmpty()) {
+                return incorrectAddCommand();
+            }
+            tags.add(segments.get(lastSegment));
+        }
+
+        try {
+            return new AddCommand(
+                    removeSuffix(nameSegment, phonePrefixLength),
+
+                    removeSuffix(phoneSegment, emailPrefixLength),
+                    isPrivatePrefixLength(phonePrefixLength),
+
+                    removeSuffix(emailSegment, addressPrefixLength),
+                    isPrivatePrefixLength(emailPrefixLength),
+
+                    address,
+                    isPrivatePrefixLength(addressPrefixLength),
+
+                    tags
+            );
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    @Override
+    protected int parseArgsAsDisplayedIndex(String args) throws ParseException, NumberFormatException {
+        final String index = args.trim();
+        if (index.isEmpty()) {
+            throw new ParseException("Could not find index number to parse");
+        }
+        return Integer.parseInt(index);
+    }
+
+    @Override
+    protected Command prepareFind(String args) {
+        final String keywords = args.trim();
+        if (keywords.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        // keywords delimited by whitespace
+        final Set<String> keywordSet = new HashSet<>();
+        int keywordStart = 0;
+        while (keywordStart < keywords.length()) {
+            final int keywordEnd = indexOfWhitespace(keywords, keywordStart);
+            keywordSet.add(keywords.substring(keywordStart, keywordEnd));
+            keywordStart = indexOfNonWhitespace(keywords, keywordEnd);
+        }
+        return new FindCommand(keywordSet);
+    }
+
+    private static IncorrectCommand incorrectAddCommand() {
+        return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Splits the string at every '/', keeping empty segments.
+     */
+    private static List<String> splitOnDelimiters(String personData) {
+        final List<String> segments = new ArrayList<>(MIN_PERSON_DATA_SEGMENTS);
+        int segmentStart = 0;
+        int delimiter;
+        while ((delimiter = personData.indexOf(DELIMITER, segmentStart)) != -1) {
+            segments.add(personData.substring(segmentStart, delimiter));
+            segmentStart = delimiter + 1;
+        }
+        segments.add(personData.substring(segmentStart));
+        return segments;
+    }
+
+    /**
+     * Returns the length of the delimiter prefix ending the segment, including the space before it:
+     * 3 for a private prefix such as {@code " pe"}, 2 for a plain one such as {@code " e"},
+     * or 0 if the segment does not end with the prefix or has no value before it.
+     */
+    private static int getPrefixLength(String segment, char prefix) {
+        final int length = segment.length();
+        if (length < 3 || segment.charAt(length - 1) != prefix) {
+            return 0;
+        }
+        if (length > 3 && segment.charAt(length - 2) == PRIVATE_PREFIX && segment.charAt(length - 3) == ' ') {
+            return 3;
+        }
+        return segment.charAt(length - 2) == ' ' ? 2 : 0;
+    }
+
+    /**
+     * Returns the value before the {@code " t"} prefix ending the segment,
+     * or null if the segment does not end with it or has no value before it.
+     */
+    private static String removeTagPrefix(String segment) {
+        final int length = segment.length();
+        if (length < 3 || segment.charAt(length - 1) != TAG_PREFIX || segment.charAt(length - 2) != ' ') {
+            return null;
+        }
+        return removeSuffix(segment, 2);
+    }
+
+    private static boolean isPrivatePrefixLength(int prefixLength) {
+        return prefixLength == 3;
+    }
+
+    private static String removeSuffix(String segment, int suffixLength) {
+        return segment.substring(0, segment.length() - suffixLength);
+    }
+
+    /**
+     * Returns the index of the first whitespace character at or after {@code from}, or the length of the string.
+     * Whitespace is as defined by {@code \s} in regular expressions.
+     */
+    private static int indexOfWhitespace(String s, int from) {
+        int i = from;
+        while (i < s.length() && !isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOfNonWhitespace(String s, int from) {
+        int i = from;
+        while (i < s.length() && isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if the string contains, at or after {@code from}, a character that {@code .} does not match
+     * in regular expressions.
+     */
+    private static boolean containsLineTerminator(String s, int from) {
+        for (int i = from; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
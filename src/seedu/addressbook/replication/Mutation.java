@@ -0,0 +1,95 @@
+package seedu.addressbook.replication;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.storage.AddressBookDecoder;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * One change to an address book, as recorded in the {@link MutationLog}.
+ * The person involved is kept in the storage file format.
+ */
+public class Mutation {
+
+    /**
+     * The kinds of change that are replicated.
+     */
+    public enum Type {
+        ADD, DELETE, CLEAR
+    }
+
+    private static final String FIELD_SEPARATOR = " ";
+    private static final int NUMBER_OF_FIELDS = 4;
+
+    /** Position of this change in the log, starting from 1. */
+    public final long sequence;
+
+    /** Time at which the change was made on the primary, in milliseconds since the epoch. */
+    public final long timestampMillis;
+
+    public final Type type;
+
+    /** The added or deleted person in the storage file format, or an empty string for a clear. */
+    public final String encodedPerson;
+
+    public Mutation(long sequence, long timestampMillis, Type type, String encodedPerson) {
+        this.sequence = sequence;
+        this.timestampMillis = timestampMillis;
+        this.type = type;
+        this.encodedPerson = encodedPerson;
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the change cannot be applied, which means the address book has diverged
+     *     from the one the change was made to.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            switch (type) {
+            case ADD:
+                addressBook.addPerson(AddressBookDecoder.decodePerson(encodedPerson));
+                break;
+            case DELETE:
+                addressBook.removePerson(AddressBookDecoder.decodePerson(encodedPerson));
+                break;
+            case CLEAR:
+                addressBook.clear();
+                break;
+            default:
+                throw new AssertionError("Unknown mutation type " + type);
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException | StorageOperationException e) {
+            throw new IllegalValueException("Mutation " + sequence + " does not apply: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes this change as a single line of text.
+     */
+    public String encode() {
+        return sequence + FIELD_SEPARATOR + timestampMillis + FIELD_SEPARATOR + type + FIELD_SEPARATOR
+                + encodedPerson;
+    }
+
+    /**
+     * Decodes a change from the line of text produced by {@link #encode()}.
+     *
+     * @throws IllegalValueException if the line is not an encoded change.
+     */
+    public static Mutation decode(String encodedMutation) throws IllegalValueException {
+        final String[] fields = encodedMutation.split(FIELD_SEPARATOR, NUMBER_OF_FIELDS);
+        if (fields.length != NUMBER_OF_FIELDS) {
+            throw new IllegalValueException("Encoded mutation in invalid format: " + encodedMutation);
+        }
+        try {
+            return new Mutation(Long.parseLong(fields[0]), Long.parseLong(fields[1]), Type.valueOf(fields[2]),
+                    fields[3]);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException("Encoded mutation in invalid format: " + encodedMutation);
+        }
+    }
+}
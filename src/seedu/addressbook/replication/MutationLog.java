@@ -0,0 +1,100 @@
+package seedu.addressbook.replication;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.replication.Mutation.Type;
+import seedu.addressbook.storage.AddressBookEncoder;
+
+/**
+ * Records the changes made to an address book, numbering them from 1.
+ * Only the most recent changes are retained; a follower that needs older ones must resync from a snapshot.
+ */
+public class MutationLog implements AddressBook.MutationListener {
+
+    private final int capacity;
+    private final ArrayDeque<Mutation> retainedEntries;
+    private long latestSequence;
+
+    /**
+     * @param capacity the number of most recent changes retained
+     */
+    public MutationLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Mutation log capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.retainedEntries = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public void personAdded(ReadOnlyPerson added) {
+        append(Type.ADD, AddressBookEncoder.encodePerson(added));
+    }
+
+    @Override
+    public void personRemoved(ReadOnlyPerson removed) {
+        append(Type.DELETE, AddressBookEncoder.encodePerson(removed));
+    }
+
+    @Override
+    public void cleared() {
+        append(Type.CLEAR, "");
+    }
+
+    private synchronized void append(Type type, String encodedPerson) {
+        if (retainedEntries.size() == capacity) {
+            retainedEntries.removeFirst();
+        }
+        latestSequence++;
+        retainedEntries.addLast(new Mutation(latestSequence, System.currentTimeMillis(), type, encodedPerson));
+        notifyAll();
+    }
+
+    /**
+     * Returns the sequence number of the latest change, or 0 if there has been none.
+     */
+    public synchronized long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Returns the changes after the one numbered {@code sequence}, in order,
+     * or null if some of them are no longer retained.
+     */
+    public synchronized List<Mutation> getEntriesAfter(long sequence) {
+        final long firstRetainedSequence = latestSequence - retainedEntries.size() + 1;
+        if (sequence < firstRetainedSequence - 1) {
+            return null;
+        }
+        if (sequence >= latestSequence) {
+            return Collections.emptyList();
+        }
+        final List<Mutation> entries = new ArrayList<>((int) (latestSequence - sequence));
+        for (Mutation entry : retainedEntries) {
+            if (entry.sequence > sequence) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Waits up to {@code timeoutMillis} for changes after the one numbered {@code sequence},
+     * then returns them as {@link #getEntriesAfter(long)} does.
+     */
+    public synchronized List<Mutation> awaitEntriesAfter(long sequence, long timeoutMillis)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remainingMillis = timeoutMillis;
+        while (latestSequence <= sequence && remainingMillis > 0) {
+            wait(remainingMillis);
+            remainingMillis = deadline - System.currentTimeMillis();
+        }
+        return getEntriesAfter(sequence);
+    }
+}
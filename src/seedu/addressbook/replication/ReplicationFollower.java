@@ -0,0 +1,246 @@
+package seedu.addressbook.replication;
+
+import static seedu.addressbook.replication.ReplicationPrimary.HEARTBEAT_INTERVAL_MILLIS;
+import static seedu.addressbook.replication.ReplicationPrimary.MESSAGE_ENTRY;
+import static seedu.addressbook.replication.ReplicationPrimary.MESSAGE_HEARTBEAT;
+import static seedu.addressbook.replication.ReplicationPrimary.MESSAGE_SNAPSHOT;
+import static seedu.addressbook.replication.ReplicationPrimary.REQUEST_FOLLOW;
+import static seedu.addressbook.replication.ReplicationPrimary.writeLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.storage.AddressBookDecoder;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Keeps a read-only copy of an address book up to date with a {@link ReplicationPrimary} on the same machine.
+ *
+ * Changes are applied on a background thread as they arrive. If the connection is lost, the follower reconnects
+ * and continues from the last change it applied. If it falls more than a given number of changes behind the
+ * primary, or a change does not apply cleanly, it discards its copy and resyncs from a fresh snapshot.
+ */
+public class ReplicationFollower implements AutoCloseable {
+
+    /** Default number of changes the follower may fall behind before it resyncs from a snapshot. */
+    public static final long DEFAULT_MAX_LAG_ENTRIES = 10_000;
+
+    private static final long NO_SEQUENCE = -1;
+    private static final long RECONNECT_DELAY_MILLIS = 200;
+    private static final int READ_TIMEOUT_MILLIS = (int) (HEARTBEAT_INTERVAL_MILLIS * 4);
+
+    private final AddressBook addressBook;
+    private final int port;
+    private final long maxLagEntries;
+    private final CountDownLatch initialSync = new CountDownLatch(1);
+
+    private volatile long appliedSequence = NO_SEQUENCE;
+    private volatile long primarySequence;
+    private volatile long lagMillis;
+    private volatile long resyncCount;
+    private volatile boolean isClosed;
+    private volatile Socket socket;
+    private Thread followerThread;
+
+    /**
+     * @param addressBook the copy to keep up to date; its contents are replaced by the primary's
+     * @param port the port the primary listens on
+     * @param maxLagEntries the number of changes the follower may fall behind before it resyncs from a snapshot
+     */
+    public ReplicationFollower(AddressBook addressBook, int port, long maxLagEntries) {
+        this.addressBook = addressBook;
+        this.port = port;
+        this.maxLagEntries = maxLagEntries;
+    }
+
+    /**
+     * Starts following the primary in the background.
+     */
+    public void start() {
+        followerThread = new Thread(this::followUntilClosed, "replication-follower");
+        followerThread.setDaemon(true);
+        followerThread.start();
+    }
+
+    /**
+     * Waits until the first snapshot from the primary has been applied.
+     *
+     * @return false if that did not happen within the timeout
+     */
+    public boolean awaitInitialSync(long timeoutMillis) throws InterruptedException {
+        return initialSync.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the sequence number of the last change applied, or -1 if no snapshot has been applied yet.
+     */
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Returns how many changes the primary had made, at its last report, that are not yet applied here.
+     */
+    public long getLagEntries() {
+        return Math.max(0, primarySequence - Math.max(0, appliedSequence));
+    }
+
+    /**
+     * Returns how long after it was made on the primary the last change was applied here,
+     * or 0 if this copy has since caught up.
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * Returns how many times this copy was discarded and resynced from a snapshot.
+     */
+    public long getResyncCount() {
+        return resyncCount;
+    }
+
+    /**
+     * Stops following the primary. The copy keeps the changes applied so far.
+     */
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        final Socket current = socket;
+        if (current != null) {
+            current.close();
+        }
+        if (followerThread != null) {
+            followerThread.interrupt();
+        }
+    }
+
+    private void followUntilClosed() {
+        while (!isClosed) {
+            boolean shouldResyncNow = false;
+            try (Socket connection = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket = connection;
+                connection.setSoTimeout(READ_TIMEOUT_MILLIS);
+                shouldResyncNow = follow(connection);
+            } catch (IOException | IllegalValueException | StorageOperationException e) {
+                // the primary is unreachable or sent something unusable; reconnect and carry on from where we were
+            }
+            if (shouldResyncNow) {
+                continue;
+            }
+            try {
+                Thread.sleep(RECONNECT_DELAY_MILLIS);
+            } catch (InterruptedException ie) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Applies the changes streamed over {@code connection} until it is closed.
+     *
+     * @return true if the connection was given up to resync from a snapshot
+     */
+    private boolean follow(Socket connection) throws IOException, IllegalValueException, StorageOperationException {
+        final BufferedReader in = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+        final Writer out = new BufferedWriter(
+                new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8));
+        writeLine(out, REQUEST_FOLLOW + " " + appliedSequence);
+        out.flush();
+
+        String line;
+        while ((line = in.readLine()) != null && !isClosed) {
+            final int separator = line.indexOf(' ');
+            final String messageType = separator == -1 ? line : line.substring(0, separator);
+            final String body = line.substring(separator + 1);
+            switch (messageType) {
+            case MESSAGE_SNAPSHOT:
+                applySnapshot(body, in);
+                break;
+            case MESSAGE_ENTRY:
+                if (!applyEntry(Mutation.decode(body))) {
+                    requestResync();
+                    return true;
+                }
+                break;
+            case MESSAGE_HEARTBEAT:
+                primarySequence = Math.max(primarySequence, Long.parseLong(body));
+                if (getLagEntries() > maxLagEntries) {
+                    requestResync();
+                    return true;
+                }
+                if (getLagEntries() == 0) {
+                    lagMillis = 0;
+                }
+                break;
+            default:
+                throw new IllegalValueException("Unknown replication message: " + line);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces the contents of the copy with the snapshot whose header is {@code header}.
+     */
+    private void applySnapshot(String header, BufferedReader in)
+            throws IOException, IllegalValueException, StorageOperationException {
+        final String[] fields = header.split(" ");
+        final long sequence = Long.parseLong(fields[0]);
+        final int count = Integer.parseInt(fields[1]);
+        final List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String encodedPerson = in.readLine();
+            if (encodedPerson == null) {
+                throw new IOException("Connection closed in the middle of a snapshot");
+            }
+            persons.add(AddressBookDecoder.decodePerson(encodedPerson));
+        }
+        addressBook.resetData(new UniquePersonList(persons));
+        appliedSequence = sequence;
+        primarySequence = Math.max(primarySequence, sequence);
+        lagMillis = 0;
+        initialSync.countDown();
+    }
+
+    /**
+     * Applies the given change if it is the next one due.
+     *
+     * @return false if the copy has diverged from the primary and must be resynced
+     */
+    private boolean applyEntry(Mutation entry) {
+        if (appliedSequence == NO_SEQUENCE || entry.sequence != appliedSequence + 1) {
+            return entry.sequence <= appliedSequence;
+        }
+        try {
+            entry.applyTo(addressBook);
+        } catch (IllegalValueException ive) {
+            return false;
+        }
+        appliedSequence = entry.sequence;
+        primarySequence = Math.max(primarySequence, entry.sequence);
+        lagMillis = Math.max(0, System.currentTimeMillis() - entry.timestampMillis);
+        return true;
+    }
+
+    private void requestResync() {
+        appliedSequence = NO_SEQUENCE;
+        resyncCount++;
+    }
+}
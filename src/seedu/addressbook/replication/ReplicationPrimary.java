@@ -0,0 +1,165 @@
+package seedu.addressbook.replication;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.storage.AddressBookEncoder;
+
+/**
+ * Streams the changes made to an address book to read-only followers connecting on a local socket.
+ *
+ * A follower opens the connection with {@code FOLLOW <sequence>}, the number of the last change it has applied,
+ * or -1 if it has none. If the changes after it are still in the log, they are streamed from there;
+ * otherwise the follower is first sent a snapshot of the whole book.
+ * A heartbeat carrying the latest sequence number follows every batch of changes, and is repeated while idle,
+ * so that followers can measure how far behind they are.
+ */
+public class ReplicationPrimary implements AutoCloseable {
+
+    /** Default number of recent changes retained for followers that reconnect. */
+    public static final int DEFAULT_LOG_CAPACITY = 100_000;
+
+    static final String REQUEST_FOLLOW = "FOLLOW";
+    static final String MESSAGE_SNAPSHOT = "SNAPSHOT";
+    static final String MESSAGE_ENTRY = "ENTRY";
+    static final String MESSAGE_HEARTBEAT = "HEARTBEAT";
+    static final long HEARTBEAT_INTERVAL_MILLIS = 500;
+
+    private final AddressBook addressBook;
+    private final MutationLog log;
+    private final ExecutorService connectionThreads = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "replication-primary");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ServerSocket serverSocket;
+    private volatile boolean isClosed;
+
+    /**
+     * Starts recording the changes made to {@code addressBook} from now on.
+     *
+     * @param logCapacity number of recent changes retained for followers that reconnect
+     */
+    public ReplicationPrimary(AddressBook addressBook, int logCapacity) {
+        this.addressBook = addressBook;
+        this.log = new MutationLog(logCapacity);
+        addressBook.addMutationListener(log);
+    }
+
+    /**
+     * Starts accepting followers on the given port of the loopback interface.
+     *
+     * @param port the port to listen on, or 0 to pick a free one
+     * @throws IOException if the port could not be opened.
+     */
+    public void start(int port) throws IOException {
+        serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        connectionThreads.execute(this::acceptFollowers);
+    }
+
+    /**
+     * Returns the port followers connect to.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public MutationLog getLog() {
+        return log;
+    }
+
+    /**
+     * Stops accepting followers and disconnects the connected ones.
+     */
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        connectionThreads.shutdownNow();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    private void acceptFollowers() {
+        try {
+            while (!isClosed) {
+                final Socket follower = serverSocket.accept();
+                connectionThreads.execute(() -> serveFollower(follower));
+            }
+        } catch (IOException ioe) {
+            // the server socket was closed
+        }
+    }
+
+    /**
+     * Streams changes to one follower until it disconnects or this primary is closed.
+     */
+    private void serveFollower(Socket follower) {
+        try (Socket socket = follower;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            final String request = in.readLine();
+            if (request == null || !request.startsWith(REQUEST_FOLLOW + " ")) {
+                return;
+            }
+            long sentSequence = Long.parseLong(request.substring(REQUEST_FOLLOW.length() + 1));
+            List<Mutation> entries = sentSequence < 0 ? null : log.getEntriesAfter(sentSequence);
+            while (!isClosed) {
+                if (entries == null) {
+                    sentSequence = sendSnapshot(out);
+                } else {
+                    for (Mutation entry : entries) {
+                        writeLine(out, MESSAGE_ENTRY + " " + entry.encode());
+                        sentSequence = entry.sequence;
+                    }
+                }
+                writeLine(out, MESSAGE_HEARTBEAT + " " + log.getLatestSequence());
+                out.flush();
+                entries = log.awaitEntriesAfter(sentSequence, HEARTBEAT_INTERVAL_MILLIS);
+            }
+        } catch (IOException | NumberFormatException e) {
+            // the follower disconnected or sent a malformed request; it will reconnect if it wants to
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends a snapshot of the whole address book and returns the sequence number of the last change it includes.
+     */
+    private long sendSnapshot(Writer out) throws IOException {
+        final long sequence;
+        final List<ReadOnlyPerson> persons;
+        // the book is locked while changes are logged, so the snapshot and sequence number are consistent
+        synchronized (addressBook) {
+            sequence = log.getLatestSequence();
+            persons = addressBook.getAllPersonsSnapshot();
+        }
+        writeLine(out, MESSAGE_SNAPSHOT + " " + sequence + " " + persons.size());
+        for (ReadOnlyPerson person : persons) {
+            writeLine(out, AddressBookEncoder.encodePerson(person));
+        }
+        return sequence;
+    }
+
+    static void writeLine(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+    }
+}
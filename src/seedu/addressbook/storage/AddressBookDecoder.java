@@ -12,11 +12,13 @@ import java.util.regex.Matcher;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.ColumnarPersonStore;
 import seedu.addressbook.data.person.Email;
 import seedu.addressbook.data.person.Name;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.Phone;
 import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
 import seedu.addressbook.data.tag.Tag;
 import seedu.addressbook.storage.StorageFile.StorageOperationException;
 
@@ -33,20 +35,83 @@ public class AddressBookDecoder {
      */
     public static AddressBook decodeAddressBook(List<String> encodedAddressBook)
             throws IllegalValueException, StorageOperationException {
+        return decodeAddressBook(encodedAddressBook, new LoadProgress());
+    }
+
+    /**
+     * Decodes {@code encodedAddressBook} like {@link #decodeAddressBook(List)}, counting the decoded persons
+     * in {@code progress}.
+     */
+    static AddressBook decodeAddressBook(List<String> encodedAddressBook, LoadProgress progress)
+            throws IllegalValueException, StorageOperationException {
+        progress.begin(encodedAddressBook.size());
         final List<Person> decodedPersons = new ArrayList<>();
         for (String encodedPerson : encodedAddressBook) {
-            decodedPersons.add(decodePersonFromString(encodedPerson));
+            decodedPersons.add(decodePerson(encodedPerson));
+            if (decodedPersons.size() % LoadProgress.UPDATE_INTERVAL == 0) {
+                progress.setLoaded(decodedPersons.size());
+            }
         }
+        progress.setLoaded(decodedPersons.size());
         return new AddressBook(new UniquePersonList(decodedPersons));
     }
 
+    /**
+     * Decodes {@code encodedAddressBook} like {@link #decodeAddressBook(List, LoadProgress)}, into an address book
+     * that keeps its persons in a {@link ColumnarPersonStore}. Each person is added to the columns as soon as it
+     * is decoded, so the decoded persons are never all kept as objects at once.
+     *
+     * @throws IllegalStateException if the persons do not fit in the columns.
+     */
+    static AddressBook decodeColumnarAddressBook(List<String> encodedAddressBook, LoadProgress progress)
+            throws IllegalValueException, StorageOperationException {
+        progress.begin(encodedAddressBook.size());
+        final ColumnarPersonStore store = new ColumnarPersonStore();
+        final long[] identityHashes = new long[encodedAddressBook.size()];
+        for (String encodedPerson : encodedAddressBook) {
+            final Person person = decodePerson(encodedPerson);
+            identityHashes[store.size()] = IdentityHashes.of(person);
+            store.append(person);
+            if (store.size() % LoadProgress.UPDATE_INTERVAL == 0) {
+                progress.setLoaded(store.size());
+            }
+        }
+        progress.setLoaded(store.size());
+        checkIdentitiesUnique(store, identityHashes);
+        store.trimToSize();
+        return new AddressBook(store);
+    }
+
+    /**
+     * Checks that no two persons in {@code store}, whose identity hashes are {@code identityHashes} in order,
+     * are the same person. Only the persons whose identity hashes are the same as another's are compared.
+     *
+     * @throws DuplicatePersonException if two of the persons are the same person.
+     */
+    private static void checkIdentitiesUnique(ColumnarPersonStore store, long[] identityHashes)
+            throws DuplicatePersonException {
+        final Set<Long> repeatedHashes = IdentityHashes.findRepeated(identityHashes);
+        if (repeatedHashes.isEmpty()) {
+            return;
+        }
+        final List<Person> candidates = new ArrayList<>();
+        final int[] row = new int[1];
+        store.forEachPerson(person -> {
+            if (repeatedHashes.contains(identityHashes[row[0]++])) {
+                candidates.add(new Person(person));
+            }
+        });
+        // throws if two of the candidates are the same person
+        new UniquePersonList(candidates);
+    }
+
     /**
      * Decodes {@code encodedPerson} into a {@code Person}.
      *
      * @throws IllegalValueException if any field in the {@code encodedPerson} is invalid.
      * @throws StorageOperationException if {@code encodedPerson} is in an invalid format.
      */
-    private static Person decodePersonFromString(String encodedPerson)
+    public static Person decodePerson(String encodedPerson)
             throws IllegalValueException, StorageOperationException {
         final Matcher matcher = PERSON_DATA_ARGS_FORMAT.matcher(encodedPerson);
         if (!matcher.matches()) {
@@ -56,7 +121,7 @@ public class AddressBookDecoder {
         return new Person(
                 new Name(matcher.group("name")),
                 new Phone(matcher.group("phone"), isPrivatePrefixPresent(matcher.group("isPhonePrivate"))),
-                new Email(matcher.group("email"), isPrivatePrefixPresent(matcher.group("isEmailPrivate"))),
+                new Email(matcher.group("email"), isPrivatePrefixPresent(matcher.group("isEmailPrivate"))).intern(),
                 new Address(matcher.group("address"), isPrivatePrefixPresent(matcher.group("isAddressPrivate"))),
                 getTagsFromEncodedPerson(matcher.group("tagArguments"))
         );
@@ -71,7 +136,7 @@ public class AddressBookDecoder {
 
     /**
      * Extracts the {@code Tag}s from the {@code tagArguments} string.
-     * Merges duplicate tag strings.
+     * Merges duplicate tag strings, and shares the tags with other persons who have them.
      */
     private static Set<Tag> getTagsFromEncodedPerson(String tagArguments) throws IllegalValueException {
         if (tagArguments.isEmpty()) {
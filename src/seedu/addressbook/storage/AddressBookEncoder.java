@@ -1,10 +1,9 @@
 package seedu.addressbook.storage;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.addressbook.data.AddressBook;
-import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
 
 /**
  * Encodes the {@code AddressBook} object into a data file for storage.
@@ -16,15 +15,14 @@ public class AddressBookEncoder {
      * for storage.
      */
     public static List<String> encodeAddressBook(AddressBook toSave) {
-        final List<String> encodedPersons = new ArrayList<>();
-        toSave.getAllPersons().forEach(person -> encodedPersons.add(encodePersonToString(person)));
-        return encodedPersons;
+        // encoded while the address book is locked, as a snapshot would make its next change copy the persons
+        return toSave.readPersonStore(persons -> persons.encodeLines(AddressBookEncoder::encodePerson));
     }
 
     /**
      * Encodes the {@code person} into a decodable and readable string representation.
      */
-    private static String encodePersonToString(Person person) {
+    public static String encodePerson(ReadOnlyPerson person) {
         final StringBuilder encodedPersonBuilder = new StringBuilder();
 
         encodedPersonBuilder.append(person.getName());
@@ -33,7 +31,7 @@ public class AddressBookEncoder {
         encodedPersonBuilder.append("p/").append(person.getPhone().value);
 
         encodedPersonBuilder.append(person.getEmail().isPrivate() ? " p" : " ");
-        encodedPersonBuilder.append("e/").append(person.getEmail().value);
+        encodedPersonBuilder.append("e/").append(person.getEmail().getValue());
 
         encodedPersonBuilder.append(person.getAddress().isPrivate() ? " p" : " ");
         encodedPersonBuilder.append("a/").append(person.getAddress().value);
@@ -0,0 +1,207 @@
+package seedu.addressbook.storage;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Opens address books by name on demand, each stored in its own file in a common directory.
+ * Keeps the most recently used books in memory within a budget on the number of books and their estimated size,
+ * saving and evicting the least recently used books when the budget is exceeded. The budget is checked each time
+ * a book is opened, even if it was already resident, so that books which grew while they were used are evicted too.
+ *
+ * An evicted book is reloaded from its file when it is next opened, so callers should not hold on to an
+ * {@code AddressBook} across calls to {@link #open(String)}: changes made to an evicted instance are lost.
+ */
+public class AddressBookRegistry {
+
+    /** Rough retained heap of one person with short field values and a tag, used to estimate book sizes. */
+    public static final long ESTIMATED_BYTES_PER_PERSON = 600;
+
+    /** The book opened first, before any other is chosen. */
+    public static final String DEFAULT_BOOK_NAME = "addressbook";
+
+    public static final String MESSAGE_INVALID_BOOK_NAME =
+            "Address book names should be non-empty and contain only letters, digits, '-' and '_'";
+    private static final String BOOK_NAME_VALIDATION_REGEX = "[\\w-]+";
+    private static final String STORAGE_FILE_EXTENSION = ".txt";
+
+    private final Path directory;
+    private final int maxResidentBooks;
+    private final long maxResidentBytes;
+
+    /** Resident books, from least to most recently used. */
+    private final LinkedHashMap<String, ResidentBook> residentBooks = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param directory where the storage files of the books are kept
+     * @param maxResidentBooks maximum number of books kept in memory
+     * @param maxResidentBytes maximum estimated size of the books kept in memory
+     */
+    public AddressBookRegistry(Path directory, int maxResidentBooks, long maxResidentBytes) {
+        if (maxResidentBooks < 1 || maxResidentBytes < 1) {
+            throw new IllegalArgumentException("The resident book budget must be positive");
+        }
+        this.directory = directory;
+        this.maxResidentBooks = maxResidentBooks;
+        this.maxResidentBytes = maxResidentBytes;
+    }
+
+    /**
+     * Returns the address book with the given name, loading it from its storage file if it is not resident.
+     * A book that has no storage file yet starts empty.
+     * The most recently opened book is never evicted, even if it alone exceeds the budget.
+     *
+     * @throws InvalidStorageFilePathException if the name is not a valid book name.
+     * @throws StorageOperationException if the book could not be loaded, or an evicted book could not be saved.
+     */
+    public synchronized AddressBook open(String name)
+            throws InvalidStorageFilePathException, StorageOperationException {
+        ResidentBook book = residentBooks.get(name);
+        if (book != null) {
+            hits++;
+        } else {
+            misses++;
+            final StorageFile storage = createStorageFile(name);
+            book = new ResidentBook(storage, storage.load());
+            residentBooks.put(name, book);
+        }
+        evictUntilWithinBudget();
+        return book.addressBook;
+    }
+
+    /**
+     * Returns the storage file of the resident book with the given name, or null if the book is not resident.
+     */
+    public synchronized StorageFile getStorageFile(String name) {
+        final ResidentBook book = residentBooks.get(name);
+        return book == null ? null : book.storage;
+    }
+
+    /**
+     * Saves the resident book with the given name to its storage file, if it has changed since it was last saved.
+     * Does nothing if the book is not resident.
+     *
+     * @throws StorageOperationException if the book could not be saved.
+     */
+    public synchronized void flush(String name) throws StorageOperationException {
+        final ResidentBook book = residentBooks.get(name);
+        if (book != null) {
+            book.save();
+        }
+    }
+
+    /**
+     * Saves all resident books that have changed since they were last saved to their storage files.
+     *
+     * @throws StorageOperationException if any book could not be saved.
+     */
+    public synchronized void flushAll() throws StorageOperationException {
+        for (ResidentBook book : residentBooks.values()) {
+            book.save();
+        }
+    }
+
+    /**
+     * Returns true if the book with the given name is currently held in memory.
+     */
+    public synchronized boolean isResident(String name) {
+        return residentBooks.containsKey(name);
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts so far, and the current resident books and their estimated size.
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, evictions, residentBooks.size(), getResidentBytes());
+    }
+
+    /**
+     * Saves and evicts the least recently used books, other than the most recently used one,
+     * until the resident books are within the budget.
+     * A book that cannot be saved stays resident, so that its changes are not lost.
+     */
+    private void evictUntilWithinBudget() throws StorageOperationException {
+        final Iterator<ResidentBook> leastRecentlyUsedFirst = residentBooks.values().iterator();
+        long residentBytes = getResidentBytes();
+        while (residentBooks.size() > 1
+                && (residentBooks.size() > maxResidentBooks || residentBytes > maxResidentBytes)) {
+            final ResidentBook eldest = leastRecentlyUsedFirst.next();
+            eldest.save();
+            leastRecentlyUsedFirst.remove();
+            residentBytes -= eldest.estimateBytes();
+            evictions++;
+        }
+    }
+
+    private long getResidentBytes() {
+        long residentBytes = 0;
+        for (ResidentBook book : residentBooks.values()) {
+            residentBytes += book.estimateBytes();
+        }
+        return residentBytes;
+    }
+
+    private StorageFile createStorageFile(String name) throws InvalidStorageFilePathException {
+        if (!name.matches(BOOK_NAME_VALIDATION_REGEX)) {
+            throw new InvalidStorageFilePathException(MESSAGE_INVALID_BOOK_NAME);
+        }
+        return new StorageFile(directory.resolve(name + STORAGE_FILE_EXTENSION).toString());
+    }
+
+    /**
+     * A book held in memory, together with the file it is saved to.
+     */
+    private static class ResidentBook {
+        final StorageFile storage;
+        final AddressBook addressBook;
+
+        ResidentBook(StorageFile storage, AddressBook addressBook) {
+            this.storage = storage;
+            this.addressBook = addressBook;
+        }
+
+        void save() throws StorageOperationException {
+            if (addressBook.getMutationCount() != storage.getSavedMutationCount()) {
+                storage.save(addressBook);
+            }
+        }
+
+        long estimateBytes() {
+            return addressBook.size() * ESTIMATED_BYTES_PER_PERSON;
+        }
+    }
+
+    /**
+     * Counters describing how well the resident books served the {@code open} calls.
+     */
+    public static class Statistics {
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final int residentBooks;
+        public final long residentBytes;
+
+        Statistics(long hits, long misses, long evictions, int residentBooks, long residentBytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.residentBooks = residentBooks;
+            this.residentBytes = residentBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits: %d, misses: %d, evictions: %d, resident books: %d, resident bytes: %d",
+                    hits, misses, evictions, residentBooks, residentBytes);
+        }
+    }
+}
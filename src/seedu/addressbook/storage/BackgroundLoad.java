@@ -0,0 +1,118 @@
+package seedu.addressbook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Loads an address book on a background thread, so that the user can enter commands while it loads.
+ * Persons added before it has loaded are queued, and added once it has, in the order they were entered,
+ * so that they are checked for duplicates against all of its persons.
+ * Persons may only be queued, and the address book waited for, by one thread, the one handling commands.
+ */
+public class BackgroundLoad {
+
+    /** How often progress is reported while waiting for the address book to load. */
+    public static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 1000;
+
+    private final FutureTask<AddressBook> task;
+    private final LoadProgress progress;
+    private final long progressIntervalMillis;
+    private final List<Person> queuedPersons = new ArrayList<>();
+
+    /**
+     * @param load loads the address book
+     * @param progress updated by {@code load} with how far it has got
+     */
+    public BackgroundLoad(Callable<AddressBook> load, LoadProgress progress) {
+        this(load, progress, DEFAULT_PROGRESS_INTERVAL_MILLIS);
+    }
+
+    BackgroundLoad(Callable<AddressBook> load, LoadProgress progress, long progressIntervalMillis) {
+        this.task = new FutureTask<>(load);
+        this.progress = progress;
+        this.progressIntervalMillis = progressIntervalMillis;
+    }
+
+    /**
+     * Starts loading on a new daemon thread.
+     */
+    public void start() {
+        final Thread loader = new Thread(task, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Queues {@code toAdd} to be added once the address book has loaded.
+     *
+     * @throws DuplicatePersonException if the same person is already queued.
+     */
+    public void queue(Person toAdd) throws DuplicatePersonException {
+        for (Person queued : queuedPersons) {
+            if (queued.isSamePerson(toAdd)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        queuedPersons.add(toAdd);
+    }
+
+    /**
+     * Waits for the address book to load, reporting how far it has got to {@code messages} while waiting,
+     * and then adds the queued persons to it, reporting to {@code messages} whether each was added.
+     *
+     * @throws StorageOperationException if the address book could not be loaded.
+     */
+    public AddressBook await(Consumer<String> messages) throws StorageOperationException, InterruptedException {
+        final AddressBook addressBook = awaitLoad(messages);
+        for (Person person : queuedPersons) {
+            try {
+                addressBook.addPerson(person);
+                messages.accept(String.format(Messages.MESSAGE_QUEUED_PERSON_ADDED, person));
+            } catch (DuplicatePersonException dpe) {
+                messages.accept(String.format(Messages.MESSAGE_QUEUED_PERSON_DUPLICATE, person));
+            }
+        }
+        queuedPersons.clear();
+        return addressBook;
+    }
+
+    private AddressBook awaitLoad(Consumer<String> messages) throws StorageOperationException, InterruptedException {
+        while (true) {
+            try {
+                return task.get(progressIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException te) {
+                messages.accept(describeProgress());
+            } catch (ExecutionException ee) {
+                if (ee.getCause() instanceof StorageOperationException) {
+                    throw (StorageOperationException) ee.getCause();
+                }
+                throw new RuntimeException(ee.getCause());
+            }
+        }
+    }
+
+    /**
+     * Returns a message telling the user how far loading has got.
+     */
+    String describeProgress() {
+        final int total = progress.getTotal();
+        if (total == LoadProgress.UNKNOWN) {
+            return Messages.MESSAGE_LOADING_FILE;
+        }
+        final int loaded = progress.getLoaded();
+        final long percent = total == 0 ? 100 : 100L * loaded / total;
+        return String.format(Messages.MESSAGE_LOADING_PROGRESS, loaded, total, percent);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.addressbook.storage;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * 64-bit hashes of what identifies a person, its name and phone as compared by
+ * {@link ReadOnlyPerson#isSamePerson}, for finding duplicate persons in a storage file without keeping
+ * the persons in memory. Persons with different hashes are never the same person.
+ */
+final class IdentityHashes {
+
+    private IdentityHashes() {}
+
+    static long of(ReadOnlyPerson person) {
+        return combine(person.getName().fullName.hashCode(), person.getPhone().value.hashCode());
+    }
+
+    /**
+     * Returns the hash of the name and the phone in the given ranges of {@code bytes}, which must only be
+     * ASCII characters, as valid names and phones are; it is the same as that of a person with them.
+     */
+    static long of(byte[] bytes, int nameStart, int nameEnd, int phoneStart, int phoneEnd) {
+        return combine(hashAscii(bytes, nameStart, nameEnd), hashAscii(bytes, phoneStart, phoneEnd));
+    }
+
+    /**
+     * Returns the hashes that are in {@code hashes} more than once, which are few unless persons are duplicated.
+     */
+    static Set<Long> findRepeated(long[] hashes) {
+        final long[] sortedHashes = hashes.clone();
+        Arrays.sort(sortedHashes);
+        final Set<Long> repeatedHashes = new HashSet<>();
+        for (int i = 1; i < sortedHashes.length; i++) {
+            if (sortedHashes[i] == sortedHashes[i - 1]) {
+                repeatedHashes.add(sortedHashes[i]);
+            }
+        }
+        return repeatedHashes;
+    }
+
+    private static long combine(int nameHash, int phoneHash) {
+        return ((long) nameHash << Integer.SIZE) ^ (phoneHash & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the {@link String#hashCode()} of the ASCII characters in the given range of {@code bytes}.
+     */
+    private static int hashAscii(byte[] bytes, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,546 @@
+package seedu.addressbook.storage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PersonStore;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.metrics.MemoryEstimator;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * A {@link PersonStore} of the persons in a storage file that decodes each person only when it is first read,
+ * so that a large file is ready to use long before all of its persons could have been decoded.
+ * Loading only finds where each line is and the name and phone in it, to check that no two persons are the same;
+ * the other details of a person are checked when it is decoded, which fails with an
+ * {@link InvalidRecordException} if they are invalid. Decoded persons are kept for later reads.
+ *
+ * Persons never read are saved as the lines they were loaded from, without decoding them;
+ * see {@link #encodeLines(Function)}.
+ * Snapshots stay valid after the store is changed, as the rows are copied before they are changed
+ * if a snapshot may be reading them.
+ */
+public class LazyPersonStore implements PersonStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NOT_LOADED = -1;
+
+    /** The length of the ranges found by {@link #findIdentity}: the start and end of the name and the phone. */
+    private static final int IDENTITY_RANGE_LENGTH = 4;
+
+    /** The bytes of the storage file, which are never modified. */
+    private final byte[] data;
+
+    private Rows rows;
+
+    /** True if {@link #rows} may be read by a snapshot, in which case they must be copied before they are modified. */
+    private boolean isRowsShared;
+
+    private LazyPersonStore(byte[] data, Rows rows) {
+        this.data = data;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns a store of the persons encoded in {@code data}, the bytes of a storage file, one person per line.
+     *
+     * @throws StorageOperationException if a line has no valid name and phone, or two lines have the same
+     *         person; other invalid details are only found when the person is decoded.
+     */
+    public static LazyPersonStore load(byte[] data) throws StorageOperationException {
+        final Rows rows = new Rows(data, INITIAL_CAPACITY);
+        final int[] identity = new int[IDENTITY_RANGE_LENGTH];
+        int start = 0;
+        while (start < data.length) {
+            int end = start;
+            while (end < data.length && data[end] != '\n') {
+                end++;
+            }
+            final int next = end + 1;
+            if (end > start && data[end - 1] == '\r') {
+                end--;
+            }
+            findIdentity(data, start, end, identity);
+            rows.addLine(start, end, IdentityHashes.of(data, identity[0], identity[1], identity[2], identity[3]));
+            start = next;
+        }
+        checkIdentitiesUnique(rows);
+        rows.trimToSize();
+        return new LazyPersonStore(data, rows);
+    }
+
+    @Override
+    public int size() {
+        return rows.size;
+    }
+
+    @Override
+    public boolean contains(ReadOnlyPerson toCheck) {
+        return rows.indexOf(toCheck, false) != -1;
+    }
+
+    @Override
+    public void add(Person toAdd) throws DuplicatePersonException {
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        prepareForModification();
+        rows.addPerson(toAdd);
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+        final int row = rows.indexOf(toRemove, true);
+        if (row == -1) {
+            throw new PersonNotFoundException();
+        }
+        prepareForModification();
+        rows.remove(row);
+    }
+
+    @Override
+    public void clear() {
+        rows = new Rows(data, INITIAL_CAPACITY);
+        isRowsShared = false;
+    }
+
+    @Override
+    public void setPersons(UniquePersonList persons) {
+        rows = new Rows(data, Math.max(INITIAL_CAPACITY, persons.size()));
+        isRowsShared = false;
+        for (Person person : persons) {
+            rows.addPerson(new Person(person));
+        }
+    }
+
+    @Override
+    public void forEachPerson(Consumer<? super ReadOnlyPerson> action) {
+        for (int row = 0; row < rows.size; row++) {
+            action.accept(rows.get(row));
+        }
+    }
+
+    @Override
+    public List<ReadOnlyPerson> immutableListView() {
+        return new ImmutableListView();
+    }
+
+    @Override
+    public List<ReadOnlyPerson> immutableSnapshot() {
+        isRowsShared = true;
+        return new Snapshot(rows);
+    }
+
+    @Override
+    public UniquePersonList toUniquePersonList() {
+        final List<Person> persons = new ArrayList<>(rows.size);
+        forEachPerson(person -> persons.add(new Person(person)));
+        try {
+            return new UniquePersonList(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("Persons in the store are unique", dpe);
+        }
+    }
+
+    @Override
+    public void estimateHeap(MemoryEstimator estimator, Map<Structure, Long> bytes) {
+        // the persons not decoded yet are in the bytes of the file
+        MemoryEstimator.add(bytes, Structure.PERSONS, estimator.arrayBytes(data.length, Byte.BYTES));
+        rows.estimateHeap(estimator, bytes);
+        // this store
+        MemoryEstimator.add(bytes, Structure.PERSON_LIST, estimator.objectBytes(2, 1));
+    }
+
+    /**
+     * Returns the number of persons that have been decoded, or added since loading.
+     */
+    public int getDecodedCount() {
+        return rows.countDecoded();
+    }
+
+    /**
+     * Returns the persons never decoded as the lines they were loaded from, which are in the format of
+     * {@link AddressBookEncoder}, and the others encoded by {@code encoder}.
+     */
+    @Override
+    public List<String> encodeLines(Function<? super ReadOnlyPerson, String> encoder) {
+        return rows.encodeLines(encoder);
+    }
+
+    /**
+     * Gives this store its own copy of the rows if a snapshot may be reading them, so they can be modified.
+     */
+    private void prepareForModification() {
+        if (isRowsShared) {
+            rows = rows.copy();
+            isRowsShared = false;
+        }
+    }
+
+    /**
+     * Finds the name and phone in the line of {@code data} from {@code start} to {@code end} as
+     * {@link AddressBookDecoder} would, trimmed, and stores the start and end of each in {@code identity}.
+     * The line starts with the name, which has no slashes, then {@code " p/"} or {@code " pp/"} and the phone,
+     * and then {@code " e/"} or {@code " pe/"}.
+     *
+     * @throws StorageOperationException if the line has no valid name and phone.
+     */
+    private static void findIdentity(byte[] data, int start, int end, int[] identity)
+            throws StorageOperationException {
+        final int nameSlash = indexOfSlash(data, start, end);
+        final int phoneSlash = indexOfSlash(data, nameSlash + 1, end);
+        final int nameEnd = prefixStart(data, start, nameSlash, (byte) 'p');
+        final int phoneEnd = prefixStart(data, nameSlash + 1, phoneSlash, (byte) 'e');
+        identity[0] = trimStart(data, start, nameEnd);
+        identity[1] = trimEnd(data, identity[0], nameEnd);
+        identity[2] = trimStart(data, nameSlash + 1, phoneEnd);
+        identity[3] = trimEnd(data, identity[2], phoneEnd);
+        if (!isValid(data, identity[0], identity[1], true) || !isValid(data, identity[2], identity[3], false)) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        }
+    }
+
+    private static int indexOfSlash(byte[] data, int from, int end) throws StorageOperationException {
+        for (int i = from; i < end; i++) {
+            if (data[i] == '/') {
+                return i;
+            }
+        }
+        throw new StorageOperationException("Encoded person in invalid format. Unable to decode.");
+    }
+
+    /**
+     * Returns where the prefix ending at {@code slash}, {@code " " + letter} or {@code " p" + letter}, starts.
+     *
+     * @throws StorageOperationException if there is no such prefix after {@code from}.
+     */
+    private static int prefixStart(byte[] data, int from, int slash, byte letter) throws StorageOperationException {
+        if (slash - 2 > from && data[slash - 1] == letter) {
+            if (data[slash - 2] == ' ') {
+                return slash - 2;
+            }
+            if (slash - 3 > from && data[slash - 2] == 'p' && data[slash - 3] == ' ') {
+                return slash - 3;
+            }
+        }
+        throw new StorageOperationException("Encoded person in invalid format. Unable to decode.");
+    }
+
+    private static int trimStart(byte[] data, int start, int end) {
+        int trimmed = start;
+        while (trimmed < end && (data[trimmed] & 0xFF) <= ' ') {
+            trimmed++;
+        }
+        return trimmed;
+    }
+
+    private static int trimEnd(byte[] data, int start, int end) {
+        int trimmed = end;
+        while (trimmed > start && (data[trimmed - 1] & 0xFF) <= ' ') {
+            trimmed--;
+        }
+        return trimmed;
+    }
+
+    /**
+     * Returns true if the bytes from {@code start} to {@code end} are a valid name, as in
+     * {@link seedu.addressbook.data.person.Name#isValidName}, or a valid phone.
+     */
+    private static boolean isValid(byte[] data, int start, int end, boolean isName) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            final byte b = data[i];
+            final boolean isValidByte = isName ? (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || b == ' '
+                    : b >= '0' && b <= '9';
+            if (!isValidByte) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that no two loaded lines have the same name and phone. Only the lines whose identity hashes are
+     * the same as another's are compared by their names and phones.
+     */
+    private static void checkIdentitiesUnique(Rows rows) throws StorageOperationException {
+        final long[] identityHashes = Arrays.copyOf(rows.identityHashes, rows.size);
+        final Set<Long> repeatedHashes = IdentityHashes.findRepeated(identityHashes);
+        if (repeatedHashes.isEmpty()) {
+            return;
+        }
+        final int[] identity = new int[IDENTITY_RANGE_LENGTH];
+        final Set<String> identities = new HashSet<>();
+        for (int row = 0; row < rows.size; row++) {
+            if (!repeatedHashes.contains(identityHashes[row])) {
+                continue;
+            }
+            findIdentity(rows.data, rows.lineStarts[row], rows.lineEnds[row], identity);
+            // the name cannot contain digits, so the phone is unambiguous after it
+            final String nameAndPhone = new String(rows.data, identity[0], identity[1] - identity[0],
+                    StandardCharsets.US_ASCII) + new String(rows.data, identity[2], identity[3] - identity[2],
+                    StandardCharsets.US_ASCII);
+            if (!identities.add(nameAndPhone)) {
+                throw new StorageOperationException("File contains duplicate persons");
+            }
+        }
+    }
+
+    /**
+     * The persons of the store, a row per person: where its line is in the file, unless it was added since
+     * loading, the hash of its identity, and the person once decoded.
+     * Snapshots of the same rows may be read from several threads at once, so persons are decoded without a lock
+     * and published with a compare-and-set; threads that decode the same row at once all return the person
+     * published first.
+     */
+    private static final class Rows {
+
+        private static final VarHandle DECODED = MethodHandles.arrayElementVarHandle(Person[].class);
+
+        private final byte[] data;
+        private int size;
+        private int[] lineStarts;
+        private int[] lineEnds;
+        private long[] identityHashes;
+        private Person[] decoded;
+
+        Rows(byte[] data, int capacity) {
+            this.data = data;
+            lineStarts = new int[capacity];
+            lineEnds = new int[capacity];
+            identityHashes = new long[capacity];
+            decoded = new Person[capacity];
+        }
+
+        Rows copy() {
+            final Rows copy = new Rows(data, 0);
+            copy.size = size;
+            copy.lineStarts = lineStarts.clone();
+            copy.lineEnds = lineEnds.clone();
+            copy.identityHashes = identityHashes.clone();
+            copy.decoded = new Person[decoded.length];
+            for (int row = 0; row < size; row++) {
+                copy.decoded[row] = decodedAt(row);
+            }
+            return copy;
+        }
+
+        void addLine(int start, int end, long identityHash) {
+            ensureCapacity();
+            lineStarts[size] = start;
+            lineEnds[size] = end;
+            identityHashes[size] = identityHash;
+            size++;
+        }
+
+        void addPerson(Person person) {
+            ensureCapacity();
+            lineStarts[size] = NOT_LOADED;
+            lineEnds[size] = NOT_LOADED;
+            identityHashes[size] = IdentityHashes.of(person);
+            decoded[size] = person;
+            size++;
+        }
+
+        void remove(int row) {
+            final int moved = size - row - 1;
+            System.arraycopy(lineStarts, row + 1, lineStarts, row, moved);
+            System.arraycopy(lineEnds, row + 1, lineEnds, row, moved);
+            System.arraycopy(identityHashes, row + 1, identityHashes, row, moved);
+            System.arraycopy(decoded, row + 1, decoded, row, moved);
+            size--;
+            decoded[size] = null;
+        }
+
+        private void ensureCapacity() {
+            if (size == lineStarts.length) {
+                final int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+                lineStarts = Arrays.copyOf(lineStarts, capacity);
+                lineEnds = Arrays.copyOf(lineEnds, capacity);
+                identityHashes = Arrays.copyOf(identityHashes, capacity);
+                decoded = Arrays.copyOf(decoded, capacity);
+            }
+        }
+
+        void trimToSize() {
+            lineStarts = Arrays.copyOf(lineStarts, size);
+            lineEnds = Arrays.copyOf(lineEnds, size);
+            identityHashes = Arrays.copyOf(identityHashes, size);
+            decoded = Arrays.copyOf(decoded, size);
+        }
+
+        /**
+         * Returns the first row of the same person as {@code key}, or with the same data if {@code isSameData},
+         * or -1 if there is none. Only the rows with the same identity hash as {@code key} are decoded.
+         */
+        int indexOf(ReadOnlyPerson key, boolean isSameData) {
+            final long identityHash = IdentityHashes.of(key);
+            for (int row = 0; row < size; row++) {
+                if (identityHashes[row] != identityHash) {
+                    continue;
+                }
+                final Person person = get(row);
+                if (isSameData ? person.hasSameData(key) : person.isSamePerson(key)) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the person of {@code row}, decoding it from its line if it has not been decoded yet.
+         *
+         * @throws InvalidRecordException if its line has invalid details.
+         */
+        Person get(int row) {
+            final Person[] persons = decoded;
+            final Person person = (Person) DECODED.getAcquire(persons, row);
+            if (person != null) {
+                return person;
+            }
+            final Person decodedPerson;
+            try {
+                decodedPerson = AddressBookDecoder.decodePerson(line(row));
+            } catch (IllegalValueException | StorageOperationException e) {
+                throw new InvalidRecordException(lineNumber(row), e);
+            }
+            final Person published = (Person) DECODED.compareAndExchange(persons, row, null, decodedPerson);
+            return published == null ? decodedPerson : published;
+        }
+
+        /**
+         * Returns the person of {@code row} if it has been decoded, or else null.
+         */
+        private Person decodedAt(int row) {
+            return (Person) DECODED.getAcquire(decoded, row);
+        }
+
+        private String line(int row) {
+            return new String(data, lineStarts[row], lineEnds[row] - lineStarts[row], StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns the number of the line of {@code row} in the file, counting from 1.
+         */
+        private int lineNumber(int row) {
+            int lineNumber = 1;
+            for (int i = 0; i < lineStarts[row]; i++) {
+                if (data[i] == '\n') {
+                    lineNumber++;
+                }
+            }
+            return lineNumber;
+        }
+
+        /**
+         * Adds the heap retained by the rows to {@code bytes}: the persons decoded, and where the line of each
+         * person is and the hash of its identity as the person list.
+         */
+        void estimateHeap(MemoryEstimator estimator, Map<Structure, Long> bytes) {
+            final List<Person> decodedPersons = new ArrayList<>();
+            for (int row = 0; row < size; row++) {
+                final Person person = decodedAt(row);
+                if (person != null) {
+                    decodedPersons.add(person);
+                }
+            }
+            estimator.addPersonObjects(decodedPersons, bytes);
+            MemoryEstimator.add(bytes, Structure.PERSON_LIST, estimator.objectBytes(5, 4)
+                    + estimator.arrayBytes(lineStarts.length, Integer.BYTES)
+                    + estimator.arrayBytes(lineEnds.length, Integer.BYTES)
+                    + estimator.arrayBytes(identityHashes.length, Long.BYTES)
+                    + estimator.referenceArrayBytes(decoded.length));
+        }
+
+        int countDecoded() {
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                if (decodedAt(row) != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        List<String> encodeLines(Function<? super ReadOnlyPerson, String> encoder) {
+            final List<String> lines = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                final Person person = decodedAt(row);
+                lines.add(person == null ? line(row) : encoder.apply(person));
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Unmodifiable view that always reads the current rows of the store.
+     */
+    private class ImmutableListView extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+        @Override
+        public ReadOnlyPerson get(int index) {
+            Objects.checkIndex(index, rows.size);
+            return rows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return rows.size;
+        }
+    }
+
+    /**
+     * Unmodifiable list of the persons in the rows of the store at the time it was taken.
+     */
+    private static class Snapshot extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+
+        private final Rows rows;
+        private final int size;
+
+        Snapshot(Rows rows) {
+            this.rows = rows;
+            this.size = rows.size;
+        }
+
+        @Override
+        public ReadOnlyPerson get(int index) {
+            Objects.checkIndex(index, size);
+            return rows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Signals that a person in the storage file, which was not decoded when the file was loaded, has invalid
+     * details. Unchecked, as reading persons cannot fail in any other store.
+     */
+    public static class InvalidRecordException extends RuntimeException {
+        public InvalidRecordException(int lineNumber, Exception cause) {
+            super("File contains illegal data values on line " + lineNumber + "; data type constraints not met",
+                    cause);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.addressbook.storage;
+
+/**
+ * How far loading a storage file has got: how many of its persons have been decoded.
+ * Updated by the thread loading the file, and safe to read from any other.
+ */
+public class LoadProgress {
+
+    /** The number of persons to load while the file is still being read. */
+    public static final int UNKNOWN = -1;
+
+    /** How many persons are decoded between updates, so that updating costs little. */
+    static final int UPDATE_INTERVAL = 1024;
+
+    private volatile int total = UNKNOWN;
+    private volatile int loaded;
+
+    /**
+     * Starts counting the decoding of {@code total} persons.
+     */
+    void begin(int total) {
+        this.loaded = 0;
+        this.total = total;
+    }
+
+    void setLoaded(int loaded) {
+        this.loaded = loaded;
+    }
+
+    /**
+     * Returns the number of persons being loaded, or {@link #UNKNOWN} if the file has not been read yet.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the number of persons decoded so far.
+     */
+    public int getLoaded() {
+        return loaded;
+    }
+}
@@ -0,0 +1,943 @@
+package seedu.addressbook.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PersonStore;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.metrics.MemoryEstimator;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * A {@link PersonStore} that keeps its persons outside the Java heap, in a storage file mapped into memory:
+ * each person is a line encoded by {@link AddressBookEncoder}, and the heap only holds where each line starts.
+ * The file is always a valid storage file of the persons in the store, so it needs no saving beyond
+ * {@link #force() making sure} that the changes made are on disk.
+ *
+ * Persons are decoded from the file each time they are read, so reading persons is much slower than from a
+ * {@link UniquePersonList}. Adding a person appends a line to the file. Removing a person leaves its line as it is,
+ * and notes where the line starts in a file of removed lines next to it, named after it with
+ * {@value #REMOVED_FILE_SUFFIX}, so that the storage file keeps the format every loader reads.
+ * The removed lines are left out of the file when the store is closed, or else the next time it is opened,
+ * as Windows does not allow replacing a file while it is mapped. Until then, the loaders of {@link StorageFile}
+ * leave them out as they read the file; other programs see the removed persons as if they were still there.
+ *
+ * Replacing all the persons writes them to a new file, which replaces the storage file, so that the file does
+ * not grow by the whole address book each time; where a mapped file cannot be replaced, they are appended.
+ * Snapshots taken before keep reading the file they were taken of.
+ */
+public class MappedPersonStore implements PersonStore, Closeable {
+
+    /** The most bytes of the file mapped by one buffer; a buffer cannot map more than 2 GB. */
+    static final int DEFAULT_SEGMENT_BYTES = 1 << 30;
+
+    /** Ends the name of the file of the removed lines, after the name of the storage file. */
+    static final String REMOVED_FILE_SUFFIX = ".removed";
+
+    /**
+     * Starts the entry of the file of removed lines that names the file about to replace the storage file.
+     * Once that file is gone, the replacement was made, and the entries before are of the file it replaced.
+     */
+    static final String REPLACED_BY = "replaced by ";
+
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final Path path;
+    private final Path removedFile;
+    private final int segmentBytes;
+
+    private FileChannel channel;
+    /** Appends to the file of removed lines; null until a person is removed. */
+    private FileChannel removedChannel;
+    private Records records;
+
+    private MappedPersonStore(Path path, int segmentBytes) {
+        this.path = path;
+        this.removedFile = getRemovedFile(path);
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Opens the storage file at {@code path} as a store of the persons in it, creating it if it does not exist.
+     * Every person is decoded once to check that the file is valid, but none is kept in memory.
+     * If persons were removed while the file was last open, it is first rewritten without their lines,
+     * or, if it cannot be replaced, their lines are skipped.
+     *
+     * @throws StorageOperationException if the file cannot be read or has invalid or duplicate persons.
+     */
+    public static MappedPersonStore open(Path path) throws StorageOperationException {
+        return open(path, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Opens the store mapping at most {@code segmentBytes} bytes of the file with each buffer.
+     */
+    static MappedPersonStore open(Path path, int segmentBytes) throws StorageOperationException {
+        final MappedPersonStore store = new MappedPersonStore(path, segmentBytes);
+        try {
+            long[] removedStarts;
+            try {
+                applyRemovals(path);
+                removedStarts = new long[0];
+            } catch (IOException ioe) {
+                removedStarts = readRemovedStarts(store.removedFile);
+            }
+            store.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            store.endLastLine();
+            store.records = store.indexRecords(removedStarts);
+            store.validate();
+            return store;
+        } catch (IOException | StoreAccessException e) {
+            store.closeQuietly();
+            throw new StorageOperationException("Error reading from file: " + path);
+        } catch (StorageOperationException soe) {
+            store.closeQuietly();
+            throw soe;
+        }
+    }
+
+    @Override
+    public int size() {
+        return records.size;
+    }
+
+    @Override
+    public boolean contains(ReadOnlyPerson toCheck) {
+        return records.indexOfSamePerson(toCheck, 0) != -1;
+    }
+
+    @Override
+    public void add(Person toAdd) throws DuplicatePersonException {
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        final byte[] line = encodeLine(toAdd);
+        final long start = records.length;
+        try {
+            writeFully(channel, ByteBuffer.wrap(line), start);
+            try {
+                final long newLength = start + line.length;
+                records = records.withAppended(start, newLength, mapSegments(channel, newLength, records));
+            } catch (IOException ioe) {
+                channel.truncate(start);
+                throw ioe;
+            }
+        } catch (IOException ioe) {
+            throw new StoreAccessException("Error writing to file: " + path, ioe);
+        }
+    }
+
+    @Override
+    public void remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+        int row = records.indexOfSamePerson(toRemove, 0);
+        while (row != -1 && !records.get(row).hasSameData(toRemove)) {
+            row = records.indexOfSamePerson(toRemove, row + 1);
+        }
+        if (row == -1) {
+            throw new PersonNotFoundException();
+        }
+        try {
+            noteRemoved(new long[] {records.starts[row]}, 1);
+        } catch (IOException ioe) {
+            throw new StoreAccessException("Error writing to file: " + removedFile, ioe);
+        }
+        records = records.withRemoved(row);
+    }
+
+    @Override
+    public void clear() {
+        final Records current = records;
+        try {
+            noteRemoved(current.starts, current.size);
+        } catch (IOException ioe) {
+            throw new StoreAccessException("Error writing to file: " + removedFile, ioe);
+        }
+        records = current.withAllRemoved();
+    }
+
+    /**
+     * Writes the lines of {@code persons} to a new file that replaces the storage file, or, if it cannot be
+     * replaced, appends them to it and notes the lines of the persons replaced as removed.
+     */
+    @Override
+    public void setPersons(UniquePersonList persons) {
+        try {
+            replaceFile(persons);
+            return;
+        } catch (IOException ioe) {
+            // the file cannot be replaced while it is mapped, as on Windows, so the persons are appended instead
+        }
+        final Records current = records;
+        final long[] starts = new long[Math.max(1, persons.size())];
+        try {
+            channel.position(current.length);
+            final OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), COPY_BUFFER_BYTES);
+            final long length = current.length + writeLines(out, persons, starts, current.length);
+            out.flush();
+            final Records replacement = current.withLines(starts, persons.size(), length,
+                    mapSegments(channel, length, current));
+            noteRemoved(current.starts, current.size);
+            records = replacement;
+        } catch (IOException ioe) {
+            try {
+                channel.truncate(current.length);
+            } catch (IOException truncateFailure) {
+                ioe.addSuppressed(truncateFailure);
+            }
+            throw new StoreAccessException("Error writing to file: " + path, ioe);
+        }
+    }
+
+    @Override
+    public void forEachPerson(Consumer<? super ReadOnlyPerson> action) {
+        final Records current = records;
+        for (int row = 0; row < current.size; row++) {
+            action.accept(current.get(row));
+        }
+    }
+
+    @Override
+    public List<ReadOnlyPerson> immutableListView() {
+        return new ImmutableListView();
+    }
+
+    @Override
+    public List<ReadOnlyPerson> immutableSnapshot() {
+        return new Snapshot(records);
+    }
+
+    @Override
+    public UniquePersonList toUniquePersonList() {
+        final Records current = records;
+        final List<Person> persons = new ArrayList<>(current.size);
+        for (int row = 0; row < current.size; row++) {
+            persons.add(current.get(row));
+        }
+        try {
+            return new UniquePersonList(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("Persons in the store are unique", dpe);
+        }
+    }
+
+    @Override
+    public void estimateHeap(MemoryEstimator estimator, Map<Structure, Long> bytes) {
+        // the persons are in the file, outside the heap, which only holds where their lines start
+        final Records current = records;
+        // this store, its records, and each buffer with the fields it has in OpenJDK 17
+        MemoryEstimator.add(bytes, Structure.PERSON_LIST, estimator.objectBytes(5, 4)
+                + estimator.objectBytes(3, 16)
+                + estimator.arrayBytes(current.starts.length, Long.BYTES)
+                + estimator.arrayBytes(current.uncanonicalStarts.length, Long.BYTES)
+                + estimator.referenceArrayBytes(current.segments.length)
+                + current.segments.length * estimator.objectBytes(5, 32));
+    }
+
+    /**
+     * Makes sure that the changes made to the store are written to the disk.
+     *
+     * @throws IOException if they could not be written.
+     */
+    public void force() throws IOException {
+        channel.force(false);
+        if (removedChannel != null) {
+            removedChannel.force(false);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of the file, which are outside the Java heap,
+     * including the lines of the persons removed since it was opened.
+     */
+    public long getFileBytes() {
+        return records.length;
+    }
+
+    /**
+     * Closes the file, and rewrites it without the lines of the persons removed, if it can be replaced.
+     * Snapshots taken earlier can still be read.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        closeRemovedChannel();
+        try {
+            applyRemovals(path);
+        } catch (IOException ioe) {
+            // the removed lines are left out of the file the next time it is opened instead
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ioe) {
+            // the store was not opened, so there is nothing to lose
+        }
+    }
+
+    private void closeRemovedChannel() throws IOException {
+        if (removedChannel != null) {
+            removedChannel.close();
+            removedChannel = null;
+        }
+    }
+
+    /**
+     * Ends the last line of the file with a line separator if it has none, so that lines can be appended.
+     */
+    private void endLastLine() throws IOException {
+        final long size = channel.size();
+        if (size == 0) {
+            return;
+        }
+        final ByteBuffer last = ByteBuffer.allocate(1);
+        channel.read(last, size - 1);
+        if (last.get(0) != NEW_LINE) {
+            writeFully(channel, ByteBuffer.wrap(LINE_SEPARATOR), size);
+        }
+    }
+
+    /**
+     * Maps the file and finds where each of its lines starts, skipping the lines starting at {@code removedStarts},
+     * which are in order.
+     */
+    private Records indexRecords(long[] removedStarts) throws IOException {
+        final long length = channel.size();
+        final MappedByteBuffer[] segments = mapSegments(channel, length, null);
+        long[] starts = new long[16];
+        int size = 0;
+        long start = 0;
+        for (int segment = 0; segment < segments.length; segment++) {
+            final MappedByteBuffer buffer = segments[segment];
+            for (int i = 0; i < buffer.limit(); i++) {
+                if (buffer.get(i) == NEW_LINE) {
+                    if (size == starts.length) {
+                        starts = Arrays.copyOf(starts, size + (size >> 1));
+                    }
+                    if (Arrays.binarySearch(removedStarts, start) < 0) {
+                        starts[size++] = start;
+                    }
+                    start = (long) segment * segmentBytes + i + 1;
+                }
+            }
+        }
+        return new Records(segments, segmentBytes, starts, size, length, new long[0]);
+    }
+
+    /**
+     * Decodes every person once to check that they are valid and that none is the same person as another.
+     * Compares hashes of the persons' names and phones, so that this takes little memory for the persons;
+     * only the persons whose hashes are the same as another's are compared by name and phone.
+     * Notes the lines that are not as {@link AddressBookEncoder} would write them, such as ones edited by hand,
+     * whose persons cannot be found by comparing the bytes of their names and phones, and are decoded instead.
+     */
+    private void validate() throws StorageOperationException {
+        final long[] identityHashes = new long[records.size];
+        long[] uncanonicalStarts = new long[0];
+        int uncanonical = 0;
+        for (int row = 0; row < records.size; row++) {
+            final Person person = decodeForValidation(row);
+            identityHashes[row] = IdentityHashes.of(person);
+            if (!AddressBookEncoder.encodePerson(person).equals(records.line(row))) {
+                if (uncanonical == uncanonicalStarts.length) {
+                    uncanonicalStarts = Arrays.copyOf(uncanonicalStarts, Math.max(16, uncanonical * 2));
+                }
+                uncanonicalStarts[uncanonical++] = records.starts[row];
+            }
+        }
+        checkIdentitiesUnique(identityHashes);
+        records = records.withUncanonicalStarts(Arrays.copyOf(uncanonicalStarts, uncanonical));
+    }
+
+    private void checkIdentitiesUnique(long[] identityHashes) throws StorageOperationException {
+        final Set<Long> repeatedHashes = IdentityHashes.findRepeated(identityHashes);
+        if (repeatedHashes.isEmpty()) {
+            return;
+        }
+        final Set<String> identities = new HashSet<>();
+        for (int row = 0; row < records.size; row++) {
+            if (!repeatedHashes.contains(identityHashes[row])) {
+                continue;
+            }
+            final Person person = decodeForValidation(row);
+            // the name cannot contain digits, so the phone is unambiguous after it
+            if (!identities.add(person.getName().fullName + person.getPhone().value)) {
+                throw new StorageOperationException("File contains duplicate persons");
+            }
+        }
+    }
+
+    private Person decodeForValidation(int row) throws StorageOperationException {
+        try {
+            return AddressBookDecoder.decodePerson(records.line(row));
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        }
+    }
+
+    /**
+     * Maps the first {@code length} bytes of the file open in {@code file}, a segment at a time,
+     * reusing the segments of {@code reusable} that map the same bytes, unless it is null.
+     */
+    private MappedByteBuffer[] mapSegments(FileChannel file, long length, Records reusable) throws IOException {
+        final MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((length + segmentBytes - 1) / segmentBytes)];
+        for (int segment = 0; segment < segments.length; segment++) {
+            final long start = (long) segment * segmentBytes;
+            final boolean isUnchanged = reusable != null && segment < reusable.segments.length
+                    && reusable.segments[segment].limit() == Math.min(segmentBytes, length - start);
+            segments[segment] = isUnchanged ? reusable.segments[segment]
+                    : file.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentBytes, length - start));
+        }
+        return segments;
+    }
+
+    /**
+     * Notes the first {@code count} of {@code starts} in the file of removed lines as where removed lines start.
+     * If they cannot all be noted, the file of removed lines is left as it was, if it can be.
+     */
+    private void noteRemoved(long[] starts, int count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        final StringBuilder entries = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            entries.append(starts[i]).append('\n');
+        }
+        if (removedChannel == null) {
+            removedChannel = FileChannel.open(removedFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        final long size = removedChannel.size();
+        try {
+            writeFully(removedChannel, ByteBuffer.wrap(entries.toString().getBytes(StandardCharsets.US_ASCII)), size);
+        } catch (IOException ioe) {
+            try {
+                removedChannel.truncate(size);
+            } catch (IOException truncateFailure) {
+                ioe.addSuppressed(truncateFailure);
+            }
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes the lines of {@code persons} to a new file, and replaces the storage file with it.
+     * The store then reads and appends to the new file, and starts with no removed lines.
+     *
+     * @throws IOException if the file could not be replaced, in which case the store is unchanged.
+     */
+    private void replaceFile(UniquePersonList persons) throws IOException {
+        final Records current = records;
+        final long[] starts = new long[Math.max(1, persons.size())];
+        closeRemovedChannel();
+        final Path replacement = createReplacement(path);
+        final FileChannel replacementChannel;
+        final long length;
+        final MappedByteBuffer[] segments;
+        try {
+            replacementChannel = FileChannel.open(replacement, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(replacement);
+            throw ioe;
+        }
+        try {
+            final OutputStream out = new BufferedOutputStream(Channels.newOutputStream(replacementChannel),
+                    COPY_BUFFER_BYTES);
+            length = writeLines(out, persons, starts, 0);
+            out.flush();
+            segments = mapSegments(replacementChannel, length, null);
+        } catch (IOException ioe) {
+            replacementChannel.close();
+            Files.deleteIfExists(replacement);
+            throw ioe;
+        }
+        try {
+            replace(path, replacement, replacementChannel);
+        } catch (IOException ioe) {
+            replacementChannel.close();
+            throw ioe;
+        }
+        final FileChannel replaced = channel;
+        channel = replacementChannel;
+        records = current.withLines(starts, persons.size(), length, segments);
+        try {
+            replaced.close();
+        } catch (IOException ioe) {
+            // the replaced file is no longer written to, and its mapped buffers can still be read
+        }
+    }
+
+    /**
+     * Returns the file of removed lines of the storage file at {@code path}.
+     */
+    static Path getRemovedFile(Path path) {
+        return path.resolveSibling(path.getFileName() + REMOVED_FILE_SUFFIX);
+    }
+
+    /**
+     * Rewrites the storage file at {@code path} without the lines noted as removed in its file of removed lines,
+     * if it has one, and deletes that file. This is not done while the file is mapped, as Windows cannot replace a
+     * mapped file.
+     *
+     * @throws IOException if the file cannot be rewritten; the file and its removed lines are then as they were.
+     */
+    private static void applyRemovals(Path path) throws IOException {
+        final Path removedFile = getRemovedFile(path);
+        if (!Files.exists(removedFile)) {
+            return;
+        }
+        final long[] removedStarts = readRemovedStarts(removedFile);
+        if (removedStarts.length == 0 || !Files.exists(path)) {
+            Files.delete(removedFile);
+            return;
+        }
+        final Path replacement = createReplacement(path);
+        try (FileChannel out = FileChannel.open(replacement, StandardOpenOption.WRITE)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                final OutputStream outStream = new BufferedOutputStream(Channels.newOutputStream(out),
+                        COPY_BUFFER_BYTES);
+                copyKeptLines(in, removedStarts, outStream);
+                outStream.flush();
+            } catch (IOException ioe) {
+                Files.deleteIfExists(replacement);
+                throw ioe;
+            }
+            replace(path, replacement, out);
+        }
+    }
+
+    /**
+     * Returns the lines of the storage file at {@code path}, without those noted as removed in its file of removed
+     * lines, which the file is left with. The lines are split as by {@link Files#readAllLines(Path)}.
+     */
+    static List<String> readKeptLines(Path path) throws IOException {
+        final Path removedFile = getRemovedFile(path);
+        if (!Files.exists(removedFile)) {
+            return Files.readAllLines(path);
+        }
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(readKeptBytes(path)), StandardCharsets.UTF_8));
+        return reader.lines().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the bytes of the storage file at {@code path}, without the lines noted as removed in its file of
+     * removed lines, which the file is left with.
+     */
+    static byte[] readKeptBytes(Path path) throws IOException {
+        final Path removedFile = getRemovedFile(path);
+        if (!Files.exists(removedFile)) {
+            return Files.readAllBytes(path);
+        }
+        final long[] removedStarts = readRemovedStarts(removedFile);
+        final ByteArrayOutputStream kept = new ByteArrayOutputStream();
+        try (InputStream in = Files.newInputStream(path)) {
+            copyKeptLines(in, removedStarts, kept);
+        }
+        return kept.toByteArray();
+    }
+
+    /**
+     * Deletes the file of removed lines of the storage file at {@code path}, if it has one, before the file is
+     * written anew with the persons of an address book loaded without those lines.
+     */
+    static void discardRemovals(Path path) throws IOException {
+        Files.deleteIfExists(getRemovedFile(path));
+    }
+
+    /**
+     * Returns where the removed lines noted in {@code removedFile} start, in order; none if it does not exist.
+     * An entry cut short, as by a crash while it was written, is ignored, as are the entries noted before the
+     * storage file was replaced.
+     */
+    private static long[] readRemovedStarts(Path removedFile) throws IOException {
+        if (!Files.exists(removedFile)) {
+            return new long[0];
+        }
+        final String entries = new String(Files.readAllBytes(removedFile), StandardCharsets.US_ASCII);
+        long[] starts = new long[16];
+        int count = 0;
+        int entryStart = 0;
+        for (int entryEnd = entries.indexOf('\n'); entryEnd != -1; entryEnd = entries.indexOf('\n', entryStart)) {
+            final String entry = entries.substring(entryStart, entryEnd);
+            entryStart = entryEnd + 1;
+            if (entry.startsWith(REPLACED_BY)) {
+                if (!Files.exists(removedFile.resolveSibling(entry.substring(REPLACED_BY.length())))) {
+                    count = 0;
+                }
+                continue;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            try {
+                starts[count++] = Long.parseLong(entry);
+            } catch (NumberFormatException nfe) {
+                throw new IOException("Invalid removed line: " + entry, nfe);
+            }
+        }
+        final long[] sorted = Arrays.copyOf(starts, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Creates the file that is to replace the storage file at {@code path}, next to it so that it can be moved over
+     * it in one step.
+     */
+    private static Path createReplacement(Path path) throws IOException {
+        return Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+    }
+
+    /**
+     * Moves {@code replacement}, written through {@code written}, over the storage file at {@code path}, and then
+     * deletes the file of removed lines of the replaced file. The replacement is first noted in that file, so that
+     * should the program stop before the file is deleted, its entries are not taken for lines of the replacement.
+     *
+     * @throws IOException if the file cannot be replaced, in which case {@code replacement} is deleted.
+     */
+    private static void replace(Path path, Path replacement, FileChannel written) throws IOException {
+        written.force(false);
+        final Path removedFile = getRemovedFile(path);
+        long notedFrom = -1;
+        try {
+            if (Files.exists(removedFile)) {
+                notedFrom = noteReplacement(removedFile, replacement);
+            }
+            Files.move(replacement, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioe) {
+            try {
+                if (notedFrom != -1) {
+                    try (FileChannel removed = FileChannel.open(removedFile, StandardOpenOption.WRITE)) {
+                        removed.truncate(notedFrom);
+                    }
+                }
+                // deleted only once the note is taken back, so that the entries before it still count
+                Files.deleteIfExists(replacement);
+            } catch (IOException cleanUpFailure) {
+                ioe.addSuppressed(cleanUpFailure);
+            }
+            throw ioe;
+        }
+        try {
+            Files.deleteIfExists(removedFile);
+        } catch (IOException ioe) {
+            // its entries name the replacement, which is gone, so they are ignored
+        }
+    }
+
+    /**
+     * Notes in {@code removedFile} that the storage file is about to be replaced by {@code replacement},
+     * and returns the size of {@code removedFile} before.
+     */
+    private static long noteReplacement(Path removedFile, Path replacement) throws IOException {
+        try (FileChannel removed = FileChannel.open(removedFile, StandardOpenOption.WRITE)) {
+            final long size = removed.size();
+            final String entry = REPLACED_BY + replacement.getFileName() + "\n";
+            writeFully(removed, ByteBuffer.wrap(entry.getBytes(StandardCharsets.US_ASCII)), size);
+            removed.force(false);
+            return size;
+        }
+    }
+
+    /**
+     * Copies the lines read from {@code in} to {@code out}, except those starting at {@code removedStarts},
+     * which are in order.
+     */
+    private static void copyKeptLines(InputStream in, long[] removedStarts, OutputStream out) throws IOException {
+        final byte[] buffer = new byte[COPY_BUFFER_BYTES];
+        long position = 0;
+        boolean isLineStart = true;
+        boolean isRemoved = false;
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            int keptFrom = 0;
+            for (int i = 0; i < count; i++) {
+                if (isLineStart && Arrays.binarySearch(removedStarts, position + i) >= 0) {
+                    out.write(buffer, keptFrom, i - keptFrom);
+                    isRemoved = true;
+                }
+                isLineStart = buffer[i] == NEW_LINE;
+                if (isLineStart && isRemoved) {
+                    keptFrom = i + 1;
+                    isRemoved = false;
+                }
+            }
+            if (!isRemoved) {
+                out.write(buffer, keptFrom, count - keptFrom);
+            }
+            position += count;
+        }
+    }
+
+    /**
+     * Writes the lines of {@code persons} to {@code out}, noting in {@code starts} where each starts in the file,
+     * counting from {@code position}, and returns the number of bytes written.
+     */
+    private static long writeLines(OutputStream out, UniquePersonList persons, long[] starts, long position)
+            throws IOException {
+        long written = 0;
+        int row = 0;
+        for (Person person : persons) {
+            final byte[] line = encodeLine(person);
+            out.write(line);
+            starts[row++] = position + written;
+            written += line.length;
+        }
+        return written;
+    }
+
+    /**
+     * Writes all of {@code bytes} to {@code file} at {@code position}, and returns the number of bytes written.
+     */
+    private static int writeFully(FileChannel file, ByteBuffer bytes, long position) throws IOException {
+        final int count = bytes.remaining();
+        long written = position;
+        while (bytes.hasRemaining()) {
+            written += file.write(bytes, written);
+        }
+        return count;
+    }
+
+    private static byte[] encodeLine(ReadOnlyPerson person) {
+        final byte[] encoded = AddressBookEncoder.encodePerson(person).getBytes(StandardCharsets.UTF_8);
+        final byte[] line = Arrays.copyOf(encoded, encoded.length + LINE_SEPARATOR.length);
+        System.arraycopy(LINE_SEPARATOR, 0, line, encoded.length, LINE_SEPARATOR.length);
+        return line;
+    }
+
+    /**
+     * The lines of one version of the file, as mapped buffers and where each line starts.
+     * Appending a line makes a new version sharing the arrays, which versions before it do not read beyond
+     * their own size; removing lines makes a new version with arrays of its own.
+     */
+    private static final class Records {
+
+        private final MappedByteBuffer[] segments;
+        private final int segmentBytes;
+        private final long[] starts;
+        private final int size;
+        private final long length;
+        /** Where the lines not as {@link AddressBookEncoder} would write them start, in order. */
+        private final long[] uncanonicalStarts;
+
+        Records(MappedByteBuffer[] segments, int segmentBytes, long[] starts, int size, long length,
+                long[] uncanonicalStarts) {
+            this.segments = segments;
+            this.segmentBytes = segmentBytes;
+            this.starts = starts;
+            this.size = size;
+            this.length = length;
+            this.uncanonicalStarts = uncanonicalStarts;
+        }
+
+        Records withAppended(long start, long newLength, MappedByteBuffer[] newSegments) {
+            final long[] newStarts = size < starts.length ? starts
+                    : Arrays.copyOf(starts, Math.max(16, size + (size >> 1)));
+            newStarts[size] = start;
+            return new Records(newSegments, segmentBytes, newStarts, size + 1, newLength, uncanonicalStarts);
+        }
+
+        Records withRemoved(int row) {
+            final long[] newStarts = new long[starts.length];
+            System.arraycopy(starts, 0, newStarts, 0, row);
+            System.arraycopy(starts, row + 1, newStarts, row, size - row - 1);
+            return new Records(segments, segmentBytes, newStarts, size - 1, length, uncanonicalStarts);
+        }
+
+        Records withAllRemoved() {
+            return new Records(segments, segmentBytes, new long[16], 0, length, new long[0]);
+        }
+
+        /**
+         * Returns a version with only the lines starting at the first {@code newSize} of {@code newStarts},
+         * which were all written by {@link AddressBookEncoder}.
+         */
+        Records withLines(long[] newStarts, int newSize, long newLength, MappedByteBuffer[] newSegments) {
+            return new Records(newSegments, segmentBytes, newStarts, newSize, newLength, new long[0]);
+        }
+
+        Records withUncanonicalStarts(long[] newUncanonicalStarts) {
+            return new Records(segments, segmentBytes, starts, size, length, newUncanonicalStarts);
+        }
+
+        /**
+         * Returns the person of {@code row}, decoded from its line.
+         */
+        Person get(int row) {
+            try {
+                return AddressBookDecoder.decodePerson(line(row));
+            } catch (IllegalValueException | StorageOperationException e) {
+                throw new AssertionError("Lines were valid when written", e);
+            }
+        }
+
+        /**
+         * Returns the line of {@code row}, without its line separator.
+         */
+        String line(int row) {
+            final long start = starts[row];
+            long end = start;
+            while (byteAt(end) != NEW_LINE) {
+                end++;
+            }
+            final byte[] bytes = read(start, (int) (end - start));
+            int lineLength = bytes.length;
+            if (lineLength > 0 && bytes[lineLength - 1] == CARRIAGE_RETURN) {
+                lineLength--;
+            }
+            return new String(bytes, 0, lineLength, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns the first row from {@code fromRow} of the same person as {@code key}, or -1 if there is none.
+         * Compares the bytes of the names and phones in the file, without decoding the persons,
+         * except those of the lines not as {@link AddressBookEncoder} would write them.
+         */
+        int indexOfSamePerson(ReadOnlyPerson key, int fromRow) {
+            // each line starts with the name and then, as names have no slashes, " p/" or " pp/" and the phone
+            final byte[] namePrefix = (key.getName().fullName + " ").getBytes(StandardCharsets.UTF_8);
+            final byte[] phone = (key.getPhone().value).getBytes(StandardCharsets.UTF_8);
+            for (int row = fromRow; row < size; row++) {
+                final long start = starts[row];
+                if (uncanonicalStarts.length > 0 && Arrays.binarySearch(uncanonicalStarts, start) >= 0) {
+                    if (get(row).isSamePerson(key)) {
+                        return row;
+                    }
+                    continue;
+                }
+                if (length - start < namePrefix.length || !matches(start, namePrefix)) {
+                    continue;
+                }
+                long phoneStart = start + namePrefix.length;
+                if (byteAt(phoneStart) == 'p' && byteAt(phoneStart + 1) == 'p') {
+                    phoneStart++;
+                }
+                if (byteAt(phoneStart) == 'p' && byteAt(phoneStart + 1) == '/'
+                        && phoneStart + 2 + phone.length < length && matches(phoneStart + 2, phone)
+                        && isEndOfValue(byteAt(phoneStart + 2 + phone.length))) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean isEndOfValue(byte next) {
+            return next == ' ' || next == NEW_LINE || next == CARRIAGE_RETURN;
+        }
+
+        private boolean matches(long position, byte[] expected) {
+            for (int i = 0; i < expected.length; i++) {
+                if (byteAt(position + i) != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private byte byteAt(long position) {
+            return segments[(int) (position / segmentBytes)].get((int) (position % segmentBytes));
+        }
+
+        private byte[] read(long position, int count) {
+            final byte[] bytes = new byte[count];
+            int copied = 0;
+            while (copied < count) {
+                final long at = position + copied;
+                final int offset = (int) (at % segmentBytes);
+                final int chunk = Math.min(count - copied, segmentBytes - offset);
+                segments[(int) (at / segmentBytes)].get(offset, bytes, copied, chunk);
+                copied += chunk;
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Unmodifiable view that always reads the current version of the file.
+     */
+    private class ImmutableListView extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+        @Override
+        public ReadOnlyPerson get(int index) {
+            Objects.checkIndex(index, records.size);
+            return records.get(index);
+        }
+
+        @Override
+        public int size() {
+            return records.size;
+        }
+    }
+
+    /**
+     * Unmodifiable list of the persons of one version of the file.
+     */
+    private static class Snapshot extends AbstractList<ReadOnlyPerson> implements RandomAccess {
+
+        private final Records records;
+
+        Snapshot(Records records) {
+            this.records = records;
+        }
+
+        @Override
+        public ReadOnlyPerson get(int index) {
+            Objects.checkIndex(index, records.size);
+            return records.get(index);
+        }
+
+        @Override
+        public int size() {
+            return records.size;
+        }
+    }
+
+    /**
+     * Signals that the file of the store could not be read or written. The store is unchanged.
+     * Unchecked, as the operations of {@link PersonStore} cannot fail in any other store.
+     */
+    public static class StoreAccessException extends RuntimeException {
+        public StoreAccessException(String message, IOException cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -9,6 +9,9 @@ import java.util.List;
 
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ColumnarPersonStore;
+import seedu.addressbook.metrics.StorageEvent;
+import seedu.addressbook.metrics.ValueRecorder;
 
 /**
  * Represents the file used to store address book data.
@@ -18,9 +21,27 @@ public class StorageFile {
     /** Default file path used if the user doesn't provide the file name. */
     public static final String DEFAULT_STORAGE_FILEPATH = "addressbook.txt";
 
+    /** Names under which saving and loading are timed in {@link ValueRecorder#STORAGE}. */
+    public static final String SAVE_OPERATION = "(save)";
+    public static final String LOAD_OPERATION = "(load)";
+
+    /** The largest file that {@link #loadLazily()} can load, as it reads the file into one array. */
+    private static final long MAX_LAZY_LOAD_BYTES = Integer.MAX_VALUE - 8;
+
 
     public final Path path;
 
+    private volatile long lastSaveNanos = -1;
+    private volatile long lastSaveBytes = -1;
+    private volatile long savedMutationCount;
+
+    /** How far the latest {@link #load()} has got. */
+    private final LoadProgress loadProgress = new LoadProgress();
+
+    /** The address book whose persons are kept in this file mapped into memory, if it was loaded so. */
+    private AddressBook mappedAddressBook;
+    private MappedPersonStore mappedStore;
+
     /**
      * @throws InvalidStorageFilePathException if the default path is invalid
      */
@@ -52,11 +73,29 @@ public class StorageFile {
      * @throws StorageOperationException if there were errors converting and/or storing data to file.
      */
     public void save(AddressBook addressBook) throws StorageOperationException {
+        final StorageEvent event = new StorageEvent();
+        event.begin();
+        final long start = System.nanoTime();
         try {
-            List<String> encodedAddressBook = AddressBookEncoder.encodeAddressBook(addressBook);
-            Files.write(path, encodedAddressBook);
+            // read before encoding, so that changes made while encoding count as unsaved
+            final long mutationCount = addressBook.getMutationCount();
+            if (mappedAddressBook != null) {
+                forceMapped(addressBook);
+                event.persons = addressBook.size();
+            } else {
+                List<String> encodedAddressBook = AddressBookEncoder.encodeAddressBook(addressBook);
+                MappedPersonStore.discardRemovals(path);
+                Files.write(path, encodedAddressBook);
+                event.persons = encodedAddressBook.size();
+            }
+            lastSaveBytes = Files.size(path);
+            lastSaveNanos = System.nanoTime() - start;
+            savedMutationCount = mutationCount;
         } catch (IOException ioe) {
             throw new StorageOperationException("Error writing to file: " + path);
+        } finally {
+            ValueRecorder.STORAGE.record(SAVE_OPERATION, System.nanoTime() - start);
+            commitEvent(event, StorageEvent.SAVE);
         }
     }
 
@@ -72,8 +111,14 @@ public class StorageFile {
             return new AddressBook();
         }
 
+        final StorageEvent event = new StorageEvent();
+        event.begin();
+        final long start = System.nanoTime();
         try {
-            return AddressBookDecoder.decodeAddressBook(Files.readAllLines(path));
+            final List<String> encodedAddressBook = MappedPersonStore.readKeptLines(path);
+            final AddressBook addressBook = AddressBookDecoder.decodeAddressBook(encodedAddressBook, loadProgress);
+            event.persons = addressBook.size();
+            return addressBook;
         } catch (FileNotFoundException fnfe) {
             throw new AssertionError("A non-existent file scenario is already handled earlier.");
         // other errors
@@ -81,13 +126,184 @@ public class StorageFile {
             throw new StorageOperationException("Error writing to file: " + path);
         } catch (IllegalValueException ive) {
             throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        } finally {
+            ValueRecorder.STORAGE.record(LOAD_OPERATION, System.nanoTime() - start);
+            commitEvent(event, StorageEvent.LOAD);
+        }
+    }
+
+    /**
+     * Loads the {@code AddressBook} data from this storage file like {@link #load()}, into an address book that
+     * keeps its persons in a {@link ColumnarPersonStore}. The persons are added to the columns as they are decoded,
+     * rather than all decoded into objects first.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file,
+     *         or its persons do not fit in the columns.
+     */
+    public AddressBook loadColumnar() throws StorageOperationException {
+
+        if (!Files.exists(path) || !Files.isRegularFile(path)) {
+            return new AddressBook(new ColumnarPersonStore());
+        }
+
+        final StorageEvent event = new StorageEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        try {
+            final List<String> encodedAddressBook = MappedPersonStore.readKeptLines(path);
+            final AddressBook addressBook = AddressBookDecoder.decodeColumnarAddressBook(encodedAddressBook,
+                    loadProgress);
+            event.persons = addressBook.size();
+            return addressBook;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        } catch (IllegalStateException ise) {
+            throw new StorageOperationException("File too large to load into columns: " + path);
+        } finally {
+            ValueRecorder.STORAGE.record(LOAD_OPERATION, System.nanoTime() - start);
+            commitEvent(event, StorageEvent.LOAD);
+        }
+    }
+
+    /**
+     * Loads the {@code AddressBook} data from this storage file like {@link #load()}, but decodes each person
+     * only when it is first read. Only the names and phones of the persons are checked while loading;
+     * reading a person with other invalid details fails later with a
+     * {@link LazyPersonStore.InvalidRecordException}.
+     *
+     * @throws StorageOperationException if there were errors reading the file, or persons in it have invalid
+     *         names or phones or are the same person.
+     * @see LazyPersonStore
+     */
+    public AddressBook loadLazily() throws StorageOperationException {
+
+        if (!Files.exists(path) || !Files.isRegularFile(path)) {
+            return new AddressBook();
+        }
+
+        final StorageEvent event = new StorageEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        try {
+            if (Files.size(path) > MAX_LAZY_LOAD_BYTES) {
+                throw new StorageOperationException("File too large to load lazily: " + path);
+            }
+            final byte[] data = MappedPersonStore.readKeptBytes(path);
+            final AddressBook addressBook = new AddressBook(LazyPersonStore.load(data));
+            event.persons = addressBook.size();
+            return addressBook;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + path);
+        } finally {
+            ValueRecorder.STORAGE.record(LOAD_OPERATION, System.nanoTime() - start);
+            commitEvent(event, StorageEvent.LOAD);
+        }
+    }
+
+    /**
+     * Opens this storage file as the store of the persons of an address book, which keeps them in the file mapped
+     * into memory rather than in the heap, and writes changes to them to the file as they are made.
+     * Saving that address book only makes sure that its changes are on disk; no other can be saved to this file.
+     *
+     * @throws StorageOperationException if the file could not be read or has invalid data.
+     * @see MappedPersonStore
+     */
+    public AddressBook loadMapped() throws StorageOperationException {
+        final StorageEvent event = new StorageEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        try {
+            mappedStore = MappedPersonStore.open(path);
+            mappedAddressBook = new AddressBook(mappedStore);
+            event.persons = mappedAddressBook.size();
+            return mappedAddressBook;
+        } finally {
+            ValueRecorder.STORAGE.record(LOAD_OPERATION, System.nanoTime() - start);
+            commitEvent(event, StorageEvent.LOAD);
         }
     }
 
+    /**
+     * Closes the file the persons of the address book loaded by {@link #loadMapped()} are kept in, if one was,
+     * which leaves the lines of the persons removed from it out of the file. That address book cannot be used after.
+     *
+     * @throws StorageOperationException if the file could not be closed.
+     */
+    public void close() throws StorageOperationException {
+        if (mappedStore == null) {
+            return;
+        }
+        try {
+            mappedStore.close();
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + path);
+        }
+    }
+
+    /**
+     * Makes sure that the changes to the mapped {@code addressBook} are on disk.
+     */
+    private void forceMapped(AddressBook addressBook) throws IOException, StorageOperationException {
+        if (addressBook != mappedAddressBook) {
+            throw new StorageOperationException("Storage file holds the persons of another address book: " + path);
+        }
+        mappedStore.force();
+    }
+
+    /**
+     * Fills in and commits the {@code event} if it is being recorded.
+     * The persons saved or loaded are left as they are; the size of the file is looked up.
+     */
+    private void commitEvent(StorageEvent event, String operation) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.path = path.toString();
+        try {
+            event.bytes = Files.size(path);
+        } catch (IOException ioe) {
+            event.bytes = -1;
+        }
+        event.commit();
+    }
+
     public String getPath() {
         return path.toString();
     }
 
+    /**
+     * Returns how long the last successful save took, in nanoseconds, or -1 if nothing has been saved.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Returns the size of the file written by the last successful save, or -1 if nothing has been saved.
+     */
+    public long getLastSaveBytes() {
+        return lastSaveBytes;
+    }
+
+    /**
+     * Returns the {@link AddressBook#getMutationCount() mutation count} of the address book last saved,
+     * as it was when it was saved, or 0 if nothing has been saved.
+     */
+    public long getSavedMutationCount() {
+        return savedMutationCount;
+    }
+
+    /**
+     * Returns how far {@link #load()} has got, which may be read while it runs on another thread.
+     */
+    public LoadProgress getLoadProgress() {
+        return loadProgress;
+    }
+
     /* Note: Note the use of nested classes below.
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
      */
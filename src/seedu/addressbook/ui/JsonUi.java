@@ -0,0 +1,136 @@
+package seedu.addressbook.ui;
+
+import static seedu.addressbook.common.Messages.MESSAGE_INIT_FAILED;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Machine-readable UI of the application, for use by other programs.
+ * Reads commands as {@link TextUi} does, but writes the result of every command as one line of JSON,
+ * and any other message as a line holding a single {@code "message"} member.
+ * There are no prompts, echoes or banners.
+ */
+public class JsonUi extends TextUi {
+
+    private static final char LINE_END = '\n';
+
+    public JsonUi() {
+        super();
+    }
+
+    public JsonUi(InputStream in, PrintStream out) {
+        super(in, out);
+    }
+
+    /**
+     * Reads the next command, ignoring empty, pure whitespace, and comment lines.
+     */
+    @Override
+    public String getUserCommand() {
+        String fullInputLine = readLine();
+        while (shouldIgnore(fullInputLine)) {
+            fullInputLine = readLine();
+        }
+        return fullInputLine;
+    }
+
+    @Override
+    public String formatCommandEntered(String fullInputLine) {
+        return "";
+    }
+
+    @Override
+    public void showWelcomeMessage(String version, String storageFilePath) {
+    }
+
+    @Override
+    public void showGoodbyeMessage() {
+    }
+
+    @Override
+    public void showInitFailedMessage() {
+        showToUser(MESSAGE_INIT_FAILED);
+    }
+
+    @Override
+    public void showToUser(String... message) {
+        try {
+            for (String m : message) {
+                new JsonWriter(out).beginObject().name("message").value(m).endObject();
+                out.append(LINE_END);
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        out.flush();
+    }
+
+    @Override
+    public void showResultToUser(CommandResult result) {
+        writeResult(result, out);
+        out.flush();
+    }
+
+    @Override
+    public String formatResult(CommandResult result) {
+        final StringBuilder formatted = new StringBuilder();
+        writeResult(result, formatted);
+        return formatted.toString();
+    }
+
+    /**
+     * Writes the result to {@code target} as one line of JSON: the feedback message and, if the result has
+     * a list of persons, the size of the list and the persons shown, streamed one at a time.
+     */
+    private static void writeResult(CommandResult result, Appendable target) {
+        try {
+            final JsonWriter json = new JsonWriter(target);
+            json.beginObject().name("feedback").value(result.feedbackToUser);
+            final Optional<List<? extends ReadOnlyPerson>> resultPersons = result.getRelevantPersons();
+            if (resultPersons.isPresent()) {
+                final List<? extends ReadOnlyPerson> persons = resultPersons.get();
+                json.name("total").value(persons.size()).name("persons").beginArray();
+                for (int i = result.getShownFromIndex(); i < result.getShownToIndex(); i++) {
+                    writePerson(json, i + DISPLAYED_INDEX_OFFSET, persons.get(i));
+                }
+                json.endArray();
+            }
+            json.endObject();
+            target.append(LINE_END);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Writes a person as a JSON object. Private contact details are left out.
+     */
+    private static void writePerson(JsonWriter json, int displayIndex, ReadOnlyPerson person) throws IOException {
+        json.beginObject()
+                .name("index").value(displayIndex)
+                .name("name").value(person.getName().fullName);
+        if (!person.getPhone().isPrivate()) {
+            json.name("phone").value(person.getPhone().value);
+        }
+        if (!person.getEmail().isPrivate()) {
+            json.name("email").value(person.getEmail().getValue());
+        }
+        if (!person.getAddress().isPrivate()) {
+            json.name("address").value(person.getAddress().value);
+        }
+        json.name("tags").beginArray();
+        for (Tag tag : person.getTags()) {
+            json.value(tag.tagName);
+        }
+        json.endArray().endObject();
+    }
+}
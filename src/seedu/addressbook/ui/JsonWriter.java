@@ -0,0 +1,146 @@
+package seedu.addressbook.ui;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writes JSON to an {@link Appendable} as it is produced, one token at a time, without building the document.
+ * Commas and colons are inserted automatically; nothing else is checked beyond the nesting of objects and arrays.
+ */
+public class JsonWriter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Appendable out;
+
+    /** For each open object or array, whether a value has been written in it yet. */
+    private boolean[] hasValueAtDepth = new boolean[8];
+    private int depth;
+
+    /** True if a name has just been written, so the next value belongs to it. */
+    private boolean isAfterName;
+
+    public JsonWriter(Appendable out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     */
+    public JsonWriter name(String name) throws IOException {
+        beforeValue();
+        writeString(name);
+        out.append(':');
+        isAfterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) throws IOException {
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.append(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.append(value ? "true" : "false");
+        return this;
+    }
+
+    private JsonWriter open(char bracket) throws IOException {
+        beforeValue();
+        out.append(bracket);
+        if (depth == hasValueAtDepth.length) {
+            hasValueAtDepth = Arrays.copyOf(hasValueAtDepth, depth * 2);
+        }
+        hasValueAtDepth[depth++] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        if (depth == 0 || isAfterName) {
+            throw new IllegalStateException("Nothing to close with " + bracket);
+        }
+        depth--;
+        out.append(bracket);
+        return this;
+    }
+
+    /**
+     * Writes the comma separating the next value or name from the previous one, if needed.
+     */
+    private void beforeValue() throws IOException {
+        if (isAfterName) {
+            isAfterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (hasValueAtDepth[depth - 1]) {
+                out.append(',');
+            }
+            hasValueAtDepth[depth - 1] = true;
+        }
+    }
+
+    /**
+     * Writes a quoted string, escaping the characters JSON requires and the line and paragraph separators,
+     * which JavaScript does not allow in string literals.
+     */
+    private void writeString(String s) throws IOException {
+        out.append('"');
+        int unescapedStart = 0;
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c >= ' ' && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') {
+                continue;
+            }
+            out.append(s, unescapedStart, i);
+            unescapedStart = i + 1;
+            switch (c) {
+            case '"':
+                out.append("\\\"");
+                break;
+            case '\\':
+                out.append("\\\\");
+                break;
+            case '\n':
+                out.append("\\n");
+                break;
+            case '\r':
+                out.append("\\r");
+                break;
+            case '\t':
+                out.append("\\t");
+                break;
+            default:
+                out.append("\\u").append(HEX_DIGITS[c >> 12 & 0xF]).append(HEX_DIGITS[c >> 8 & 0xF])
+                        .append(HEX_DIGITS[c >> 4 & 0xF]).append(HEX_DIGITS[c & 0xF]);
+                break;
+            }
+        }
+        out.append(s, unescapedStart, s.length());
+        out.append('"');
+    }
+}
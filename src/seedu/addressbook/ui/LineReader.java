@@ -0,0 +1,103 @@
+package seedu.addressbook.ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+/**
+ * Reads lines of user input through a buffer, splitting them exactly as {@link java.util.Scanner#nextLine()} does:
+ * at {@code \r\n}, {@code \n}, {@code \r}, {@code \u2028}, {@code \u2029} and {@code \u0085}.
+ *
+ * Never waits for more input than the line being read, so it can be used interactively:
+ * a {@code \n} following a {@code \r} is skipped when the next line is read rather than looked for at once.
+ */
+public class LineReader {
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    /** True if the last line ended with {@code \r}, so that a {@code \n} right after it belongs to the same break. */
+    private boolean isLineFeedSkipped;
+
+    /**
+     * Reads from {@code in} using the default charset, as {@link java.util.Scanner} does.
+     */
+    public LineReader(InputStream in) {
+        this(new InputStreamReader(in));
+    }
+
+    public LineReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Returns the next line, without its line separator, or null if the input has ended.
+     * The last line of the input need not end with a line separator.
+     *
+     * @throws IOException if reading the input fails.
+     */
+    public String readLine() throws IOException {
+        StringBuilder partialLine = null;
+        while (true) {
+            if (position == limit && !fillBuffer()) {
+                return partialLine == null ? null : partialLine.toString();
+            }
+            if (isLineFeedSkipped) {
+                isLineFeedSkipped = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            final int lineStart = position;
+            while (position < limit) {
+                final char c = buffer[position];
+                if (isLineSeparator(c)) {
+                    final String line = partialLine == null
+                            ? new String(buffer, lineStart, position - lineStart)
+                            : partialLine.append(buffer, lineStart, position - lineStart).toString();
+                    position++;
+                    isLineFeedSkipped = c == '\r';
+                    return line;
+                }
+                position++;
+            }
+            if (partialLine == null) {
+                partialLine = new StringBuilder();
+            }
+            partialLine.append(buffer, lineStart, position - lineStart);
+        }
+    }
+
+    /**
+     * Returns true if input that has not been returned as a line yet is already in the buffer,
+     * so that reading the next line may not have to wait.
+     */
+    public boolean hasBufferedInput() {
+        return position < limit;
+    }
+
+    /**
+     * Reads whatever input is available into the buffer, waiting for at least one character.
+     *
+     * @return false if the input has ended
+     */
+    private boolean fillBuffer() throws IOException {
+        final int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private static boolean isLineSeparator(char c) {
+        return c == '\n' || c == '\r' || c == '\u2028' || c == '\u2029' || c == '\u0085';
+    }
+}
@@ -6,12 +6,14 @@ import static seedu.addressbook.common.Messages.MESSAGE_PROGRAM_LAUNCH_ARGS_USAG
 import static seedu.addressbook.common.Messages.MESSAGE_USING_STORAGE_FILE;
 import static seedu.addressbook.common.Messages.MESSAGE_WELCOME;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
-import java.util.ArrayList;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Scanner;
 
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.data.person.ReadOnlyPerson;
@@ -36,19 +38,35 @@ public class TextUi {
     /** Offset required to convert between 1-indexing and 0-indexing.  */
     public static final int DISPLAYED_INDEX_OFFSET = 1;
 
-    /** Format of a comment input line. Comment lines are silently consumed when reading user input. */
-    private static final String COMMENT_LINE_FORMAT_REGEX = "#.*";
+    /** Start of a comment input line. Comment lines are silently consumed when reading user input. */
+    private static final char COMMENT_LINE_PREFIX = '#';
 
-    private final Scanner in;
-    private final PrintStream out;
+    /** Prompt shown before reading each command. */
+    private static final String MESSAGE_ENTER_COMMAND = LINE_PREFIX + "Enter command: ";
+
+    /** Start and end of the echo of the command entered by the user */
+    private static final String MESSAGE_COMMAND_ENTERED_START = "[Command entered:";
+    private static final String MESSAGE_COMMAND_ENTERED_END = "]";
+
+    /** Format of the line shown after a page of a listing that is too long to show at once. */
+    private static final String MESSAGE_PAGE_SHOWN = "Showing %1$d-%2$d of %3$d. Enter \"next\" or \"prev\" for more.";
+
+    /** Size of the buffer that collects the output of a command before it is written out. */
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    protected final LineReader in;
+    protected final PrintStream out;
 
     public TextUi() {
         this(System.in, System.out);
     }
 
+    /**
+     * Output to {@code out} is buffered, and written out once per command rather than once per line.
+     */
     public TextUi(InputStream in, PrintStream out) {
-        this.in = new Scanner(in);
-        this.out = out;
+        this.in = new LineReader(in);
+        this.out = new PrintStream(new BufferedOutputStream(out, OUTPUT_BUFFER_SIZE), false);
     }
 
     /**
@@ -58,18 +76,45 @@ public class TextUi {
      * @param rawInputLine full raw user input line.
      * @return true if the entire user input line should be ignored.
      */
-    private boolean shouldIgnore(String rawInputLine) {
-        return rawInputLine.trim().isEmpty() || isCommentLine(rawInputLine);
+    public static boolean shouldIgnore(String rawInputLine) {
+        final int start = indexOfFirstNonBlank(rawInputLine);
+        return start == rawInputLine.length() || isCommentLine(rawInputLine, start);
     }
 
     /**
-     * Returns true if the user input line is a comment line.
+     * Returns true if the user input line is a comment line: once trimmed, it starts with '#' and,
+     * like any line read from the user, contains no line terminator.
      *
      * @param rawInputLine full raw user input line.
+     * @param start index of the first character that is not trimmed
      * @return true if input line is a comment.
      */
-    private boolean isCommentLine(String rawInputLine) {
-        return rawInputLine.trim().matches(COMMENT_LINE_FORMAT_REGEX);
+    private static boolean isCommentLine(String rawInputLine, int start) {
+        if (rawInputLine.charAt(start) != COMMENT_LINE_PREFIX) {
+            return false;
+        }
+        int end = rawInputLine.length();
+        while (rawInputLine.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        for (int i = start + 1; i < end; i++) {
+            final char c = rawInputLine.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first character that {@link String#trim()} keeps, or the length if there is none.
+     */
+    private static int indexOfFirstNonBlank(String s) {
+        int i = 0;
+        while (i < s.length() && s.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
     }
 
     /**
@@ -79,18 +124,48 @@ public class TextUi {
      * @return command (full line) entered by the user
      */
     public String getUserCommand() {
-        out.print(LINE_PREFIX + "Enter command: ");
-        String fullInputLine = in.nextLine();
+        out.print(MESSAGE_ENTER_COMMAND);
+        // the prompt only needs to be seen if we are about to wait for the user
+        if (!in.hasBufferedInput()) {
+            out.flush();
+        }
+        String fullInputLine = readLine();
 
         // silently consume all ignored lines
         while (shouldIgnore(fullInputLine)) {
-            fullInputLine = in.nextLine();
+            fullInputLine = readLine();
         }
 
-        showToUser("[Command entered:" + fullInputLine + "]");
+        // written out together with the result of the command
+        out.print(formatForUser(MESSAGE_COMMAND_ENTERED_START + fullInputLine + MESSAGE_COMMAND_ENTERED_END));
         return fullInputLine;
     }
 
+    /**
+     * Reads the next line of input.
+     *
+     * @throws NoSuchElementException if the input has ended.
+     */
+    protected String readLine() {
+        try {
+            final String line = in.readLine();
+            if (line == null) {
+                throw new NoSuchElementException("No line found");
+            }
+            return line;
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Formats the prompt and the echo of {@code fullInputLine} exactly as {@link #getUserCommand()} shows them.
+     */
+    public String formatCommandEntered(String fullInputLine) {
+        return MESSAGE_ENTER_COMMAND
+                + formatForUser(MESSAGE_COMMAND_ENTERED_START + fullInputLine + MESSAGE_COMMAND_ENTERED_END);
+    }
+
 
     public void showWelcomeMessage(String version, String storageFilePath) {
         String storageFileInfo = String.format(MESSAGE_USING_STORAGE_FILE, storageFilePath);
@@ -115,9 +190,17 @@ public class TextUi {
 
     /** Shows message(s) to the user */
     public void showToUser(String... message) {
+        out.print(formatForUser(message));
+        out.flush();
+    }
+
+    /** Formats message(s) the way {@link #showToUser(String...)} shows them, one line per message. */
+    private static String formatForUser(String... message) {
+        final StringBuilder formatted = new StringBuilder();
         for (String m : message) {
-            out.println(LINE_PREFIX + m.replace("\n", LS + LINE_PREFIX));
+            formatted.append(LINE_PREFIX).append(m.replace("\n", LS + LINE_PREFIX)).append(LS);
         }
+        return formatted.toString();
     }
 
     /**
@@ -125,39 +208,58 @@ public class TextUi {
      * command execution segments.
      */
     public void showResultToUser(CommandResult result) {
-        final Optional<List<? extends ReadOnlyPerson>> resultPersons = result.getRelevantPersons();
-        if (resultPersons.isPresent()) {
-            showPersonListView(resultPersons.get());
-        }
-        showToUser(result.feedbackToUser, DIVIDER);
+        writeResult(result, out);
+        out.flush();
     }
 
     /**
-     * Shows a list of persons to the user, formatted as an indexed list.
-     * Private contact details are hidden.
+     * Formats the result of a command execution exactly as {@link #showResultToUser(CommandResult)} shows it.
+     * Does not depend on any UI state, so it can be called from any thread.
      */
-    private void showPersonListView(List<? extends ReadOnlyPerson> persons) {
-        final List<String> formattedPersons = new ArrayList<>();
-        for (ReadOnlyPerson person : persons) {
-            formattedPersons.add(person.getAsTextHidePrivate());
-        }
-        showToUserAsIndexedList(formattedPersons);
+    public String formatResult(CommandResult result) {
+        final StringBuilder formatted = new StringBuilder();
+        writeResult(result, formatted);
+        return formatted.toString();
     }
 
-    /** Shows a list of strings to the user, formatted as an indexed list. */
-    private void showToUserAsIndexedList(List<String> list) {
-        showToUser(getIndexedListForViewing(list));
+    /**
+     * Writes the formatted result to {@code target}. A list of persons is written one row at a time,
+     * and only the rows the result shows are formatted, so the listing is never held in memory as a whole.
+     */
+    private static void writeResult(CommandResult result, Appendable target) {
+        try {
+            final Optional<List<? extends ReadOnlyPerson>> resultPersons = result.getRelevantPersons();
+            if (resultPersons.isPresent()) {
+                writePersonListView(resultPersons.get(), result.getShownFromIndex(), result.getShownToIndex(),
+                        target);
+            }
+            target.append(formatForUser(result.feedbackToUser, DIVIDER));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
     }
 
-    /** Formats a list of strings as a viewable indexed list. */
-    private static String getIndexedListForViewing(List<String> listItems) {
-        final StringBuilder formatted = new StringBuilder();
-        int displayIndex = 0 + DISPLAYED_INDEX_OFFSET;
-        for (String listItem : listItems) {
-            formatted.append(getIndexedListItem(displayIndex, listItem)).append("\n");
+    /**
+     * Writes the persons from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, to {@code target},
+     * formatted as an indexed list numbered by their position in the whole list.
+     * Private contact details are hidden.
+     */
+    private static void writePersonListView(List<? extends ReadOnlyPerson> persons, int fromIndex, int toIndex,
+            Appendable target) throws IOException {
+        int displayIndex = fromIndex + DISPLAYED_INDEX_OFFSET;
+        for (ReadOnlyPerson person : persons.subList(fromIndex, toIndex)) {
+            target.append(LINE_PREFIX).append(getIndexedListItem(displayIndex, person.getAsTextHidePrivate()))
+                    .append(LS);
             displayIndex++;
         }
-        return formatted.toString();
+        if (toIndex - fromIndex < persons.size()) {
+            target.append(LINE_PREFIX)
+                    .append(String.format(MESSAGE_PAGE_SHOWN, fromIndex + DISPLAYED_INDEX_OFFSET, toIndex,
+                            persons.size()))
+                    .append(LS);
+        }
+        // the indexed list ends with a line break, which shows as an empty line
+        target.append(LINE_PREFIX).append(LS);
     }
 
     /**
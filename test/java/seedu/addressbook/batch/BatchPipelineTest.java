@@ -0,0 +1,218 @@
+package seedu.addressbook.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.PersonStore;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.parser.Parser;
+import seedu.addressbook.ui.LineReader;
+import seedu.addressbook.ui.TextUi;
+import seedu.addressbook.util.AddressBookGenerator;
+
+public class BatchPipelineTest {
+
+    @Test
+    public void run_mixedScript_sameOutputAsSequentialExecution() throws Exception {
+        final String script = buildScript(300) + "exit\n";
+
+        assertEquals(runSequentially(script), runPipelined(script, 4, 2));
+        assertEquals(runSequentially(script), runPipelined(script, 1, 1));
+    }
+
+    @Test
+    public void run_listingsOfLiveViewInterleavedWithDeletes_sameOutputAsSequentialExecution() throws Exception {
+        final StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            script.append("list\ndelete 1\n");
+        }
+        final String expected = runSequentially(script + "exit\n", LiveViewExecutor::new);
+
+        assertEquals(expected, runPipelined(script + "exit\n", 4, 8, LiveViewExecutor::new));
+    }
+
+    @Test
+    public void run_linesAfterExit_notExecuted() throws Exception {
+        final String script = "list\nexit\nclear\n";
+        final CountingExecutor executor = new CountingExecutor();
+        final BatchPipeline pipeline = new BatchPipeline(new Parser(), executor, newUi(new ByteArrayOutputStream()));
+        pipeline.run(new LineReader(new StringReader(script)), new PrintStream(new ByteArrayOutputStream()));
+
+        assertEquals(2, executor.executedCount);
+    }
+
+    @Test
+    public void run_endOfInputWithoutExit_stopsAfterLastCommand() throws Exception {
+        final String script = buildScript(20);
+        final String expected = runSequentially(script + "exit\n");
+        final String actual = runPipelined(script, 2, 4);
+
+        // everything up to the exit command's own output is identical
+        assertEquals(expected.substring(0, actual.length()), actual);
+    }
+
+    @Test
+    public void run_executorFails_exceptionPropagated() {
+        final BatchPipeline pipeline = new BatchPipeline(new Parser(), command -> {
+            throw new IllegalStateException("execution failed");
+        }, newUi(new ByteArrayOutputStream()), 2, 2);
+
+        assertThrows(RuntimeException.class, () -> pipeline.run(
+                new LineReader(new StringReader(buildScript(50))), new PrintStream(new ByteArrayOutputStream())));
+    }
+
+    @Test
+    public void constructor_nonPositiveSizes_exceptionThrown() {
+        final TextUi ui = newUi(new ByteArrayOutputStream());
+        assertThrows(IllegalArgumentException.class, () -> new BatchPipeline(new Parser(), c -> null, ui, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchPipeline(new Parser(), c -> null, ui, 1, 0));
+    }
+
+    /**
+     * Builds a script of adds, listings, finds, deletes, invalid commands, comments and blank lines.
+     */
+    private static String buildScript(int numberOfPersons) {
+        final StringBuilder script = new StringBuilder();
+        for (int i = 0; i < numberOfPersons; i++) {
+            final String name = "Person " + toLetters(i);
+            script.append("add ").append(name).append(i % 3 == 0 ? " pp/" : " p/").append(90000000 + i)
+                    .append(" e/person").append(i).append("@example.com")
+                    .append(i % 2 == 0 ? " a/" : " pa/").append(i).append(" Some Street")
+                    .append(i % 5 == 0 ? " t/friend t/colleague" : "").append('\n');
+            if (i % 10 == 0) {
+                script.append("# a comment line\n\n");
+                script.append("list\n");
+                script.append("find Person ").append(toLetters(i / 2)).append('\n');
+                script.append("delete 1\n");
+                script.append("view 2\n");
+                script.append("viewall 1\n");
+                script.append("add ").append(name).append(" p/notaphone e/x@y a/z\n");
+                script.append("unknowncommand\n");
+            }
+        }
+        script.append("list\n");
+        return script.toString();
+    }
+
+    /** Converts {@code number} to a word made of letters only, since names may not contain digits. */
+    private static String toLetters(int number) {
+        final StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('A' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    private static String runSequentially(String script) {
+        return runSequentially(script, ScriptExecutor::new);
+    }
+
+    private static String runSequentially(String script, Supplier<ScriptExecutor> executors) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final TextUi ui = new TextUi(new ByteArrayInputStream(script.getBytes()), new PrintStream(output));
+        final ScriptExecutor executor = executors.get();
+        Command command;
+        do {
+            command = new Parser().parseCommand(ui.getUserCommand());
+            ui.showResultToUser(executor.apply(command));
+        } while (!ExitCommand.isExit(command));
+        return output.toString();
+    }
+
+    private static String runPipelined(String script, int workerThreads, int queueCapacity) throws Exception {
+        return runPipelined(script, workerThreads, queueCapacity, ScriptExecutor::new);
+    }
+
+    private static String runPipelined(String script, int workerThreads, int queueCapacity,
+            Supplier<ScriptExecutor> executors) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BatchPipeline pipeline = new BatchPipeline(new Parser(), executors.get(),
+                newUi(new ByteArrayOutputStream()), workerThreads, queueCapacity);
+        pipeline.run(new LineReader(new StringReader(script)), new PrintStream(output));
+        return output.toString();
+    }
+
+    private static TextUi newUi(ByteArrayOutputStream output) {
+        return new TextUi(new ByteArrayInputStream(new byte[0]), new PrintStream(output));
+    }
+
+    /**
+     * Executes commands against its own address book, keeping track of the last shown list like {@code Main}.
+     */
+    private static class ScriptExecutor implements Function<Command, CommandResult> {
+        private final AddressBook addressBook;
+        private List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
+
+        ScriptExecutor() {
+            this(new AddressBook());
+        }
+
+        ScriptExecutor(AddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        public CommandResult apply(Command command) {
+            command.setData(addressBook, lastShownList);
+            final CommandResult result = command.execute();
+            result.getRelevantPersons().ifPresent(persons -> lastShownList = persons);
+            return result;
+        }
+    }
+
+    /**
+     * Executes commands against a large address book, and lists it as a view of the persons in it, which
+     * the commands executed next change, rather than as a snapshot.
+     */
+    private static class LiveViewExecutor extends ScriptExecutor {
+        private final UniquePersonList persons;
+
+        LiveViewExecutor() {
+            this(new UniquePersonList(new AddressBookGenerator(0).nextAddressBook(2_000).getAllPersons()));
+        }
+
+        private LiveViewExecutor(UniquePersonList persons) {
+            super(new AddressBook((PersonStore) persons));
+            this.persons = persons;
+        }
+
+        @Override
+        public CommandResult apply(Command command) {
+            final CommandResult result = super.apply(command);
+            return command instanceof ListCommand
+                    ? new CommandResult(result.feedbackToUser, persons.immutableListView())
+                    : result;
+        }
+    }
+
+    /**
+     * Counts the commands it executes.
+     */
+    private static class CountingExecutor extends ScriptExecutor {
+        private int executedCount;
+
+        @Override
+        public CommandResult apply(Command command) {
+            executedCount++;
+            return super.apply(command);
+        }
+    }
+}
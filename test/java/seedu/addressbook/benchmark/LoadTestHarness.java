@@ -0,0 +1,147 @@
+package seedu.addressbook.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.DeleteCommand;
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.ViewAllCommand;
+import seedu.addressbook.commands.ViewCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.parser.Parser;
+import seedu.addressbook.parser.TokenizingParser;
+import seedu.addressbook.util.AddressBookGenerator;
+
+/**
+ * Replays a generated mix of reads and writes against a generated address book, as a user session would,
+ * and reports the throughput and the latency percentiles of each kind of command.
+ * Each command is parsed and executed as the program does, but the address book is not saved after it.
+ * Run the main method directly, with the arguments {@code [PERSONS] [OPERATIONS] [WRITE_RATIO] [SEED]};
+ * it is not part of the JUnit tests.
+ */
+public class LoadTestHarness {
+
+    private static final int DEFAULT_PERSONS = 100_000;
+    private static final int DEFAULT_OPERATIONS = 20_000;
+    private static final double DEFAULT_WRITE_RATIO = 0.2;
+    private static final int ROUNDS = 2;
+
+    /** The highest index viewed or deleted in a listing, as users mostly act on the top of a listing. */
+    private static final int MAX_INDEX_USED = 10;
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+    private static final String[] PERCENTILE_HEADERS = { "p50 us", "p90 us", "p99 us", "p99.9 us" };
+
+    public static void main(String[] args) {
+        final int persons = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSONS;
+        final int operations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPERATIONS;
+        final double writeRatio = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_WRITE_RATIO;
+        final long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+
+        System.out.printf("%d persons, %d operations, %.0f%% writes, seed %d%n", persons, operations,
+                writeRatio * 100, seed);
+        for (int round = 0; round < ROUNDS; round++) {
+            // the first round warms up; each round starts from the same address book and replays the same commands
+            final AddressBookGenerator generator = new AddressBookGenerator(seed);
+            final AddressBook addressBook = generator.nextAddressBook(persons);
+            final List<String> workload = generateWorkload(generator, new Random(seed), operations, writeRatio);
+            final long start = System.nanoTime();
+            final Map<String, long[]> latencies = replay(addressBook, workload, new TokenizingParser());
+            report(round == 0 ? "warm-up" : "measured", latencies, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns {@code operations} commands, of which {@code writeRatio} add or delete persons.
+     * Reads find persons by surname, view persons in the last listing, or list all persons.
+     * Persons added are drawn from the {@code generator}, so they are different from the persons already in it.
+     */
+    public static List<String> generateWorkload(AddressBookGenerator generator, Random random, int operations,
+            double writeRatio) {
+        final List<String> commands = new ArrayList<>(operations);
+        for (int i = 0; i < operations; i++) {
+            final double kind = random.nextDouble();
+            if (random.nextDouble() < writeRatio) {
+                commands.add(kind < 0.7
+                        ? AddressBookGenerator.toAddCommands(Collections.singletonList(generator.nextPerson())).get(0)
+                        : DeleteCommand.COMMAND_WORD + " " + (1 + random.nextInt(MAX_INDEX_USED)));
+            } else if (kind < 0.55) {
+                commands.add(FindCommand.COMMAND_WORD + " " + generator.nextSurname());
+            } else if (kind < 0.8) {
+                commands.add(ViewCommand.COMMAND_WORD + " " + (1 + random.nextInt(MAX_INDEX_USED)));
+            } else if (kind < 0.95) {
+                commands.add(ViewAllCommand.COMMAND_WORD + " " + (1 + random.nextInt(MAX_INDEX_USED)));
+            } else {
+                commands.add(ListCommand.COMMAND_WORD);
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Parses and executes the {@code commands} in turn on the {@code addressBook}, and returns the latencies
+     * in nanoseconds of each kind of command, sorted, by command word.
+     * Commands given an index act on the last listing shown, as in the program.
+     */
+    public static Map<String, long[]> replay(AddressBook addressBook, List<String> commands, Parser parser) {
+        final Map<String, List<Long>> latencies = new TreeMap<>();
+        List<? extends ReadOnlyPerson> lastShownList = Collections.emptyList();
+        for (String commandText : commands) {
+            final long start = System.nanoTime();
+            final Command command = parser.parseCommand(commandText);
+            command.setData(addressBook, lastShownList);
+            final CommandResult result = command.execute();
+            final long latency = System.nanoTime() - start;
+
+            final Optional<List<? extends ReadOnlyPerson>> personList = result.getRelevantPersons();
+            if (personList.isPresent()) {
+                lastShownList = personList.get();
+            }
+            latencies.computeIfAbsent(commandText.split(" ", 2)[0], word -> new ArrayList<>()).add(latency);
+        }
+        final Map<String, long[]> sortedLatencies = new TreeMap<>();
+        latencies.forEach((commandWord, commandLatencies) -> sortedLatencies.put(commandWord,
+                commandLatencies.stream().mapToLong(Long::longValue).sorted().toArray()));
+        return sortedLatencies;
+    }
+
+    /**
+     * Returns the latency below which {@code percentile} percent of the {@code sortedLatencies} are.
+     */
+    public static long percentile(long[] sortedLatencies, double percentile) {
+        final int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+        return sortedLatencies[Math.max(0, rank - 1)];
+    }
+
+    private static void report(String round, Map<String, long[]> latencies, long elapsedNanos) {
+        final long[] all = latencies.values().stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%s: %.0f commands/s%n", round, all.length * 1e9 / elapsedNanos);
+        System.out.printf("%-10s %8s", "command", "count");
+        for (String header : PERCENTILE_HEADERS) {
+            System.out.printf(" %10s", header);
+        }
+        System.out.printf(" %10s%n", "max us");
+        for (Map.Entry<String, long[]> entry : latencies.entrySet()) {
+            reportLatencies(entry.getKey(), entry.getValue());
+        }
+        reportLatencies("all", all);
+    }
+
+    private static void reportLatencies(String name, long[] sortedLatencies) {
+        System.out.printf("%-10s %8d", name, sortedLatencies.length);
+        for (double percentile : PERCENTILES) {
+            System.out.printf(" %10.1f", percentile(sortedLatencies, percentile) / 1e3);
+        }
+        System.out.printf(" %10.1f%n", sortedLatencies[sortedLatencies.length - 1] / 1e3);
+    }
+}
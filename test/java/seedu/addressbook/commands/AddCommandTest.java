@@ -2,6 +2,7 @@ package seedu.addressbook.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -106,7 +107,7 @@ public class AddCommandTest {
         assertEquals(Name.EXAMPLE, p.getName().fullName);
         assertEquals(Phone.EXAMPLE, p.getPhone().value);
         assertTrue(p.getPhone().isPrivate());
-        assertEquals(Email.EXAMPLE, p.getEmail().value);
+        assertEquals(Email.EXAMPLE, p.getEmail().getValue());
         assertFalse(p.getEmail().isPrivate());
         assertEquals(Address.EXAMPLE, p.getAddress().value);
         assertTrue(p.getAddress().isPrivate());
@@ -114,6 +115,16 @@ public class AddCommandTest {
         assertTrue(isTagListEmpty);
     }
 
+    @Test
+    public void addCommand_sameTagTwice_tagShared() throws Exception {
+        final Set<String> tags = Collections.singleton("colleagues");
+        final AddCommand first = new AddCommand("Amy Buck", "91119111", false, "amy@example.com", false,
+                "1 Clementi Rd", false, tags);
+        final AddCommand second = new AddCommand("Bill Clint", "92229222", false, "bill@example.com", false,
+                "2 Clementi Rd", false, tags);
+        assertSame(first.getPerson().getTags().iterator().next(), second.getPerson().getTags().iterator().next());
+    }
+
     @Test
     public void addCommand_emptyAddressBook_addressBookContainsPerson() {
         Person p = TestUtil.generateTestPerson();
@@ -0,0 +1,44 @@
+package seedu.addressbook.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.util.TypicalPersons;
+
+public class MemStatsCommandTest {
+
+    @Test
+    public void execute_emptyAddressBook_noPersonsMessage() {
+        final MemStatsCommand command = new MemStatsCommand(MemStatsCommand.DEFAULT_PROJECTED_PERSONS);
+        command.setData(new AddressBook(), Collections.emptyList());
+        assertEquals(MemStatsCommand.MESSAGE_NO_PERSONS, command.execute().feedbackToUser);
+    }
+
+    @Test
+    public void execute_typicalAddressBook_rowPerStructureAndProjection() {
+        final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+        final MemStatsCommand command = new MemStatsCommand(1_000_000);
+        command.setData(addressBook, addressBook.getAllPersonsSnapshot());
+
+        final String[] rows = command.execute().feedbackToUser.split("\n");
+
+        assertEquals(Structure.values().length + 3, rows.length);
+        assertTrue(rows[0].matches("Estimated memory taken by 4 persons: \\d+\\.\\d MB, \\d+ bytes per person"),
+                rows[0]);
+        assertTrue(rows[1].matches("structure\\s+bytes\\s+per person\\s+share"), rows[1]);
+        long previousBytes = Long.MAX_VALUE;
+        for (int i = 2; i < rows.length - 1; i++) {
+            final long bytes = Long.parseLong(rows[i].substring(16).trim().split("\\s+")[0]);
+            assertTrue(bytes <= previousBytes, "structures should be sorted from the largest: " + rows[i]);
+            previousBytes = bytes;
+        }
+        assertTrue(rows[rows.length - 1].matches("Projected for 1000000 persons: \\d+\\.\\d MB"),
+                rows[rows.length - 1]);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.addressbook.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.metrics.ValueRecorder;
+import seedu.addressbook.storage.StorageFile;
+
+public class StatsCommandTest {
+
+    @BeforeEach
+    @AfterEach
+    public void resetStats() {
+        new StatsCommand(StatsCommand.Mode.RESET).execute();
+    }
+
+    @Test
+    public void execute_nothingTimed_noStatsMessage() {
+        assertEquals(StatsCommand.MESSAGE_NO_STATS,
+                new StatsCommand(StatsCommand.Mode.LATENCIES).execute().feedbackToUser);
+    }
+
+    @Test
+    public void execute_commandsAndStorageTimed_rowPerCommandWordAndStorageOperation() {
+        ValueRecorder.COMMANDS.record(ListCommand.COMMAND_WORD, 2_000_000);
+        ValueRecorder.COMMANDS.record(ListCommand.COMMAND_WORD, 4_000_000);
+        ValueRecorder.COMMANDS.record(AddCommand.COMMAND_WORD, 1_000_000);
+        ValueRecorder.STORAGE.record(StorageFile.SAVE_OPERATION, 8_000_000);
+
+        final String[] rows = new StatsCommand(StatsCommand.Mode.LATENCIES).execute().feedbackToUser.split("\n");
+
+        assertEquals(4, rows.length);
+        assertTrue(rows[0].matches("command\\s+count\\s+total\\s+mean\\s+p50\\s+p90\\s+p99\\s+max"), rows[0]);
+        assertTrue(rows[1].matches("add\\s+1\\s+1.000\\s+1.000\\s+1.000\\s+1.000\\s+1.000\\s+1.000"), rows[1]);
+        assertTrue(rows[2].matches("list\\s+2\\s+6.000\\s+3.000\\s+2.0\\d\\d\\s+4.000\\s+4.000\\s+4.000"),
+                rows[2]);
+        assertTrue(rows[3].startsWith(StorageFile.SAVE_OPERATION + " "), rows[3]);
+    }
+
+    @Test
+    public void execute_reset_statsForgotten() {
+        ValueRecorder.COMMANDS.record(ListCommand.COMMAND_WORD, 2_000_000);
+        ValueRecorder.ALLOCATIONS.record(ListCommand.COMMAND_WORD, 1024);
+        assertEquals(StatsCommand.MESSAGE_RESET, new StatsCommand(StatsCommand.Mode.RESET).execute().feedbackToUser);
+        assertEquals(StatsCommand.MESSAGE_NO_STATS,
+                new StatsCommand(StatsCommand.Mode.LATENCIES).execute().feedbackToUser);
+        assertEquals(StatsCommand.MESSAGE_NO_STATS,
+                new StatsCommand(StatsCommand.Mode.ALLOCATIONS).execute().feedbackToUser);
+    }
+
+    @Test
+    public void execute_allocationsCounted_rowPerCommandWordInKilobytes() {
+        ValueRecorder.COMMANDS.record(ListCommand.COMMAND_WORD, 2_000_000);
+        ValueRecorder.ALLOCATIONS.record(FindCommand.COMMAND_WORD, 4096);
+        ValueRecorder.ALLOCATIONS.record(FindCommand.COMMAND_WORD, 4096);
+
+        final String[] rows = new StatsCommand(StatsCommand.Mode.ALLOCATIONS).execute().feedbackToUser.split("\n");
+
+        assertEquals(2, rows.length);
+        assertTrue(rows[1].matches("find\\s+2\\s+8.000\\s+4.000\\s+4.000\\s+4.000\\s+4.000\\s+4.000"), rows[1]);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.addressbook.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    private static final int MAX_GC_ATTEMPTS = 20;
+
+    @Test
+    public void intern_equalValues_firstInstanceShared() {
+        final InternPool<String> pool = new InternPool<>();
+        final String first = new String("friends");
+        final String second = new String("friends");
+        assertNotSame(first, second);
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern("friends"));
+        assertEquals("colleagues", pool.intern("colleagues"));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_instanceNoLongerUsed_collected() throws InterruptedException {
+        final InternPool<String> pool = new InternPool<>();
+        final String kept = pool.intern(new String("kept"));
+        pool.intern(new String("dropped"));
+
+        for (int attempt = 0; attempt < MAX_GC_ATTEMPTS && pool.size() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, pool.size());
+        assertSame(kept, pool.intern(new String("kept")));
+        // an equal value interned after the collection becomes the shared instance
+        final String droppedAgain = new String("dropped");
+        assertSame(droppedAgain, pool.intern(droppedAgain));
+    }
+}
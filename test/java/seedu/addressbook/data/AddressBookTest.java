@@ -1,5 +1,6 @@
 package seedu.addressbook.data;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -10,15 +11,20 @@ import static seedu.addressbook.util.TestUtil.isIdentical;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.ColumnarPersonStore;
 import seedu.addressbook.data.person.Email;
 import seedu.addressbook.data.person.Name;
 import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PersonStore;
 import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.person.UniquePersonList;
 import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
 import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
@@ -129,4 +135,93 @@ public class AddressBookTest {
 
         assertTrue(isIdentical(allPersons, personsToCheck));
     }
+
+    @Test
+    public void getAllPersonsSnapshot_laterChanges_notVisibleInSnapshot() throws Exception {
+        List<ReadOnlyPerson> snapshot = defaultAddressBook.getAllPersonsSnapshot();
+
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.removePerson(aliceBetsy);
+        assertEquals(Arrays.asList(aliceBetsy, bobChaplin), snapshot);
+
+        List<ReadOnlyPerson> secondSnapshot = defaultAddressBook.getAllPersonsSnapshot();
+        defaultAddressBook.clear();
+        assertEquals(Arrays.asList(bobChaplin, charlieDouglas), secondSnapshot);
+        assertTrue(defaultAddressBook.getAllPersonsSnapshot().isEmpty());
+    }
+
+    @Test
+    public void getAllPersonsSnapshot_unmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                defaultAddressBook.getAllPersonsSnapshot().add(charlieDouglas));
+    }
+
+    @Test
+    public void getDistinctTagCount_tagsSharedAddedAndRemoved_countsEachTagOnce() throws Exception {
+        assertEquals(0, emptyAddressBook.getDistinctTagCount());
+        assertEquals(1, defaultAddressBook.getDistinctTagCount());
+
+        defaultAddressBook.addPerson(davidElliot);
+        assertEquals(3, defaultAddressBook.getDistinctTagCount());
+        defaultAddressBook.removePerson(aliceBetsy);
+        assertEquals(3, defaultAddressBook.getDistinctTagCount());
+        defaultAddressBook.removePerson(bobChaplin);
+        assertEquals(2, defaultAddressBook.getDistinctTagCount());
+
+        defaultAddressBook.resetData(new UniquePersonList(charlieDouglas));
+        assertEquals(1, defaultAddressBook.getDistinctTagCount());
+        defaultAddressBook.clear();
+        assertEquals(0, defaultAddressBook.getDistinctTagCount());
+    }
+
+    @Test
+    public void getDistinctTagCount_changedBeforeFirstCount_countsCurrentTags() throws Exception {
+        defaultAddressBook.addPerson(davidElliot);
+        defaultAddressBook.removePerson(aliceBetsy);
+        assertEquals(3, defaultAddressBook.getDistinctTagCount());
+    }
+
+    @Test
+    public void getDistinctTagCount_readFailedBeforeCounting_countedAgain() throws Exception {
+        final UniquePersonList failingOnce = new UniquePersonList(aliceBetsy, charlieDouglas) {
+            private boolean hasFailed;
+
+            @Override
+            public void forEachPerson(Consumer<? super ReadOnlyPerson> action) {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    action.accept(aliceBetsy);
+                    throw new IllegalStateException("read failed");
+                }
+                super.forEachPerson(action);
+            }
+        };
+        final AddressBook addressBook = new AddressBook((PersonStore) failingOnce);
+
+        assertThrows(IllegalStateException.class, addressBook::getDistinctTagCount);
+        assertEquals(2, addressBook.getDistinctTagCount());
+    }
+
+    @Test
+    public void getDistinctTagCountIfCheap_storeSlowToRead_countedOnlyWhenAskedFor() throws Exception {
+        final AddressBook listBook = new AddressBook((PersonStore) new UniquePersonList(aliceBetsy, davidElliot));
+        final AddressBook columnarBook = new AddressBook(
+                new ColumnarPersonStore(new UniquePersonList(aliceBetsy, davidElliot)));
+
+        assertEquals(3, listBook.getDistinctTagCountIfCheap());
+        assertEquals(-1, columnarBook.getDistinctTagCountIfCheap());
+        assertEquals(0, columnarBook.getTagIndexSize());
+        assertEquals(3, columnarBook.getDistinctTagCount());
+        assertEquals(3, columnarBook.getDistinctTagCountIfCheap());
+    }
+
+    @Test
+    public void getMutationCount_eachChange_countedOnce() throws Exception {
+        assertEquals(0, defaultAddressBook.getMutationCount());
+        defaultAddressBook.addPerson(charlieDouglas);
+        defaultAddressBook.removePerson(aliceBetsy);
+        defaultAddressBook.resetData(new UniquePersonList(davidElliot));
+        defaultAddressBook.clear();
+        assertEquals(4, defaultAddressBook.getMutationCount());
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.addressbook.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Checks that each field validator accepts exactly what its validation regex matches:
+ * every char on its own and in the positions where validators treat chars differently,
+ * and every string up to {@link #MAX_LENGTH} chars over an alphabet of one char from each class that matters.
+ */
+public class FieldValidationTest {
+
+    private static final char[] ALPHABET = {
+        'a', 'Z', '0', '_', '.', '@', ' ', '-', '\t', '\n', '\r', '\u0085', '\u2028', '\u00e9', '\ud83d'
+    };
+    private static final int MAX_LENGTH = 4;
+
+    @Test
+    public void isValidName_sameAsRegex() {
+        assertSameAsRegex(Name.NAME_VALIDATION_REGEX, Name::isValidName);
+    }
+
+    @Test
+    public void isValidPhone_sameAsRegex() {
+        assertSameAsRegex(Phone.PHONE_VALIDATION_REGEX, Phone::isValidPhone);
+    }
+
+    @Test
+    public void isValidEmail_sameAsRegex() {
+        assertSameAsRegex(Email.EMAIL_VALIDATION_REGEX, Email::isValidEmail);
+    }
+
+    @Test
+    public void isValidAddress_sameAsRegex() {
+        assertSameAsRegex(Address.ADDRESS_VALIDATION_REGEX, Address::isValidAddress);
+    }
+
+    @Test
+    public void isValidTagName_sameAsRegex() {
+        assertSameAsRegex(Tag.TAG_VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> validator) {
+        final Pattern pattern = Pattern.compile(regex);
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            final String single = String.valueOf((char) c);
+            for (String test : new String[] { single, "a" + single, single + "a", "a@" + single, single + "@a" }) {
+                assertSameResult(pattern, validator, test);
+            }
+        }
+        assertSameResultForAllStrings(pattern, validator, new StringBuilder());
+        assertSameResult(pattern, validator, "\ud83d\ude00");
+        assertSameResult(pattern, validator, "a\r\nb");
+    }
+
+    private static void assertSameResultForAllStrings(Pattern pattern, Predicate<String> validator,
+            StringBuilder prefix) {
+        assertSameResult(pattern, validator, prefix.toString());
+        if (prefix.length() == MAX_LENGTH) {
+            return;
+        }
+        for (char c : ALPHABET) {
+            prefix.append(c);
+            assertSameResultForAllStrings(pattern, validator, prefix);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    private static void assertSameResult(Pattern pattern, Predicate<String> validator, String test) {
+        assertEquals(pattern.matcher(test).matches(), validator.test(test), () -> "input: " + escape(test));
+    }
+
+    private static String escape(String test) {
+        final StringBuilder escaped = new StringBuilder();
+        for (char c : test.toCharArray()) {
+            escaped.append(String.format("\\u%04x", (int) c));
+        }
+        return escaped.toString();
+    }
+}
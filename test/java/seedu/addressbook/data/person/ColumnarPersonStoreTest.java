@@ -0,0 +1,132 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.util.AddressBookGenerator;
+import seedu.addressbook.util.TypicalPersons;
+
+public class ColumnarPersonStoreTest {
+
+    private TypicalPersons typicalPersons;
+    private ColumnarPersonStore store;
+
+    @BeforeEach
+    public void setUp() throws DuplicatePersonException {
+        typicalPersons = new TypicalPersons();
+        store = new ColumnarPersonStore(new UniquePersonList(typicalPersons.getTypicalPersons()));
+    }
+
+    @Test
+    public void constructor_persons_sameDetailsInOrder() throws DuplicatePersonException {
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), store.immutableListView());
+        assertEquals(new UniquePersonList(typicalPersons.getTypicalPersons()), store.toUniquePersonList());
+        for (int i = 0; i < store.size(); i++) {
+            final ReadOnlyPerson expected = typicalPersons.getTypicalPersons()[i];
+            final ReadOnlyPerson actual = store.immutableListView().get(i);
+            assertEquals(expected.getAsTextShowAll(), actual.getAsTextShowAll());
+            assertEquals(expected.getAsTextHidePrivate(), actual.getAsTextHidePrivate());
+            assertEquals(expected.hashCode(), actual.hashCode());
+        }
+    }
+
+    @Test
+    public void add_detailsBeyondAscii_keptIntact() throws IllegalValueException, DuplicatePersonException {
+        final Person person = new Person(new Name("Zoe Lim"), new Phone("91234567", true),
+                new Email("zoe@example.com", false), new Address("12 Rue de l'\u00c9glise, \u20ac zone", true),
+                new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues"))));
+        store.add(person);
+
+        final ReadOnlyPerson added = store.immutableListView().get(store.size() - 1);
+        assertEquals(person, added);
+        assertEquals(person.getAsTextShowAll(), added.getAsTextShowAll());
+        assertTrue(added.getPhone().isPrivate());
+        assertFalse(added.getEmail().isPrivate());
+        assertTrue(added.getAddress().isPrivate());
+    }
+
+    @Test
+    public void add_samePerson_throwsDuplicatePersonException() {
+        assertTrue(store.contains(typicalPersons.amy));
+        assertThrows(DuplicatePersonException.class, () -> store.add(new Person(typicalPersons.amy)));
+    }
+
+    @Test
+    public void remove_middlePerson_laterPersonsMovedUp() throws PersonNotFoundException {
+        store.remove(typicalPersons.bill);
+
+        assertEquals(Arrays.asList(typicalPersons.amy, typicalPersons.candy, typicalPersons.dan),
+                store.immutableListView());
+        assertFalse(store.contains(typicalPersons.bill));
+        assertThrows(PersonNotFoundException.class, () -> store.remove(typicalPersons.bill));
+    }
+
+    @Test
+    public void immutableSnapshot_storeChangedLater_snapshotUnchanged()
+            throws PersonNotFoundException, DuplicatePersonException {
+        final List<ReadOnlyPerson> snapshot = store.immutableSnapshot();
+        final ReadOnlyPerson viewed = store.immutableListView().get(0);
+
+        store.remove(typicalPersons.amy);
+        store.add(new Person(typicalPersons.amy));
+
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), snapshot);
+        assertEquals(typicalPersons.amy, viewed);
+        assertEquals(Arrays.asList(typicalPersons.bill, typicalPersons.candy, typicalPersons.dan,
+                typicalPersons.amy), store.immutableListView());
+    }
+
+    @Test
+    public void forEachPerson_allPersonsInOrder() {
+        final List<String> names = new ArrayList<>();
+        store.forEachPerson(person -> names.add(person.getName().fullName));
+
+        final List<String> expected = new ArrayList<>();
+        for (Person person : typicalPersons.getTypicalPersons()) {
+            expected.add(person.getName().fullName);
+        }
+        assertEquals(expected, names);
+    }
+
+    @Test
+    public void clear_thenAdd_onlyNewPerson() throws DuplicatePersonException {
+        store.clear();
+        assertEquals(0, store.size());
+
+        store.add(typicalPersons.dan);
+        assertEquals(Arrays.asList(typicalPersons.dan), store.immutableListView());
+    }
+
+    @Test
+    public void addressBook_generatedPersons_sameAsListStore() throws PersonNotFoundException {
+        final AddressBook listBook = new AddressBookGenerator(0).nextAddressBook(2_000);
+        final AddressBook columnarBook = new AddressBook(new ColumnarPersonStore(listBook.getAllPersons()));
+
+        assertEquals(listBook, columnarBook);
+        assertEquals(listBook.getDistinctTagCount(), columnarBook.getDistinctTagCount());
+        final Set<Tag> tags = new HashSet<>();
+        columnarBook.getAllPersonsSnapshot().forEach(person -> tags.addAll(person.getTags()));
+        assertEquals(listBook.getDistinctTagCount(), tags.size());
+
+        final ReadOnlyPerson removed = listBook.getAllPersonsSnapshot().get(1_000);
+        columnarBook.removePerson(removed);
+        listBook.removePerson(removed);
+        assertEquals(listBook, columnarBook);
+    }
+}
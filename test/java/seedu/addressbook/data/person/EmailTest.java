@@ -0,0 +1,44 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class EmailTest {
+
+    @Test
+    public void intern_sameDomain_domainShared() throws Exception {
+        final Email first = new Email(" amy@" + new String("example.com") + " ", false).intern();
+        final Email second = new Email("bob@" + new String("example.com"), true).intern();
+
+        assertSame(first.getDomain(), second.getDomain());
+        assertEquals("amy@example.com", first.getValue());
+        assertEquals("bob@example.com", second.toString());
+        assertEquals("bob", second.getLocalPart());
+        assertTrue(second.isPrivate());
+    }
+
+    @Test
+    public void intern_domainAlreadyShared_sameEmail() throws Exception {
+        new Email("amy@example.net", false).intern();
+        final Email interned = new Email("bob@example.net", false).intern();
+
+        assertSame(interned, interned.intern());
+    }
+
+    @Test
+    public void equals_internedAndNotInterned_equalWithSameHashCode() throws Exception {
+        final Email interned = new Email("amy@example.com", false).intern();
+        final Email notInterned = new Email("amy@" + new String("example.com"), false);
+
+        assertNotSame(interned.getDomain(), notInterned.getDomain());
+        assertEquals(interned, notInterned);
+        assertEquals(interned.hashCode(), notInterned.hashCode());
+        assertNotEquals(interned, new Email("amy@example.org", false));
+        assertNotEquals(interned, new Email("amyexample@com", false));
+    }
+}
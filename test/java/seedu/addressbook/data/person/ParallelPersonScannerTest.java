@@ -0,0 +1,97 @@
+package seedu.addressbook.data.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+public class ParallelPersonScannerTest {
+
+    private ForkJoinPool pool;
+    private List<ReadOnlyPerson> persons;
+
+    @BeforeEach
+    public void setUp() throws IllegalValueException {
+        pool = new ForkJoinPool(4);
+        persons = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            persons.add(new Person(new Name(i % 7 == 0 ? "Lucky Seven" : "Plain Person"),
+                    new Phone(Integer.toString(i), false), new Email("p@e.mail", false),
+                    new Address(Integer.toString(i), false), Collections.emptySet()));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void filter_largeList_sameMatchesInOriginalOrder() {
+        final Predicate<ReadOnlyPerson> isLucky = person -> person.getName().fullName.startsWith("Lucky");
+
+        final List<ReadOnlyPerson> matches = new ParallelPersonScanner(pool, 100).filter(persons, isLucky);
+
+        assertEquals(filterSequentially(persons, isLucky), matches);
+    }
+
+    @Test
+    public void filter_largeList_chunksScannedOnPoolThreads() {
+        final Set<Thread> scanningThreads = ConcurrentHashMap.newKeySet();
+
+        new ParallelPersonScanner(pool, 100).filter(persons, person -> scanningThreads.add(Thread.currentThread()));
+
+        assertTrue(scanningThreads.stream().allMatch(thread -> thread instanceof ForkJoinWorkerThread
+                && ((ForkJoinWorkerThread) thread).getPool() == pool));
+    }
+
+    @Test
+    public void filter_listWithinThreshold_scannedOnCallingThread() {
+        final Set<Thread> scanningThreads = ConcurrentHashMap.newKeySet();
+
+        final List<ReadOnlyPerson> matches = new ParallelPersonScanner(pool, persons.size())
+                .filter(persons, person -> {
+                    scanningThreads.add(Thread.currentThread());
+                    return true;
+                });
+
+        assertEquals(Collections.singleton(Thread.currentThread()), scanningThreads);
+        assertEquals(persons, matches);
+    }
+
+    @Test
+    public void filter_noMatches_emptyList() {
+        assertTrue(new ParallelPersonScanner(pool, 10).filter(persons, person -> false).isEmpty());
+        assertTrue(new ParallelPersonScanner().filter(Collections.emptyList(), person -> true).isEmpty());
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_exceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelPersonScanner(pool, 0));
+    }
+
+    private static List<ReadOnlyPerson> filterSequentially(List<ReadOnlyPerson> persons,
+                                                           Predicate<ReadOnlyPerson> predicate) {
+        final List<ReadOnlyPerson> matches = new ArrayList<>();
+        for (ReadOnlyPerson person : persons) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+}
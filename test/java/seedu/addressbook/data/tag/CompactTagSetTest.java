@@ -0,0 +1,116 @@
+package seedu.addressbook.data.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+public class CompactTagSetTest {
+
+    @Test
+    public void of_tags_sameElementsAsHashSet() throws IllegalValueException {
+        final Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues")));
+        final CompactTagSet compactTags = CompactTagSet.of(tags);
+
+        assertEquals(2, compactTags.size());
+        assertEquals(tags, compactTags);
+        assertEquals(compactTags, tags);
+        assertEquals(tags.hashCode(), compactTags.hashCode());
+        assertTrue(compactTags.contains(new Tag("friends")));
+        assertFalse(compactTags.contains(new Tag("neverUsedAnywhere")));
+        assertFalse(compactTags.contains("friends"));
+        assertEquals(tags, new HashSet<>(compactTags));
+    }
+
+    @Test
+    public void of_repeatedAndEmptyTags() throws IllegalValueException {
+        final List<Tag> repeated = Arrays.asList(new Tag("friends"), new Tag("friends"));
+        assertEquals(1, CompactTagSet.of(repeated).size());
+        assertSame(CompactTagSet.EMPTY, CompactTagSet.of(Collections.emptySet()));
+        assertTrue(CompactTagSet.EMPTY.isEmpty());
+        assertFalse(CompactTagSet.EMPTY.iterator().hasNext());
+
+        final CompactTagSet compactTags = CompactTagSet.of(repeated);
+        assertSame(compactTags, CompactTagSet.of(compactTags));
+    }
+
+    @Test
+    public void iterator_tags_sharedInstances() throws IllegalValueException {
+        final Tag friends = CompactTagSet.of(Collections.singleton(new Tag("friends"))).iterator().next();
+        assertSame(friends, CompactTagSet.of(Collections.singleton(new Tag("friends"))).iterator().next());
+    }
+
+    @Test
+    public void iterator_tagsNumberedOutOfOrder_iteratesByName() throws IllegalValueException {
+        final List<Tag> tags = new ArrayList<>();
+        // numbered from the last name to the first, with the last ones beyond the mask
+        for (int i = CompactTagSet.MASK_IDS + 1; i >= 0; i--) {
+            tags.add(new Tag(String.format("iterationOrder%03d", i)));
+            TagDictionary.getShared().getId(tags.get(tags.size() - 1));
+        }
+        Collections.reverse(tags);
+
+        assertEquals(tags, new ArrayList<>(CompactTagSet.of(tags)));
+        assertEquals(tags.subList(0, 2), new ArrayList<>(CompactTagSet.of(tags.subList(0, 2))));
+    }
+
+    @Test
+    public void modify_anyChange_throwsUnsupportedOperationException() throws IllegalValueException {
+        final CompactTagSet compactTags = CompactTagSet.of(Collections.singleton(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> compactTags.add(new Tag("colleagues")));
+        assertThrows(UnsupportedOperationException.class, () -> compactTags.remove(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, compactTags::clear);
+    }
+
+    @Test
+    public void setOperations_tagsBeyondMask_sameAsHashSets() throws IllegalValueException {
+        // numbers more tags than fit in the mask, so some of these are kept in the array
+        final List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i <= CompactTagSet.MASK_IDS; i++) {
+            tags.add(new Tag("compactTagSetTest" + i));
+        }
+        final Set<Tag> evens = new HashSet<>();
+        final Set<Tag> multiplesOfThree = new HashSet<>();
+        for (int i = 0; i < tags.size(); i++) {
+            if (i % 2 == 0) {
+                evens.add(tags.get(i));
+            }
+            if (i % 3 == 0) {
+                multiplesOfThree.add(tags.get(i));
+            }
+        }
+        final CompactTagSet all = CompactTagSet.of(tags);
+        final CompactTagSet compactEvens = CompactTagSet.of(evens);
+        final CompactTagSet compactMultiplesOfThree = CompactTagSet.of(multiplesOfThree);
+        assertTrue(all.getLargeIdCount() > 0);
+
+        assertEquals(new HashSet<>(tags), all);
+        assertEquals(new HashSet<>(tags).hashCode(), all.hashCode());
+        assertTrue(all.containsAll(compactEvens));
+        assertFalse(compactEvens.containsAll(all));
+        assertTrue(all.containsAll(evens));
+
+        final Set<Tag> multiplesOfSix = new HashSet<>(evens);
+        multiplesOfSix.retainAll(multiplesOfThree);
+        assertEquals(multiplesOfSix, compactEvens.intersection(compactMultiplesOfThree));
+        assertTrue(compactEvens.intersects(compactMultiplesOfThree));
+
+        final CompactTagSet last = CompactTagSet.of(Collections.singleton(tags.get(tags.size() - 1)));
+        final CompactTagSet first = CompactTagSet.of(Collections.singleton(tags.get(0)));
+        assertTrue(all.intersects(last));
+        assertFalse(last.intersects(first));
+        assertSame(CompactTagSet.EMPTY, last.intersection(first));
+    }
+}
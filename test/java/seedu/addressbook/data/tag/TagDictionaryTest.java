@@ -0,0 +1,51 @@
+package seedu.addressbook.data.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.exception.IllegalValueException;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void getId_newAndKnownTags_numberedInOrderSeen() throws IllegalValueException {
+        final TagDictionary dictionary = new TagDictionary();
+        assertEquals(TagDictionary.NO_ID, dictionary.findId(new Tag("friends")));
+
+        assertEquals(0, dictionary.getId(new Tag("friends")));
+        assertEquals(1, dictionary.getId(new Tag("colleagues")));
+        assertEquals(0, dictionary.getId(new Tag("friends")));
+        assertEquals(1, dictionary.findId(new Tag("colleagues")));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void getId_manyTags_eachKeepsItsNumber() throws IllegalValueException {
+        final TagDictionary dictionary = new TagDictionary();
+        final int tags = 1_000;
+        for (int i = 0; i < tags; i++) {
+            assertEquals(i, dictionary.getId(new Tag("tag" + i)));
+        }
+
+        assertEquals(tags, dictionary.size());
+        for (int i = 0; i < tags; i++) {
+            assertEquals(i, dictionary.findId(new Tag("tag" + i)));
+            assertEquals("tag" + i, dictionary.getTag(i).tagName);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.getTag(tags));
+    }
+
+    @Test
+    public void getTag_numberedTags_sharedInstances() throws IllegalValueException {
+        final TagDictionary dictionary = new TagDictionary();
+        final Tag friends = new Tag("friends");
+        final int id = dictionary.getId(friends);
+
+        assertEquals(id, dictionary.getId(new Tag("friends")));
+        assertSame(friends, dictionary.getTag(id));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.getTag(id + 1));
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.addressbook.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ColumnarPersonStore;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.util.TypicalPersons;
+
+public class AddressBookMetricsTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private ObjectName name;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        name = new ObjectName(AddressBookMetrics.OBJECT_NAME);
+        ValueRecorder.COMMANDS.reset();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        ValueRecorder.COMMANDS.reset();
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    public void attributes_readThroughPlatformMBeanServer_liveValues() throws Exception {
+        final TypicalPersons td = new TypicalPersons();
+        final AddressBook addressBook = td.getTypicalAddressBook();
+        final StorageFile storage = new StorageFile(tempDir.resolve("addressbook.txt").toString());
+        new AddressBookMetrics(addressBook, storage).register();
+
+        assertEquals(4, server.getAttribute(name, "PersonCount"));
+        assertEquals(1, server.getAttribute(name, "DistinctTagCount"));
+        assertEquals(-1.0, server.getAttribute(name, "LastSaveMillis"));
+        assertEquals(-1L, server.getAttribute(name, "LastSaveBytes"));
+        // the typical persons were added one by one
+        assertEquals(4L, server.getAttribute(name, "UnsavedMutationCount"));
+        assertEquals(true, server.getAttribute(name, "Dirty"));
+
+        storage.save(addressBook);
+        assertEquals(false, server.getAttribute(name, "Dirty"));
+        addressBook.removePerson(td.dan);
+        addressBook.removePerson(td.amy);
+        assertEquals(2, server.getAttribute(name, "PersonCount"));
+        assertEquals(0, server.getAttribute(name, "DistinctTagCount"));
+        assertEquals(2L, server.getAttribute(name, "UnsavedMutationCount"));
+        assertEquals(true, server.getAttribute(name, "Dirty"));
+
+        storage.save(addressBook);
+        assertEquals(Files.size(storage.path), server.getAttribute(name, "LastSaveBytes"));
+        assertEquals(0L, server.getAttribute(name, "UnsavedMutationCount"));
+        assertEquals(false, server.getAttribute(name, "Dirty"));
+
+        // the counts are shared by the whole program, so only their increase is checked
+        final long totalBefore = (long) server.getAttribute(name, "TotalCommandCount");
+        final long listBefore = getListCount();
+        CommandCounter.increment(ListCommand.COMMAND_WORD);
+        CommandCounter.increment(ListCommand.COMMAND_WORD);
+        CommandCounter.increment(FindCommand.COMMAND_WORD);
+        assertEquals(totalBefore + 3, server.getAttribute(name, "TotalCommandCount"));
+        assertEquals(listBefore + 2, getListCount());
+    }
+
+    @Test
+    public void distinctTagCount_storeSlowToRead_personsNotRead() throws Exception {
+        final TypicalPersons td = new TypicalPersons();
+        final AddressBook addressBook = new AddressBook(
+                new ColumnarPersonStore(new UniquePersonList(td.getTypicalPersons())));
+        new AddressBookMetrics(addressBook, new StorageFile(tempDir.resolve("a.txt").toString())).register();
+
+        assertEquals(-1, server.getAttribute(name, "DistinctTagCount"));
+        assertEquals(0, addressBook.getTagIndexSize());
+
+        addressBook.clear();
+        assertEquals(0, server.getAttribute(name, "DistinctTagCount"));
+    }
+
+    @Test
+    public void commandCounts_latenciesReset_neverDecrease() throws Exception {
+        new AddressBookMetrics(new AddressBook(), new StorageFile(tempDir.resolve("a.txt").toString())).register();
+        CommandCounter.increment(ListCommand.COMMAND_WORD);
+        ValueRecorder.COMMANDS.record(ListCommand.COMMAND_WORD, 1);
+        final long listBefore = getListCount();
+
+        ValueRecorder.COMMANDS.reset();
+        assertEquals(listBefore, getListCount());
+    }
+
+    @Test
+    public void unsavedMutationCount_replica_neverDirty() throws Exception {
+        final AddressBook replica = new TypicalPersons().getTypicalAddressBook();
+        new AddressBookMetrics(replica, new StorageFile(tempDir.resolve("a.txt").toString()), true).register();
+
+        assertEquals(0L, server.getAttribute(name, "UnsavedMutationCount"));
+        assertEquals(false, server.getAttribute(name, "Dirty"));
+    }
+
+    private long getListCount() throws Exception {
+        final TabularData commandCounts = (TabularData) server.getAttribute(name, "CommandCounts");
+        final CompositeData listCount = commandCounts.get(new Object[] { ListCommand.COMMAND_WORD });
+        return listCount == null ? 0 : (long) listCount.get("value");
+    }
+
+    @Test
+    public void register_twice_replacesEarlierMetrics() throws Exception {
+        new AddressBookMetrics(new AddressBook(), new StorageFile(tempDir.resolve("a.txt").toString())).register();
+        new AddressBookMetrics(new TypicalPersons().getTypicalAddressBook(),
+                new StorageFile(tempDir.resolve("b.txt").toString())).register();
+        assertEquals(4, server.getAttribute(name, "PersonCount"));
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.addressbook.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.util.AddressBookGenerator;
+import seedu.addressbook.util.TypicalPersons;
+
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void storageAndPersonListCopy_recorded_eventsWithDetails() throws Exception {
+        final StorageFile storageFile = new StorageFile(tempDir.resolve("addressbook.txt").toString());
+        final TypicalPersons td = new TypicalPersons();
+        final AddressBook addressBook = td.getTypicalAddressBook();
+        final Path recordingFile = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(StorageEvent.class);
+            recording.enable(PersonListCopyEvent.class);
+            recording.start();
+            storageFile.save(addressBook);
+            storageFile.load();
+            addressBook.getAllPersonsSnapshot();
+            addressBook.removePerson(td.amy);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().startsWith("seedu.addressbook."))
+                .collect(Collectors.toList());
+        assertEquals(3, events.size(), events.toString());
+        final long fileSize = Files.size(storageFile.path);
+        assertStorageEvent(events.get(0), StorageEvent.SAVE, fileSize, 4);
+        assertStorageEvent(events.get(1), StorageEvent.LOAD, fileSize, 4);
+        assertEquals("seedu.addressbook.PersonListCopy", events.get(2).getEventType().getName());
+        assertEquals(4, events.get(2).getInt("persons"));
+    }
+
+    @Test
+    public void addAndSave_twice_personListNotCopied() throws Exception {
+        final StorageFile storageFile = new StorageFile(tempDir.resolve("addressbook.txt").toString());
+        final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+        final AddressBookGenerator generator = new AddressBookGenerator(0);
+        final Path recordingFile = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(PersonListCopyEvent.class);
+            recording.start();
+            for (int i = 0; i < 2; i++) {
+                addressBook.addPerson(generator.nextPerson());
+                storageFile.save(addressBook);
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        assertEquals(6, storageFile.load().size());
+        assertTrue(RecordingFile.readAllEvents(recordingFile).stream()
+                .noneMatch(event -> event.getEventType().getName().equals("seedu.addressbook.PersonListCopy")));
+    }
+
+    @Test
+    public void removeMissingPerson_afterSnapshot_personListNotCopied() throws Exception {
+        final TypicalPersons td = new TypicalPersons();
+        final AddressBook addressBook = new AddressBook(new UniquePersonList(td.amy, td.bill));
+        final Path recordingFile = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(PersonListCopyEvent.class);
+            recording.start();
+            addressBook.getAllPersonsSnapshot();
+            assertThrows(PersonNotFoundException.class, () -> addressBook.removePerson(td.candy));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        assertTrue(RecordingFile.readAllEvents(recordingFile).stream()
+                .noneMatch(event -> event.getEventType().getName().equals("seedu.addressbook.PersonListCopy")));
+    }
+
+    private static void assertStorageEvent(RecordedEvent event, String operation, long bytes, int persons) {
+        assertEquals("seedu.addressbook.Storage", event.getEventType().getName());
+        assertEquals(operation, event.getString("operation"));
+        assertEquals(bytes, event.getLong("bytes"));
+        assertEquals(persons, event.getInt("persons"));
+        assertTrue(event.getString("path").endsWith("addressbook.txt"));
+    }
+}
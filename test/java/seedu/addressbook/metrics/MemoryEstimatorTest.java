@@ -0,0 +1,113 @@
+package seedu.addressbook.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.ColumnarPersonStore;
+import seedu.addressbook.data.tag.CompactTagSet;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.metrics.MemoryEstimate.Structure;
+import seedu.addressbook.performance.PerformanceTestUtil;
+import seedu.addressbook.storage.LazyPersonStore;
+import seedu.addressbook.util.AddressBookGenerator;
+import seedu.addressbook.util.TypicalPersons;
+
+public class MemoryEstimatorTest {
+
+    /** The layout of a 64-bit JVM with compressed references and class pointers. */
+    private final MemoryEstimator estimator = new MemoryEstimator(4, 12, 8);
+
+    @Test
+    public void layoutSizes_compressedReferences_matchOpenJdkLayout() {
+        // 24 bytes of String, and a 16 byte array header with 3 bytes padded to 24
+        assertEquals(48, estimator.stringBytes("abc"));
+        // characters beyond Latin-1 take two bytes each
+        assertEquals(48, estimator.stringBytes("\u20ac"));
+        assertEquals(56, estimator.stringBytes("\u20ac\u20ac\u20ac\u20ac\u20ac"));
+        assertEquals(48, estimator.hashMapBytes(0));
+        // HashSet, HashMap, a table of 16 references and a node
+        assertEquals(16 + 48 + 80 + 32, estimator.hashSetBytes(1));
+        // the table doubles once there are more than 12 entries
+        assertEquals(48 + 144 + 13 * 32, estimator.hashMapBytes(13));
+        assertEquals(24 + 56, estimator.arrayListBytes(10));
+    }
+
+    @Test
+    public void tagSetBytes_compactAndHashSets_matchOpenJdkLayout() throws IllegalValueException {
+        final Set<Tag> tags = Collections.singleton(new Tag("friends"));
+        assertEquals(16 + 48 + 80 + 32, estimator.tagSetBytes(new HashSet<>(tags)));
+        // the empty set is shared
+        assertEquals(0, estimator.tagSetBytes(CompactTagSet.EMPTY));
+        // the set itself, and an array of one number if the tag was numbered too late to fit in the mask
+        final CompactTagSet compactTags = CompactTagSet.of(tags);
+        assertEquals(32 + (compactTags.getLargeIdCount() == 0 ? 0 : 24), estimator.tagSetBytes(compactTags));
+    }
+
+    @Test
+    public void estimate_typicalAddressBook_everyStructureCounted() {
+        final AddressBook addressBook = new TypicalPersons().getTypicalAddressBook();
+        final MemoryEstimate estimate = estimator.estimate(addressBook, addressBook.getAllPersonsSnapshot());
+
+        assertEquals(addressBook.size(), estimate.getPersons());
+        for (Structure structure : Structure.values()) {
+            assertTrue(estimate.getBytes(structure) > 0, structure.getName());
+        }
+        assertEquals(estimate.getTotalBytes() * 10, estimate.projectTotalBytes(addressBook.size() * 10L));
+        final long largest = estimate.getBytes(estimate.getTopContributors().get(0));
+        for (Structure structure : Structure.values()) {
+            assertTrue(estimate.getBytes(structure) <= largest);
+        }
+    }
+
+    @Test
+    public void estimate_columnarStore_detailsCountedInColumns() {
+        final AddressBook objects = new AddressBookGenerator(0).nextAddressBook(1_000);
+        final AddressBook columns = new AddressBook(new ColumnarPersonStore(objects.getAllPersons()));
+        final MemoryEstimate objectsEstimate = estimator.estimate(objects, Collections.emptyList());
+        final MemoryEstimate columnsEstimate = estimator.estimate(columns, Collections.emptyList());
+
+        assertEquals(objects.size(), columnsEstimate.getPersons());
+        assertEquals(objectsEstimate.getBytes(Structure.TAGS), columnsEstimate.getBytes(Structure.TAGS));
+        for (Structure structure : new Structure[] { Structure.PERSONS, Structure.NAMES, Structure.TAG_SETS }) {
+            assertTrue(columnsEstimate.getBytes(structure) > 0, structure.getName());
+            assertTrue(columnsEstimate.getBytes(structure) < objectsEstimate.getBytes(structure), structure.getName());
+        }
+    }
+
+    @Test
+    public void estimate_lazyStore_personsNotDecoded() throws Exception {
+        final List<String> lines = AddressBookGenerator.toStorageLines(
+                new AddressBookGenerator(0).nextPersons(100));
+        final LazyPersonStore store = LazyPersonStore.load(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        final MemoryEstimate estimate = estimator.estimate(new AddressBook(store), Collections.emptyList());
+
+        assertEquals(100, estimate.getPersons());
+        assertEquals(0, store.getDecodedCount());
+        assertTrue(estimate.getBytes(Structure.PERSONS) > 0);
+        assertEquals(0, estimate.getBytes(Structure.NAMES));
+    }
+
+    @Test
+    @org.junit.jupiter.api.Tag(PerformanceTestUtil.TAG)
+    public void estimate_generatedAddressBook_closeToMeasuredHeap() {
+        // large enough that the heap measured is not thrown off by the heap being counted in regions
+        final int persons = 200_000;
+        final long before = PerformanceTestUtil.getUsedHeapBytes();
+        final AddressBook addressBook = new AddressBookGenerator(0).nextAddressBook(persons);
+        final long measured = PerformanceTestUtil.getUsedHeapBytes() - before;
+
+        final long estimated = new MemoryEstimator().estimate(addressBook, Collections.emptyList()).getTotalBytes();
+        assertEquals(persons, addressBook.size());
+        assertEquals(1, (double) estimated / measured, 0.1, "estimated " + estimated + ", measured " + measured);
+    }
+}
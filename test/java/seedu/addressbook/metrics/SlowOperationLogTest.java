@@ -0,0 +1,78 @@
+package seedu.addressbook.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.FileHandler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.metrics.PhaseTimer.Phase;
+
+public class SlowOperationLogTest {
+
+    private static final long THRESHOLD_MILLIS = 100;
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void logIfSlow_overThreshold_logsPhasesAndSize() throws Exception {
+        final Path logFile = tempDir.resolve("slow.log");
+        try (SlowOperationLog log = new SlowOperationLog(logFile.toString(), THRESHOLD_MILLIS)) {
+            assertFalse(log.logIfSlow(SlowOperationLog.OPERATION_COMMAND, "list",
+                    phases(1_000_000, 99_000_000, 0, 0), 3));
+            assertTrue(log.logIfSlow(SlowOperationLog.OPERATION_COMMAND, "find Amy",
+                    phases(500_000, 150_000_000, 30_000_000, 2_000_000), 42));
+            final Map<Phase, Long> load = new EnumMap<>(Phase.class);
+            load.put(Phase.LOAD, 250_000_000L);
+            assertTrue(log.logIfSlow(SlowOperationLog.OPERATION_LOAD, null, load, 42));
+        }
+
+        final List<String> lines = Files.readAllLines(tempDir.resolve("slow.log.0"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).matches("\\S+ \\S+ command total=182.500ms parse=0.500ms execute=150.000ms "
+                + "save=30.000ms render=2.000ms persons=42 text=find Amy"), lines.get(0));
+        assertTrue(lines.get(1).endsWith(" load total=250.000ms load=250.000ms persons=42"), lines.get(1));
+    }
+
+    @Test
+    public void logIfSlow_fileFull_rotated() throws Exception {
+        final String pattern = tempDir.resolve("slow.log.%g").toString();
+        try (SlowOperationLog log = new SlowOperationLog(new FileHandler(pattern, 200, 2, true), 0)) {
+            for (int i = 0; i < 10; i++) {
+                log.logIfSlow(SlowOperationLog.OPERATION_COMMAND, "list", phases(1, 1, 1, 1), i);
+            }
+        }
+        assertTrue(Files.size(tempDir.resolve("slow.log.0")) <= 200 + 100);
+        assertTrue(Files.exists(tempDir.resolve("slow.log.1")));
+        assertFalse(Files.exists(tempDir.resolve("slow.log.2")));
+    }
+
+    @Test
+    public void phaseTimer_phasesEnded_timedInOrder() {
+        final PhaseTimer timer = new PhaseTimer();
+        timer.start();
+        timer.endPhase(Phase.PARSE);
+        timer.endPhase(Phase.EXECUTE);
+        assertEquals(List.of(Phase.PARSE, Phase.EXECUTE), List.copyOf(timer.getPhaseNanos().keySet()));
+        timer.start();
+        assertTrue(timer.getPhaseNanos().isEmpty());
+    }
+
+    private static Map<Phase, Long> phases(long parse, long execute, long save, long render) {
+        final Map<Phase, Long> phases = new EnumMap<>(Phase.class);
+        phases.put(Phase.PARSE, parse);
+        phases.put(Phase.EXECUTE, execute);
+        phases.put(Phase.SAVE, save);
+        phases.put(Phase.RENDER, render);
+        return phases;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.addressbook.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ValueHistogramTest {
+
+    @Test
+    public void getPercentile_nothingRecorded_returnsZero() {
+        final ValueHistogram histogram = new ValueHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        final ValueHistogram histogram = new ValueHistogram();
+        for (int value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getPercentile(50));
+        assertEquals(18, histogram.getPercentile(90));
+        assertEquals(20, histogram.getPercentile(100));
+        assertEquals(210, histogram.getTotal());
+        assertEquals(10, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_valuesOverWideRange_withinBucketWidth() {
+        final Random random = new Random(38);
+        final long[] values = new long[100_000];
+        final ValueHistogram histogram = new ValueHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * Math.log(Long.MAX_VALUE / 2));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] { 1, 10, 50, 90, 99, 99.9, 100 }) {
+            final long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            final long estimate = histogram.getPercentile(percentile);
+            assertTrue(estimate >= exact && estimate <= exact + exact / 16, percentile + ": " + exact + " "
+                    + estimate);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+
+    @Test
+    public void record_extremeValues_counted() {
+        final ValueHistogram histogram = new ValueHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void reset_recordedValues_forgotten() {
+        final ValueHistogram histogram = new ValueHistogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+        histogram.record(3);
+        assertEquals(1, histogram.getCount());
+        assertEquals(3, histogram.getMax());
+        assertEquals(3, histogram.getPercentile(99));
+    }
+}
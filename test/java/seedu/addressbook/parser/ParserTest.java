@@ -1,6 +1,7 @@
 package seedu.addressbook.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
@@ -21,6 +22,9 @@ import seedu.addressbook.commands.FindCommand;
 import seedu.addressbook.commands.HelpCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.ListCommand;
+import seedu.addressbook.commands.MemStatsCommand;
+import seedu.addressbook.commands.StatsCommand;
+import seedu.addressbook.commands.UseCommand;
 import seedu.addressbook.commands.ViewAllCommand;
 import seedu.addressbook.commands.ViewCommand;
 import seedu.addressbook.data.exception.IllegalValueException;
@@ -38,7 +42,14 @@ public class ParserTest {
 
     @BeforeEach
     public void setUp() {
-        parser = new Parser();
+        parser = createParser();
+    }
+
+    /**
+     * Returns the parser under test. Subclasses override this to run these tests against other parsers.
+     */
+    protected Parser createParser() {
+        return new Parser();
     }
 
     /*
@@ -87,6 +98,38 @@ public class ParserTest {
         parseAndAssertCommandType(input, ExitCommand.class);
     }
 
+    @Test
+    public void parse_statsCommand_parsedCorrectly() {
+        assertEquals(StatsCommand.Mode.LATENCIES, parseAndAssertCommandType("stats", StatsCommand.class).getMode());
+        assertEquals(StatsCommand.Mode.ALLOCATIONS,
+                parseAndAssertCommandType("stats allocations", StatsCommand.class).getMode());
+        assertEquals(StatsCommand.Mode.RESET, parseAndAssertCommandType("stats  reset ", StatsCommand.class).getMode());
+    }
+
+    @Test
+    public void parse_useCommand_parsedCorrectly() {
+        assertFalse(parseAndAssertCommandType("use", UseCommand.class).getBookName().isPresent());
+        assertEquals("work", parseAndAssertCommandType("use  work ", UseCommand.class).getBookName().get());
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UseCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "use work home");
+    }
+
+    @Test
+    public void parse_memStatsCommand_parsedCorrectly() {
+        assertEquals(MemStatsCommand.DEFAULT_PROJECTED_PERSONS,
+                parseAndAssertCommandType("memstats", MemStatsCommand.class).getProjectedPersons());
+        assertEquals(1000, parseAndAssertCommandType("memstats 1000 ", MemStatsCommand.class).getProjectedPersons());
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MemStatsCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "memstats 0", "memstats -5", "memstats many", "memstats 1 2");
+    }
+
+    @Test
+    public void parse_statsCommandUnknownArgs_errorMessage() {
+        final String[] inputs = { "stats resets", "stats reset now", "stats allocations reset", "stats 1" };
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, inputs);
+    }
+
     /*
      * Tests for single index argument commands ===============================================================
      */
@@ -268,6 +311,27 @@ public class ParserTest {
         assertEquals(result.getPerson(), testPerson);
     }
 
+    @Test
+    public void redactPrivateDetails_privateDetails_valuesHidden() {
+        final String redacted = Parser.redactPrivateDetails(convertPersonToAddCommandString(generateTestPerson()));
+        assertEquals("add " + Name.EXAMPLE + " pp/" + Parser.REDACTED_VALUE + " e/" + Email.EXAMPLE
+                + " pa/" + Parser.REDACTED_VALUE, redacted.replaceAll(" t/.*", ""));
+        assertTrue(redacted.contains(" t/tag1"), redacted);
+
+        // addresses may contain spaces, and the private details may come last
+        assertEquals("add John p/123 e/j@x.com pa/" + Parser.REDACTED_VALUE,
+                Parser.redactPrivateDetails("add John p/123 e/j@x.com pa/1 Main St, #01-01"));
+        assertEquals("find pp", Parser.redactPrivateDetails("find pp"));
+    }
+
+    @Test
+    public void redactPrivateDetails_slashInPrivateValue_wholeValueHidden() {
+        assertEquals("add John pp/" + Parser.REDACTED_VALUE + " e/j@x.com pa/" + Parser.REDACTED_VALUE + " t/friend",
+                Parser.redactPrivateDetails("add John pp/12/34 e/j@x.com pa/Blk 1/2 x/y Main St t/friend"));
+        assertEquals("add John pp/" + Parser.REDACTED_VALUE + " e/j@x.com",
+                Parser.redactPrivateDetails("add John pp/ e/j@x.com"));
+    }
+
     private static Person generateTestPerson() {
         try {
             return new Person(
@@ -286,7 +350,7 @@ public class ParserTest {
         String addCommand = "add "
                 + person.getName().fullName
                 + (person.getPhone().isPrivate() ? " pp/" : " p/") + person.getPhone().value
-                + (person.getEmail().isPrivate() ? " pe/" : " e/") + person.getEmail().value
+                + (person.getEmail().isPrivate() ? " pe/" : " e/") + person.getEmail().getValue()
                 + (person.getAddress().isPrivate() ? " pa/" : " a/") + person.getAddress().value;
         for (Tag tag : person.getTags()) {
             addCommand += " t/" + tag.tagName;
@@ -0,0 +1,90 @@
+package seedu.addressbook.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.commands.IncorrectCommand;
+
+/**
+ * Runs all the {@link ParserTest} tests against the {@link TokenizingParser},
+ * and checks that it parses tricky and random input exactly as the regex-based {@link Parser} does.
+ */
+public class TokenizingParserTest extends ParserTest {
+
+    private static final String[] TOKENS = {
+        "add", "delete", "find", "view", "viewall", "list", " ", "  ", "\t", "\n", "\r", "\u0085", "\u2028",
+        "\u000B", "\u00a0", "/", "p/", " p/", " pp/", " e/", " pe/", " a/", " pa/", " t/", "t/", "p", "e", "a",
+        "t", "pp", "1", "-1", "007", "2147483648", "John", "Doe", "j@d.com", "[]", "x_y"
+    };
+
+    private static final String[] TRICKY_INPUTS = {
+        "", " ", "\n", "add", "add ", "add\u0085", "list\u0085", "find a\u0085", "find\ta  b\fc",
+        "delete  1 ", "delete 1 2", "delete +1", "delete \u00a01", "view\u2028", "viewall 99999999999",
+        "add John p/123 e/j@d.com a/home", "add John pp/123 pe/j@d.com pa/home",
+        "add John  p/123 e/j@d.com a/home", "add John p/123  e/j@d.com a/home",
+        "add John p/123 e/j@d.com a/home t/", "add John p/123 e/j@d.com a/home t/a t/b t/a",
+        "add John p/123 e/j@d.com a/home t/ t/b", "add John p/123 e/j@d.com a/home t/a t t/b",
+        "add John p/123 e/j@d.com a/ho/me", "add John p/123 e/j@d.com a/home  t/x",
+        "add John ppp/123 e/j@d.com a/home", "add  pp/123 e/j@d.com a/home", "add p/123 e/j@d.com a/home",
+        "add John p/ pe/j@d.com a/home", "add John p/1  e/j@d.com a/home", "add John p/1 e/x@y a/ ",
+        "add John p/123 e/j@d.com a/home t/a\u00a0", "add John\tp/123 e/j@d.com a/home",
+    };
+
+    private static final int RANDOM_INPUTS = 20_000;
+
+    private final Parser regexParser = new Parser();
+
+    @Override
+    protected Parser createParser() {
+        return new TokenizingParser();
+    }
+
+    @Test
+    public void parse_trickyInputs_sameAsRegexParser() {
+        for (String input : TRICKY_INPUTS) {
+            assertSameAsRegexParser(input);
+        }
+    }
+
+    @Test
+    public void parse_randomInputs_sameAsRegexParser() {
+        final Random random = new Random(31);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            final StringBuilder input = new StringBuilder(TOKENS[random.nextInt(6)]);
+            final int tokens = random.nextInt(12);
+            for (int j = 0; j < tokens; j++) {
+                input.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            assertSameAsRegexParser(input.toString());
+        }
+    }
+
+    private void assertSameAsRegexParser(String input) {
+        assertEquals(describe(regexParser.parseCommand(input)), describe(createParser().parseCommand(input)),
+                "input: " + input);
+    }
+
+    /**
+     * Returns a description of everything the parser determines about the command.
+     */
+    private static String describe(Command command) {
+        final StringBuilder description = new StringBuilder(command.getClass().getSimpleName())
+                .append(" index=").append(command.getTargetIndex());
+        if (command instanceof IncorrectCommand) {
+            description.append(" message=").append(((IncorrectCommand) command).feedbackToUser);
+        } else if (command instanceof AddCommand) {
+            description.append(" person=").append(((AddCommand) command).getPerson().getAsTextShowAll())
+                    .append(" shown=").append(((AddCommand) command).getPerson().getAsTextHidePrivate());
+        } else if (command instanceof FindCommand) {
+            description.append(" keywords=").append(new TreeSet<>(((FindCommand) command).getKeywords()));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.addressbook.performance;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.metrics.AllocationCounter;
+import seedu.addressbook.util.AddressBookGenerator;
+
+/**
+ * Guards against regressions in the memory allocated by finding persons in a large address book.
+ */
+@Tag(PerformanceTestUtil.TAG)
+public class FindAllocationTest {
+
+    /** About a quarter more than finding the most common surname among {@link #PERSONS} persons allocates now. */
+    private static final long DEFAULT_BUDGET_BYTES = 144L * 1024 * 1024;
+
+    private static final int PERSONS = 100_000;
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    private static AddressBook addressBook;
+
+    @BeforeAll
+    public static void generateAddressBook() {
+        addressBook = new AddressBookGenerator(0).nextAddressBook(PERSONS);
+    }
+
+    @Test
+    public void execute_largeAddressBook_allocatesWithinBudget() {
+        assumeTrue(AllocationCounter.isSupported(), "Allocations cannot be counted in this JVM");
+        final long budget = PerformanceTestUtil.getBudget("findAllocationBytes", DEFAULT_BUDGET_BYTES);
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            measureFind();
+        }
+        // the least allocated is the least affected by the JIT compiler and the pool's threads starting
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            allocated = Math.min(allocated, measureFind());
+        }
+        assertTrue(allocated <= budget, "find allocated " + allocated + " bytes, over the budget of " + budget);
+    }
+
+    /**
+     * Returns the number of bytes allocated by finding the most common surname.
+     */
+    private static long measureFind() {
+        final FindCommand command = new FindCommand(Collections.singleton(AddressBookGenerator.getCommonSurname()));
+        command.setData(addressBook, Collections.emptyList());
+        final long allocatedBefore = AllocationCounter.getAllocatedBytes();
+        command.execute();
+        return AllocationCounter.getAllocatedBytes() - allocatedBefore;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.addressbook.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.common.InternPool;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.storage.AddressBookDecoder;
+import seedu.addressbook.util.AddressBookGenerator;
+
+/**
+ * Measures the heap saved by sharing equal values among the persons of a loaded address book through an
+ * {@link InternPool}: email domains, which are shared, and addresses, which are not because sharing them costs
+ * more than it saves.
+ */
+@Tag(PerformanceTestUtil.TAG)
+public class InternFootprintTest {
+
+    private static final int PERSONS = 200_000;
+
+    /** About a quarter less than sharing email domains saves per generated person now. */
+    private static final long DEFAULT_MIN_DOMAIN_SAVED_BYTES = 32;
+
+    @Test
+    public void decodeAddressBook_manyPersons_sharedEmailDomainsSaveHeap() throws Exception {
+        final long minSaved = PerformanceTestUtil.getBudget("domainSavedBytesPerPerson",
+                DEFAULT_MIN_DOMAIN_SAVED_BYTES);
+        final List<String> lines = generateStorageLines();
+
+        final long base = PerformanceTestUtil.getUsedHeapBytes();
+        AddressBook shared = AddressBookDecoder.decodeAddressBook(lines);
+        final long sharedBytes = PerformanceTestUtil.getUsedHeapBytes() - base;
+        final AddressBook unshared = copyWithUnsharedEmails(shared);
+        shared = null;
+        final long savedPerPerson = (PerformanceTestUtil.getUsedHeapBytes() - base - sharedBytes) / PERSONS;
+
+        assertEquals(PERSONS, unshared.size());
+        assertTrue(savedPerPerson >= minSaved,
+                "sharing email domains saves " + savedPerPerson + " bytes per person, under " + minSaved);
+    }
+
+    /**
+     * Half the generated addresses are one of about 12,000 street addresses and the rest are almost all distinct,
+     * as in a real address book, so the pool keeps an entry for most addresses while sharing few of them.
+     * Should this start to pass as a saving, addresses are worth interning like email domains.
+     */
+    @Test
+    public void internAddresses_mostlyDistinctAddresses_poolCostsMoreThanSharingSaves() throws Exception {
+        final List<String> lines = generateStorageLines();
+
+        final long base = PerformanceTestUtil.getUsedHeapBytes();
+        AddressBook unshared = AddressBookDecoder.decodeAddressBook(lines);
+        final long unsharedBytes = PerformanceTestUtil.getUsedHeapBytes() - base;
+        final InternPool<String> pool = new InternPool<>();
+        final AddressBook shared = copyWithInternedAddresses(unshared, pool);
+        unshared = null;
+        final long savedPerPerson = (unsharedBytes - (PerformanceTestUtil.getUsedHeapBytes() - base)) / PERSONS;
+
+        assertEquals(PERSONS, shared.size());
+        assertTrue(pool.size() > PERSONS / 2);
+        assertTrue(savedPerPerson < 0, "sharing addresses saves " + savedPerPerson + " bytes per person");
+    }
+
+    private static List<String> generateStorageLines() {
+        return AddressBookGenerator.toStorageLines(new AddressBookGenerator(0).nextPersons(PERSONS));
+    }
+
+    /**
+     * Returns an address book of the same persons, each with an email domain of its own.
+     */
+    private static AddressBook copyWithUnsharedEmails(AddressBook addressBook) throws IllegalValueException {
+        final List<Person> persons = new ArrayList<>(addressBook.size());
+        for (Person person : addressBook.getAllPersons()) {
+            final Email email = person.getEmail();
+            persons.add(new Person(person.getName(), person.getPhone(), new Email(email.getValue(), email.isPrivate()),
+                    person.getAddress(), person.getTags()));
+        }
+        return new AddressBook(new UniquePersonList(persons));
+    }
+
+    /**
+     * Returns an address book of the same persons, with equal addresses shared through the {@code pool}.
+     */
+    private static AddressBook copyWithInternedAddresses(AddressBook addressBook, InternPool<String> pool)
+            throws IllegalValueException {
+        final List<Person> persons = new ArrayList<>(addressBook.size());
+        for (Person person : addressBook.getAllPersons()) {
+            final Address address = person.getAddress();
+            persons.add(new Person(person.getName(), person.getPhone(), person.getEmail(),
+                    new Address(pool.intern(address.value), address.isPrivate()), person.getTags()));
+        }
+        return new AddressBook(new UniquePersonList(persons));
+    }
+}
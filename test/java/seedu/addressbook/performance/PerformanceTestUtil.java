@@ -0,0 +1,60 @@
+package seedu.addressbook.performance;
+
+/**
+ * Measurements and budgets shared by the performance tests.
+ */
+public class PerformanceTestUtil {
+
+    /** Tag of the performance tests, which are left out of the usual test run. */
+    public static final String TAG = "performance";
+
+    /** Prefix of the system properties that change the budgets, in the budget's unit. */
+    public static final String BUDGET_PROPERTY_PREFIX = "addressbook.budget.";
+
+    private static final int GC_ROUNDS = 3;
+
+    /**
+     * Returns the budget set by the system property {@code addressbook.budget.NAME},
+     * or {@code defaultBudget} if it is not set.
+     */
+    public static long getBudget(String name, long defaultBudget) {
+        return Long.getLong(BUDGET_PROPERTY_PREFIX + name, defaultBudget);
+    }
+
+    /**
+     * Returns the budget set by the system property {@code addressbook.budget.NAME}, which may be fractional,
+     * or {@code defaultBudget} if it is not set.
+     */
+    public static double getBudget(String name, double defaultBudget) {
+        final String budget = System.getProperty(BUDGET_PROPERTY_PREFIX + name);
+        return budget == null ? defaultBudget : Double.parseDouble(budget);
+    }
+
+    /**
+     * Returns the fewest nanoseconds taken by {@code runs} runs of {@code task}, after as many runs to warm up.
+     * The fastest run is the least disturbed by the JIT compiler, the garbage collector and other processes.
+     */
+    public static long bestNanos(int runs, Runnable task) {
+        for (int i = 0; i < runs; i++) {
+            task.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            final long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the bytes of heap used by reachable objects, after collecting the garbage.
+     */
+    public static long getUsedHeapBytes() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
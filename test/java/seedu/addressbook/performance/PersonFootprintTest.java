@@ -0,0 +1,76 @@
+package seedu.addressbook.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.ColumnarPersonStore;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.storage.MappedPersonStore;
+import seedu.addressbook.util.AddressBookGenerator;
+
+/**
+ * Guards against regressions in the heap retained by each person in a large address book,
+ * with its persons kept as objects, as columns and in a mapped file.
+ */
+@Tag(PerformanceTestUtil.TAG)
+public class PersonFootprintTest {
+
+    private static final int PERSONS = 200_000;
+
+    /** About a quarter more than each generated person retains now, in each store. */
+    private static final long DEFAULT_BUDGET_BYTES = 500;
+    private static final long DEFAULT_COLUMNAR_BUDGET_BYTES = 110;
+    private static final long DEFAULT_MAPPED_BUDGET_BYTES = 16;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void addressBook_manyPersons_retainedHeapPerPersonWithinBudget() {
+        final long budget = PerformanceTestUtil.getBudget("bytesPerPerson", DEFAULT_BUDGET_BYTES);
+        final long before = PerformanceTestUtil.getUsedHeapBytes();
+        final AddressBook addressBook = new AddressBookGenerator(0).nextAddressBook(PERSONS);
+        final long bytesPerPerson = (PerformanceTestUtil.getUsedHeapBytes() - before) / PERSONS;
+
+        assertEquals(PERSONS, addressBook.size());
+        assertWithinBudget(bytesPerPerson, budget);
+    }
+
+    @Test
+    public void columnarStore_manyPersons_retainedHeapPerPersonWithinBudget() {
+        final long budget = PerformanceTestUtil.getBudget("columnarBytesPerPerson", DEFAULT_COLUMNAR_BUDGET_BYTES);
+        final UniquePersonList persons = new AddressBookGenerator(0).nextAddressBook(PERSONS).getAllPersons();
+        final long before = PerformanceTestUtil.getUsedHeapBytes();
+        final ColumnarPersonStore store = new ColumnarPersonStore(persons);
+        final long bytesPerPerson = (PerformanceTestUtil.getUsedHeapBytes() - before) / PERSONS;
+
+        assertEquals(PERSONS, store.size());
+        assertWithinBudget(bytesPerPerson, budget);
+    }
+
+    @Test
+    public void mappedStore_manyPersons_retainedHeapPerPersonWithinBudget() throws Exception {
+        final long budget = PerformanceTestUtil.getBudget("mappedBytesPerPerson", DEFAULT_MAPPED_BUDGET_BYTES);
+        final UniquePersonList persons = new AddressBookGenerator(0).nextAddressBook(PERSONS).getAllPersons();
+        final long before = PerformanceTestUtil.getUsedHeapBytes();
+        try (MappedPersonStore store = MappedPersonStore.open(testFolder.resolve("addressbook.txt"))) {
+            store.setPersons(persons);
+            final long bytesPerPerson = (PerformanceTestUtil.getUsedHeapBytes() - before) / PERSONS;
+
+            assertEquals(PERSONS, store.size());
+            assertWithinBudget(bytesPerPerson, budget);
+        }
+    }
+
+    private static void assertWithinBudget(long bytesPerPerson, long budget) {
+        assertTrue(bytesPerPerson <= budget,
+                "each person retains " + bytesPerPerson + " bytes, over the budget of " + budget);
+    }
+}
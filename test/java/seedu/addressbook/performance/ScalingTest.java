@@ -0,0 +1,152 @@
+package seedu.addressbook.performance;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.commands.FindCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.metrics.AllocationCounter;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.util.AddressBookGenerator;
+
+/**
+ * Checks how the cost of each operation grows with the size of the address book.
+ * Adding and finding scan the whole list, so they may take up to linearly longer in larger address books;
+ * a regression to anything worse, such as a scan per person, fails the timing tests.
+ * Copying the list on every add is also linear, so it cannot be told apart by time. It is caught instead by the
+ * memory that an add allocates just after a save, as Main saves after every command: without copying,
+ * that memory does not grow with the address book.
+ */
+@Tag(PerformanceTestUtil.TAG)
+public class ScalingTest {
+
+    private static final int SMALL_BOOK = 10_000;
+    private static final int LARGE_BOOK = 100_000;
+
+    /**
+     * How many times longer than linear growth an operation may take in the large address book,
+     * to allow for it fitting less well in the processor caches.
+     */
+    private static final double DEFAULT_SLACK = 3;
+
+    /** More than an add allocates now, but far less than copying the list of the small address book. */
+    private static final long DEFAULT_ADD_ALLOCATION_BYTES = 1_024;
+
+    private static final int ADDS_PER_ROUND = 200;
+    private static final int ROUNDS = 5;
+    private static final int SAVED_ADDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void addPerson_largerAddressBook_atMostLinearlySlower() {
+        assertAtMostLinear("add", measureAdd(SMALL_BOOK), measureAdd(LARGE_BOOK));
+    }
+
+    @Test
+    public void addPersonAfterSave_smallAndLargeAddressBook_allocationWithinBudget() throws Exception {
+        assumeTrue(AllocationCounter.isSupported());
+        final long budget = PerformanceTestUtil.getBudget("addAllocationBytes", DEFAULT_ADD_ALLOCATION_BYTES);
+        for (int size : new int[] { SMALL_BOOK, LARGE_BOOK }) {
+            final long allocated = measureAddAfterSaveAllocation(size);
+            assertTrue(allocated <= budget, String.format("adding a person to %d persons after saving them "
+                    + "allocated %d bytes, over the budget of %d", size, allocated, budget));
+        }
+    }
+
+    @Test
+    public void find_largerAddressBook_atMostLinearlySlower() {
+        assertAtMostLinear("find", measureFind(SMALL_BOOK), measureFind(LARGE_BOOK));
+    }
+
+    /**
+     * Returns the fewest nanoseconds taken to add a person to an address book of {@code size} persons.
+     */
+    private static long measureAdd(int size) {
+        final AddressBookGenerator generator = new AddressBookGenerator(size);
+        final AddressBook addressBook = generator.nextAddressBook(size);
+        final List<Person> toAdd = generator.nextPersons(ADDS_PER_ROUND);
+        long best = Long.MAX_VALUE;
+        // the first round warms up
+        for (int round = 0; round <= ROUNDS; round++) {
+            final long start = System.nanoTime();
+            for (Person person : toAdd) {
+                addPerson(addressBook, person);
+            }
+            final long elapsed = System.nanoTime() - start;
+            best = round == 0 ? best : Math.min(best, elapsed / ADDS_PER_ROUND);
+            for (Person person : toAdd) {
+                removePerson(addressBook, person);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the fewest bytes allocated by adding a person to an address book of {@code size} persons
+     * just after saving it. The fewest leaves out the adds that grow the list, which happen now and then.
+     */
+    private long measureAddAfterSaveAllocation(int size) throws Exception {
+        final AddressBookGenerator generator = new AddressBookGenerator(size);
+        final AddressBook addressBook = generator.nextAddressBook(size);
+        final StorageFile storage = new StorageFile(testFolder.resolve("scaling" + size + ".txt").toString());
+        long fewest = Long.MAX_VALUE;
+        for (Person person : generator.nextPersons(SAVED_ADDS)) {
+            storage.save(addressBook);
+            final long before = AllocationCounter.getAllocatedBytes();
+            addPerson(addressBook, person);
+            fewest = Math.min(fewest, AllocationCounter.getAllocatedBytes() - before);
+        }
+        return fewest;
+    }
+
+    /**
+     * Returns the fewest nanoseconds taken to find the most common surname in an address book of {@code size}
+     * persons.
+     */
+    private static long measureFind(int size) {
+        final AddressBook addressBook = new AddressBookGenerator(size).nextAddressBook(size);
+        return PerformanceTestUtil.bestNanos(ROUNDS, () -> {
+            final FindCommand find =
+                    new FindCommand(Collections.singleton(AddressBookGenerator.getCommonSurname()));
+            find.setData(addressBook, Collections.emptyList());
+            find.execute();
+        });
+    }
+
+    private static void assertAtMostLinear(String operation, long smallNanos, long largeNanos) {
+        final double slack = PerformanceTestUtil.getBudget("scalingSlack", DEFAULT_SLACK);
+        final double growth = (double) largeNanos / Math.max(1, smallNanos);
+        final double linearGrowth = (double) LARGE_BOOK / SMALL_BOOK;
+        assertTrue(growth <= linearGrowth * slack, String.format("%s took %d ns with %d persons and %d ns with %d "
+                + "persons, %.1f times as long", operation, smallNanos, SMALL_BOOK, largeNanos, LARGE_BOOK, growth));
+    }
+
+    private static void addPerson(AddressBook addressBook, Person person) {
+        try {
+            addressBook.addPerson(person);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("Generated persons should be unique", dpe);
+        }
+    }
+
+    private static void removePerson(AddressBook addressBook, Person person) {
+        try {
+            addressBook.removePerson(person);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The person was just added", pnfe);
+        }
+    }
+}
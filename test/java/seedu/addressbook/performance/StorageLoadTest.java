@@ -0,0 +1,56 @@
+package seedu.addressbook.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.util.AddressBookGenerator;
+
+/**
+ * Guards against regressions in the time taken to load a large address book.
+ */
+@Tag(PerformanceTestUtil.TAG)
+public class StorageLoadTest {
+
+    private static final int PERSONS = 1_000_000;
+
+    /** Persons generated and written at a time, so that they need not all be in memory at once. */
+    private static final int PERSONS_PER_CHUNK = 50_000;
+
+    /** About a quarter more than loading {@link #PERSONS} persons takes now, after warming up. */
+    private static final long DEFAULT_BUDGET_MILLIS = 10_000;
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void load_millionPersons_withinBudget() throws Exception {
+        final Path file = tempDir.resolve("addressbook.txt");
+        final AddressBookGenerator generator = new AddressBookGenerator(0);
+        for (int written = 0; written < PERSONS; written += PERSONS_PER_CHUNK) {
+            Files.write(file, AddressBookGenerator.toStorageLines(generator.nextPersons(PERSONS_PER_CHUNK)),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        final StorageFile storage = new StorageFile(file.toString());
+        final long budget = PerformanceTestUtil.getBudget("loadMillis", DEFAULT_BUDGET_MILLIS);
+
+        // the first load warms up, and is dropped before the second so that both fit in memory
+        assertEquals(PERSONS, storage.load().size());
+        final long start = System.nanoTime();
+        final AddressBook loaded = storage.load();
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(PERSONS, loaded.size());
+        assertTrue(millis <= budget, "loading took " + millis + " ms, over the budget of " + budget);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.addressbook.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.Main;
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.util.TypicalPersons;
+
+public class ReplicationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void follower_startsFromSnapshotThenStreamsChanges() throws Exception {
+        AddressBook primaryBook = td.getTypicalAddressBook();
+        AddressBook followerBook = new AddressBook();
+        try (ReplicationPrimary primary = new ReplicationPrimary(primaryBook, 100);
+             ReplicationFollower follower = new ReplicationFollower(followerBook, startOnFreePort(primary), 100)) {
+            follower.start();
+            assertTrue(follower.awaitInitialSync(TIMEOUT_MILLIS));
+            assertEquals(primaryBook, followerBook);
+
+            primaryBook.removePerson(td.amy);
+            primaryBook.clear();
+            primaryBook.addPerson(td.bill);
+            primaryBook.addPerson(td.amy);
+
+            waitUntil(() -> follower.getAppliedSequence() == primary.getLog().getLatestSequence());
+            assertEquals(primaryBook, followerBook);
+            assertEquals(0, follower.getResyncCount());
+        }
+    }
+
+    @Test
+    public void primary_followerBehindRetainedLog_sentSnapshot() throws Exception {
+        AddressBook primaryBook = new AddressBook();
+        try (ReplicationPrimary primary = new ReplicationPrimary(primaryBook, 2)) {
+            primary.start(0);
+            primaryBook.addPerson(td.amy);
+            primaryBook.addPerson(td.bill);
+            primaryBook.addPerson(td.candy);
+            assertNull(primary.getLog().getEntriesAfter(0));
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), primary.getPort());
+                 BufferedReader in = reader(socket);
+                 Writer out = writer(socket)) {
+                ReplicationPrimary.writeLine(out, "FOLLOW 0");
+                out.flush();
+                assertEquals("SNAPSHOT 3 3", in.readLine());
+            }
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), primary.getPort());
+                 BufferedReader in = reader(socket);
+                 Writer out = writer(socket)) {
+                ReplicationPrimary.writeLine(out, "FOLLOW 2");
+                out.flush();
+                assertTrue(in.readLine().startsWith("ENTRY 3 "));
+                assertEquals("HEARTBEAT 3", in.readLine());
+            }
+        }
+    }
+
+    @Test
+    public void follower_tooFarBehind_resyncsFromSnapshot() throws Exception {
+        try (ServerSocket fakePrimary = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+             ReplicationFollower follower = new ReplicationFollower(new AddressBook(),
+                     fakePrimary.getLocalPort(), 10)) {
+            fakePrimary.setSoTimeout((int) TIMEOUT_MILLIS);
+            follower.start();
+
+            try (Socket socket = fakePrimary.accept();
+                 BufferedReader in = reader(socket);
+                 Writer out = writer(socket)) {
+                assertEquals("FOLLOW -1", in.readLine());
+                ReplicationPrimary.writeLine(out, "SNAPSHOT 5 0");
+                ReplicationPrimary.writeLine(out, "HEARTBEAT 100");
+                out.flush();
+
+                try (Socket resync = fakePrimary.accept();
+                     BufferedReader resyncIn = reader(resync)) {
+                    assertEquals("FOLLOW -1", resyncIn.readLine());
+                }
+            }
+            assertEquals(1, follower.getResyncCount());
+        }
+    }
+
+    @Test
+    public void follower_separateProcess_servesPrimaryDataReadOnly() throws Exception {
+        AddressBook primaryBook = td.getTypicalAddressBook();
+        try (ReplicationPrimary primary = new ReplicationPrimary(primaryBook, 100)) {
+            final int port = startOnFreePort(primary);
+            final Path classes = Paths.get(Main.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            final Process follower = new ProcessBuilder(
+                    Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", classes.toString(), Main.class.getName(),
+                    "--follow=" + port, testFolder.resolve("follower.txt").toString())
+                    .redirectErrorStream(true)
+                    .start();
+            try (Writer commands = new OutputStreamWriter(follower.getOutputStream(), StandardCharsets.UTF_8)) {
+                commands.write("list\nclear\nexit\n");
+            }
+            final String output = new String(follower.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(follower.waitFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+            assertTrue(output.contains(String.format(Messages.MESSAGE_FOLLOWING_PRIMARY, port)), output);
+            assertTrue(output.contains(td.amy.getName().toString()), output);
+            assertTrue(output.contains(td.dan.getName().toString()), output);
+            assertTrue(output.contains(Messages.MESSAGE_READ_ONLY_REPLICA), output);
+            assertEquals(td.getTypicalPersons().length, primaryBook.size());
+        }
+    }
+
+    private static int startOnFreePort(ReplicationPrimary primary) throws IOException {
+        primary.start(0);
+        return primary.getPort();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for replication");
+            Thread.sleep(10);
+        }
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static Writer writer(Socket socket) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.AddressBookRegistry.Statistics;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.util.TypicalPersons;
+
+public class AddressBookRegistryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final TypicalPersons td = new TypicalPersons();
+
+    @Test
+    public void open_sameNameTwice_sameInstanceAndHitCounted() throws Exception {
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 2, Long.MAX_VALUE);
+
+        AddressBook first = registry.open("teamA");
+        assertSame(first, registry.open("teamA"));
+
+        Statistics statistics = registry.getStatistics();
+        assertEquals(1, statistics.hits);
+        assertEquals(1, statistics.misses);
+        assertEquals(0, statistics.evictions);
+        assertEquals(1, statistics.residentBooks);
+    }
+
+    @Test
+    public void open_countBudgetExceeded_leastRecentlyUsedSavedAndEvicted() throws Exception {
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 2, Long.MAX_VALUE);
+        registry.open("teamA").addPerson(td.amy);
+        registry.open("teamB").addPerson(td.bill);
+        registry.open("teamA"); // teamB is now the least recently used
+
+        registry.open("teamC");
+
+        assertTrue(registry.isResident("teamA"));
+        assertFalse(registry.isResident("teamB"));
+        assertTrue(registry.isResident("teamC"));
+        assertEquals(1, registry.getStatistics().evictions);
+
+        // the evicted book was saved before eviction and is reloaded on demand
+        AddressBook reloaded = registry.open("teamB");
+        assertTrue(reloaded.containsPerson(td.bill));
+        assertEquals(2, registry.getStatistics().evictions);
+    }
+
+    @Test
+    public void open_memoryBudgetExceeded_evictsUntilWithinBudget() throws Exception {
+        long budget = 2 * AddressBookRegistry.ESTIMATED_BYTES_PER_PERSON;
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 10, budget);
+        registry.open("teamA").addPerson(td.amy);
+        registry.open("teamB").addPerson(td.bill);
+        AddressBook teamC = registry.open("teamC");
+        teamC.addPerson(td.candy);
+        teamC.addPerson(td.dan);
+
+        registry.open("teamC");
+        registry.open("teamD");
+
+        // teamC alone fills the budget, so both older books are evicted
+        assertFalse(registry.isResident("teamA"));
+        assertFalse(registry.isResident("teamB"));
+        assertTrue(registry.isResident("teamC"));
+        assertTrue(registry.getStatistics().residentBytes <= budget);
+    }
+
+    @Test
+    public void open_residentBookGrewPastBudget_leastRecentlyUsedEvicted() throws Exception {
+        long budget = 2 * AddressBookRegistry.ESTIMATED_BYTES_PER_PERSON;
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 10, budget);
+        registry.open("teamA").addPerson(td.amy);
+        AddressBook teamB = registry.open("teamB");
+
+        // both books are resident and already opened, so only their growth can exceed the budget
+        teamB.addPerson(td.bill);
+        teamB.addPerson(td.candy);
+        assertSame(teamB, registry.open("teamB"));
+
+        assertFalse(registry.isResident("teamA"));
+        assertEquals(1, registry.getStatistics().evictions);
+        assertTrue(registry.open("teamA").containsPerson(td.amy));
+    }
+
+    @Test
+    public void flush_unchangedBook_fileNotWritten() throws Exception {
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 2, Long.MAX_VALUE);
+        registry.open("teamA");
+
+        registry.flush("teamA");
+
+        assertFalse(testFolder.resolve("teamA.txt").toFile().exists());
+    }
+
+    @Test
+    public void open_mostRecentBookOverBudget_staysResident() throws Exception {
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 1, 1);
+        AddressBook teamA = registry.open("teamA");
+        teamA.addPerson(td.amy);
+
+        assertSame(teamA, registry.open("teamA"));
+        registry.open("teamB");
+        assertNotSame(teamA, registry.open("teamA"));
+    }
+
+    @Test
+    public void flushAll_residentBooks_savedToTheirFiles() throws Exception {
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 2, Long.MAX_VALUE);
+        registry.open("teamA").addPerson(td.amy);
+
+        registry.flushAll();
+
+        AddressBook saved = new StorageFile(testFolder.resolve("teamA.txt").toString()).load();
+        assertTrue(saved.containsPerson(td.amy));
+    }
+
+    @Test
+    public void open_invalidName_exceptionThrown() {
+        AddressBookRegistry registry = new AddressBookRegistry(testFolder, 2, Long.MAX_VALUE);
+        assertThrows(InvalidStorageFilePathException.class, () -> registry.open("../outside"));
+        assertThrows(InvalidStorageFilePathException.class, () -> registry.open(""));
+    }
+}
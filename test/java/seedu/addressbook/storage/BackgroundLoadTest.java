@@ -0,0 +1,101 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.util.TypicalPersons;
+
+public class BackgroundLoadTest {
+
+    private static final long SHORT_PROGRESS_INTERVAL_MILLIS = 5;
+
+    private TypicalPersons typicalPersons;
+    private LoadProgress progress;
+    private List<String> messages;
+
+    @BeforeEach
+    public void setUp() {
+        typicalPersons = new TypicalPersons();
+        progress = new LoadProgress();
+        messages = new ArrayList<>();
+    }
+
+    @Test
+    public void await_personsQueued_addedAfterLoadedPersonsUnlessDuplicate() throws Exception {
+        final BackgroundLoad load = new BackgroundLoad(() ->
+                new AddressBook(new UniquePersonList(typicalPersons.amy, typicalPersons.bill)), progress);
+        load.queue(new Person(typicalPersons.candy));
+        load.queue(new Person(typicalPersons.amy));
+        load.start();
+
+        final AddressBook loaded = load.await(messages::add);
+
+        assertEquals(new AddressBook(new UniquePersonList(typicalPersons.amy, typicalPersons.bill,
+                typicalPersons.candy)), loaded);
+        assertEquals(Arrays.asList(String.format(Messages.MESSAGE_QUEUED_PERSON_ADDED, typicalPersons.candy),
+                String.format(Messages.MESSAGE_QUEUED_PERSON_DUPLICATE, typicalPersons.amy)), messages);
+    }
+
+    @Test
+    public void queue_samePersonTwice_throwsDuplicatePersonException() throws Exception {
+        final BackgroundLoad load = new BackgroundLoad(AddressBook::new, progress);
+        load.queue(new Person(typicalPersons.dan));
+        assertThrows(DuplicatePersonException.class, () -> load.queue(new Person(typicalPersons.dan)));
+    }
+
+    @Test
+    public void await_slowLoad_progressReported() throws Exception {
+        final CountDownLatch halfLoaded = new CountDownLatch(1);
+        final CountDownLatch progressSeen = new CountDownLatch(1);
+        final BackgroundLoad load = new BackgroundLoad(() -> {
+            progress.begin(4);
+            progress.setLoaded(2);
+            halfLoaded.countDown();
+            progressSeen.await();
+            return new AddressBook();
+        }, progress, SHORT_PROGRESS_INTERVAL_MILLIS);
+        load.start();
+        halfLoaded.await();
+
+        load.await(message -> {
+            messages.add(message);
+            progressSeen.countDown();
+        });
+
+        assertFalse(messages.isEmpty());
+        assertTrue(messages.contains(String.format(Messages.MESSAGE_LOADING_PROGRESS, 2, 4, 50)));
+    }
+
+    @Test
+    public void await_loadFailed_throwsStorageOperationException() {
+        final BackgroundLoad load = new BackgroundLoad(() -> {
+            throw new StorageOperationException("File contains duplicate persons");
+        }, progress);
+        load.start();
+        assertThrows(StorageOperationException.class, () -> load.await(messages::add));
+    }
+
+    @Test
+    public void describeProgress_fileNotRead_readingFile() {
+        final BackgroundLoad load = new BackgroundLoad(AddressBook::new, progress);
+        assertEquals(Messages.MESSAGE_LOADING_FILE, load.describeProgress());
+        progress.begin(0);
+        assertEquals(String.format(Messages.MESSAGE_LOADING_PROGRESS, 0, 0, 100), load.describeProgress());
+    }
+}
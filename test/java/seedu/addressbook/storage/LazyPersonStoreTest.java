@@ -0,0 +1,180 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.storage.LazyPersonStore.InvalidRecordException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.util.AddressBookGenerator;
+import seedu.addressbook.util.TypicalPersons;
+
+public class LazyPersonStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private TypicalPersons typicalPersons;
+    private List<String> typicalLines;
+    private LazyPersonStore store;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        typicalPersons = new TypicalPersons();
+        typicalLines = AddressBookGenerator.toStorageLines(Arrays.asList(typicalPersons.getTypicalPersons()));
+        store = LazyPersonStore.load(toBytes(typicalLines, "\n"));
+    }
+
+    private static byte[] toBytes(List<String> lines, String lineSeparator) {
+        final StringBuilder file = new StringBuilder();
+        lines.forEach(line -> file.append(line).append(lineSeparator));
+        return file.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void load_validLines_noneDecodedUntilRead() {
+        assertEquals(4, store.size());
+        assertEquals(0, store.getDecodedCount());
+
+        assertEquals(typicalPersons.candy, store.immutableListView().get(2));
+        assertEquals(1, store.getDecodedCount());
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), store.immutableSnapshot());
+        assertEquals(4, store.getDecodedCount());
+    }
+
+    @Test
+    public void load_readTwice_decodedOnce() {
+        assertTrue(store.immutableListView().get(0) == store.immutableSnapshot().get(0));
+    }
+
+    @Test
+    public void load_windowsLineEndsAndNoLastLineEnd_samePersons() throws Exception {
+        final byte[] data = toBytes(typicalLines, "\r\n");
+        final LazyPersonStore loaded = LazyPersonStore.load(Arrays.copyOf(data, data.length - 2));
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), loaded.immutableListView());
+    }
+
+    @Test
+    public void load_invalidNameOrFormat_exceptionThrown() {
+        assertThrows(StorageOperationException.class, () -> LazyPersonStore.load(
+                toBytes(Arrays.asList("Amy 2 p/91119111 e/ab@gmail.com a/1 Clementi Road"), "\n")));
+        assertThrows(StorageOperationException.class, () -> LazyPersonStore.load(
+                toBytes(Arrays.asList("Amy Buck 91119111 e/ab@gmail.com a/1 Clementi Road"), "\n")));
+        assertThrows(StorageOperationException.class, () -> LazyPersonStore.load(
+                toBytes(Arrays.asList(typicalLines.get(0), ""), "\n")));
+    }
+
+    @Test
+    public void load_samePersonTwice_exceptionThrown() {
+        assertThrows(StorageOperationException.class, () -> LazyPersonStore.load(toBytes(Arrays.asList(
+                "Amy Buck p/91119111 e/ab@gmail.com a/1 Clementi Road",
+                " Amy Buck   pp/ 91119111  e/other@gmail.com a/2 Clementi Road"), "\n")));
+    }
+
+    @Test
+    public void get_invalidEmail_throwsInvalidRecordExceptionWhenRead() throws Exception {
+        final LazyPersonStore loaded = LazyPersonStore.load(toBytes(Arrays.asList(typicalLines.get(0),
+                "Zed Lim p/92229222 e/not an email a/1 Clementi Road"), "\n"));
+
+        assertEquals(typicalPersons.amy, loaded.immutableListView().get(0));
+        final InvalidRecordException ire = assertThrows(InvalidRecordException.class, () ->
+                loaded.immutableListView().get(1));
+        assertTrue(ire.getMessage().contains("line 2"));
+    }
+
+    @Test
+    public void contains_sameNameAndPhone_onlyThatPersonDecoded() {
+        assertTrue(store.contains(new Person(typicalPersons.dan)));
+        assertFalse(store.contains(new AddressBookGenerator(0).nextPerson()));
+        assertEquals(1, store.getDecodedCount());
+    }
+
+    @Test
+    public void addAndRemove_thenSnapshot_changesVisible() throws Exception {
+        final List<ReadOnlyPerson> before = store.immutableSnapshot();
+        final Person added = new AddressBookGenerator(0).nextPerson();
+
+        store.add(added);
+        store.remove(typicalPersons.bill);
+
+        assertThrows(DuplicatePersonException.class, () -> store.add(new Person(typicalPersons.amy)));
+        assertThrows(PersonNotFoundException.class, () -> store.remove(typicalPersons.bill));
+        assertEquals(Arrays.asList(typicalPersons.amy, typicalPersons.candy, typicalPersons.dan, added),
+                store.immutableListView());
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), before);
+    }
+
+    @Test
+    public void encodeLines_undecodedPersons_savedAsLoaded() throws Exception {
+        final String spacedLine = typicalLines.get(1).replace(" e/", "   e/");
+        final LazyPersonStore loaded = LazyPersonStore.load(toBytes(Arrays.asList(typicalLines.get(0), spacedLine),
+                "\n"));
+        final Person added = new AddressBookGenerator(0).nextPerson();
+        loaded.add(added);
+
+        final List<String> expected = Arrays.asList(typicalLines.get(0), spacedLine,
+                AddressBookEncoder.encodePerson(added));
+        assertEquals(expected, AddressBookEncoder.encodeAddressBook(new AddressBook(loaded)));
+        assertEquals(1, loaded.getDecodedCount());
+    }
+
+    @Test
+    public void immutableSnapshot_readBySeveralThreads_eachPersonDecodedOnce() throws Exception {
+        final List<String> lines = AddressBookGenerator.toStorageLines(new AddressBookGenerator(0).nextPersons(2_000));
+        final LazyPersonStore loaded = LazyPersonStore.load(toBytes(lines, "\n"));
+        final List<ReadOnlyPerson> snapshot = loaded.immutableSnapshot();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<List<ReadOnlyPerson>>> reads = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                reads.add(executor.submit(() -> new ArrayList<>(snapshot)));
+            }
+            final List<ReadOnlyPerson> first = reads.get(0).get();
+            for (Future<List<ReadOnlyPerson>> read : reads) {
+                final List<ReadOnlyPerson> persons = read.get();
+                for (int row = 0; row < lines.size(); row++) {
+                    assertSame(first.get(row), persons.get(row));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(lines.size(), loaded.getDecodedCount());
+        assertEquals(lines, AddressBookEncoder.encodeAddressBook(new AddressBook(loaded)));
+    }
+
+    @Test
+    public void loadLazily_storageFile_sameAsLoad() throws Exception {
+        final Path file = testFolder.resolve("generated.txt");
+        final AddressBook generated = new AddressBookGenerator(1).nextAddressBook(1_000);
+        final StorageFile storage = new StorageFile(file.toString());
+        storage.save(generated);
+
+        final AddressBook loaded = storage.loadLazily();
+        assertEquals(generated.getDistinctTagCount(), loaded.getDistinctTagCount());
+        assertEquals(storage.load(), loaded);
+        storage.save(loaded);
+        assertEquals(generated, storage.load());
+    }
+}
@@ -0,0 +1,289 @@
+package seedu.addressbook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.util.AddressBookGenerator;
+import seedu.addressbook.util.TypicalPersons;
+
+public class MappedPersonStoreTest {
+
+    /** Small enough that most lines straddle two buffers. */
+    private static final int SMALL_SEGMENT_BYTES = 64;
+
+    @TempDir
+    public Path testFolder;
+
+    private TypicalPersons typicalPersons;
+    private Path file;
+    private MappedPersonStore store;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        typicalPersons = new TypicalPersons();
+        file = testFolder.resolve("addressbook.txt");
+        store = MappedPersonStore.open(file, SMALL_SEGMENT_BYTES);
+        store.setPersons(new UniquePersonList(typicalPersons.getTypicalPersons()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    public void open_newFile_emptyStore() throws Exception {
+        try (MappedPersonStore empty = MappedPersonStore.open(testFolder.resolve("new.txt"))) {
+            assertEquals(0, empty.size());
+            assertEquals(0, empty.getFileBytes());
+        }
+    }
+
+    @Test
+    public void open_storageFile_samePersonsInOrder() throws Exception {
+        final Path saved = testFolder.resolve("saved.txt");
+        new StorageFile(saved.toString()).save(new AddressBook(
+                new UniquePersonList(typicalPersons.getTypicalPersons())));
+
+        try (MappedPersonStore opened = MappedPersonStore.open(saved, SMALL_SEGMENT_BYTES)) {
+            assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), opened.immutableListView());
+            assertTrue(opened.contains(typicalPersons.candy));
+        }
+    }
+
+    @Test
+    public void open_invalidData_exceptionThrown() throws Exception {
+        final Path invalid = testFolder.resolve("invalid.txt");
+        Files.write(invalid, Arrays.asList("Amy Buck p/91119111 e/ab@gmail.com a/1 Clementi Road", "not a person"));
+        assertThrows(StorageOperationException.class, () -> MappedPersonStore.open(invalid));
+    }
+
+    @Test
+    public void open_duplicatePersons_exceptionThrown() throws Exception {
+        final Path duplicates = testFolder.resolve("duplicates.txt");
+        Files.write(duplicates, Arrays.asList("Amy Buck p/91119111 e/ab@gmail.com a/1 Clementi Road",
+                "Amy Buck pp/91119111 e/other@gmail.com a/2 Clementi Road"));
+        assertThrows(StorageOperationException.class, () -> MappedPersonStore.open(duplicates));
+    }
+
+    @Test
+    public void open_linesNotAsEncoded_fileUnchangedAndPersonsFound() throws Exception {
+        final Path edited = testFolder.resolve("edited.txt");
+        final byte[] lines = (AddressBookEncoder.encodePerson(typicalPersons.amy).replace(" p/", "   p/") + "\r\n"
+                + AddressBookEncoder.encodePerson(typicalPersons.bill) + "\n").getBytes();
+        Files.write(edited, lines);
+
+        try (MappedPersonStore opened = MappedPersonStore.open(edited, SMALL_SEGMENT_BYTES)) {
+            assertArrayEquals(lines, Files.readAllBytes(edited));
+            assertTrue(opened.contains(typicalPersons.amy));
+            assertTrue(opened.contains(typicalPersons.bill));
+            assertThrows(DuplicatePersonException.class, () -> opened.add(new Person(typicalPersons.amy)));
+
+            opened.remove(typicalPersons.amy);
+            assertEquals(Arrays.asList(typicalPersons.bill), opened.immutableListView());
+        }
+    }
+
+    @Test
+    public void open_personsRemovedWhenLastOpen_linesLeftOutOfFile() throws Exception {
+        store.remove(typicalPersons.bill);
+        store.close();
+
+        store = MappedPersonStore.open(file, SMALL_SEGMENT_BYTES);
+        assertEquals(Arrays.asList(typicalPersons.amy, typicalPersons.candy, typicalPersons.dan),
+                store.immutableListView());
+        assertEquals(Arrays.asList(AddressBookEncoder.encodePerson(typicalPersons.amy),
+                AddressBookEncoder.encodePerson(typicalPersons.candy),
+                AddressBookEncoder.encodePerson(typicalPersons.dan)), Files.readAllLines(file));
+        assertEquals(Files.size(file), store.getFileBytes());
+    }
+
+    @Test
+    public void open_replacementNotedAndMade_earlierRemovedLinesIgnored() throws Exception {
+        store.close();
+        Files.write(MappedPersonStore.getRemovedFile(file),
+                Arrays.asList("0", MappedPersonStore.REPLACED_BY + "addressbook.txt1.tmp"));
+
+        store = MappedPersonStore.open(file, SMALL_SEGMENT_BYTES);
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), store.immutableListView());
+        assertFalse(Files.exists(MappedPersonStore.getRemovedFile(file)));
+    }
+
+    @Test
+    public void open_replacementNotedButNotMade_removedLinesLeftOut() throws Exception {
+        store.close();
+        final Path replacement = testFolder.resolve("addressbook.txt2.tmp");
+        Files.write(replacement, new byte[0]);
+        Files.write(MappedPersonStore.getRemovedFile(file),
+                Arrays.asList("0", MappedPersonStore.REPLACED_BY + replacement.getFileName(), "12"));
+
+        store = MappedPersonStore.open(file, SMALL_SEGMENT_BYTES);
+        assertEquals(Arrays.asList(typicalPersons.bill, typicalPersons.candy, typicalPersons.dan),
+                store.immutableListView());
+        assertEquals(3, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void add_newPerson_appendedToFile() throws Exception {
+        final ReadOnlyPerson added = new AddressBookGenerator(0).nextPerson();
+        store.add(new Person(added));
+
+        assertEquals(5, store.size());
+        assertTrue(store.contains(added));
+        assertEquals(added, store.immutableListView().get(4));
+        assertEquals(AddressBookEncoder.encodePerson(added), Files.readAllLines(file).get(4));
+        assertEquals(Files.size(file), store.getFileBytes());
+    }
+
+    @Test
+    public void add_samePerson_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> store.add(new Person(typicalPersons.bill)));
+    }
+
+    @Test
+    public void contains_namePrefixOrPhonePrefix_false() throws Exception {
+        final ReadOnlyPerson amy = typicalPersons.amy;
+        final Person longerName = new Person(new Name(amy.getName().fullName + " Jr"), amy.getPhone(),
+                amy.getEmail(), amy.getAddress(), amy.getTags());
+        final String phone = amy.getPhone().value;
+        final Person shorterPhone = new Person(amy.getName(), new Phone(phone.substring(0, phone.length() - 1), false),
+                amy.getEmail(), amy.getAddress(), amy.getTags());
+
+        assertFalse(store.contains(longerName));
+        assertFalse(store.contains(shorterPhone));
+    }
+
+    @Test
+    public void remove_middlePerson_fileUnchangedAndLineNotedAsRemoved() throws Exception {
+        final byte[] fileBytes = Files.readAllBytes(file);
+        store.remove(typicalPersons.bill);
+
+        assertEquals(Arrays.asList(typicalPersons.amy, typicalPersons.candy, typicalPersons.dan),
+                store.immutableListView());
+        assertFalse(store.contains(typicalPersons.bill));
+        assertThrows(PersonNotFoundException.class, () -> store.remove(typicalPersons.bill));
+        assertEquals(store.toUniquePersonList(), new StorageFile(file.toString()).load().getAllPersons());
+        assertArrayEquals(fileBytes, Files.readAllBytes(file));
+        assertTrue(Files.exists(MappedPersonStore.getRemovedFile(file)));
+
+        store.close();
+        assertEquals(Arrays.asList(AddressBookEncoder.encodePerson(typicalPersons.amy),
+                AddressBookEncoder.encodePerson(typicalPersons.candy),
+                AddressBookEncoder.encodePerson(typicalPersons.dan)), Files.readAllLines(file));
+        assertFalse(Files.exists(MappedPersonStore.getRemovedFile(file)));
+        store = MappedPersonStore.open(file, SMALL_SEGMENT_BYTES);
+    }
+
+    @Test
+    public void setPersons_repeatedly_fileOnlyHoldsLatestPersons() throws Exception {
+        final AddressBookGenerator generator = new AddressBookGenerator(0);
+        final List<ReadOnlyPerson> snapshot = store.immutableSnapshot();
+        store.remove(typicalPersons.amy);
+
+        UniquePersonList persons = null;
+        for (int i = 0; i < 3; i++) {
+            persons = generator.nextAddressBook(100).getAllPersons();
+            store.setPersons(persons);
+        }
+
+        assertEquals(persons, store.toUniquePersonList());
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), snapshot);
+        assertEquals(AddressBookEncoder.encodeAddressBook(new AddressBook(persons)), Files.readAllLines(file));
+        assertEquals(Files.size(file), store.getFileBytes());
+        assertFalse(Files.exists(MappedPersonStore.getRemovedFile(file)));
+    }
+
+    @Test
+    public void storageFileSave_linesNotedAsRemoved_notedLinesDiscarded() throws Exception {
+        final Path saved = testFolder.resolve("saved.txt");
+        final StorageFile storageFile = new StorageFile(saved.toString());
+        final AddressBook typicalBook = new AddressBook(new UniquePersonList(typicalPersons.getTypicalPersons()));
+        storageFile.save(typicalBook);
+        Files.write(MappedPersonStore.getRemovedFile(saved), Arrays.asList("0"));
+        assertEquals(3, storageFile.load().size());
+
+        storageFile.save(typicalBook);
+        assertEquals(typicalBook, storageFile.load());
+        assertFalse(Files.exists(MappedPersonStore.getRemovedFile(saved)));
+    }
+
+    @Test
+    public void remove_personsFromLargeFile_otherPersonsFoundAndFileValid() throws Exception {
+        final UniquePersonList persons = new AddressBookGenerator(0).nextAddressBook(5_000).getAllPersons();
+        store.setPersons(persons);
+        final List<ReadOnlyPerson> snapshot = store.immutableSnapshot();
+
+        final UniquePersonList remaining = new UniquePersonList(persons);
+        for (int i = 0; i < persons.size(); i += 7) {
+            final ReadOnlyPerson removed = snapshot.get(i);
+            store.remove(removed);
+            remaining.remove(removed);
+        }
+
+        assertEquals(remaining, store.toUniquePersonList());
+        assertTrue(store.contains(snapshot.get(persons.size() - 1)));
+        assertFalse(store.contains(snapshot.get(7)));
+        assertEquals(persons.immutableListView(), snapshot);
+        final StorageFile storageFile = new StorageFile(file.toString());
+        assertEquals(remaining, storageFile.load().getAllPersons());
+        assertEquals(remaining, storageFile.loadColumnar().getAllPersons());
+        assertEquals(remaining, storageFile.loadLazily().getAllPersons());
+
+        store.close();
+        store = MappedPersonStore.open(file, SMALL_SEGMENT_BYTES);
+        assertEquals(remaining, store.toUniquePersonList());
+        assertEquals(remaining.size(), Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void immutableSnapshot_storeChangedLater_snapshotUnchanged() throws Exception {
+        final List<ReadOnlyPerson> snapshot = store.immutableSnapshot();
+
+        store.remove(typicalPersons.amy);
+        store.add(new Person(typicalPersons.amy));
+        store.clear();
+
+        assertEquals(Arrays.asList(typicalPersons.getTypicalPersons()), snapshot);
+        assertEquals(0, store.size());
+        assertEquals(0, new StorageFile(file.toString()).load().size());
+    }
+
+    @Test
+    public void addressBook_generatedPersons_sameAsListStore() throws Exception {
+        final AddressBook listBook = new AddressBookGenerator(0).nextAddressBook(500);
+        store.setPersons(listBook.getAllPersons());
+        final AddressBook mappedBook = new AddressBook(store);
+
+        assertEquals(listBook, mappedBook);
+        assertEquals(listBook.getDistinctTagCount(), mappedBook.getDistinctTagCount());
+
+        final ReadOnlyPerson removed = listBook.getAllPersonsSnapshot().get(250);
+        mappedBook.removePerson(removed);
+        listBook.removePerson(removed);
+        assertEquals(listBook, mappedBook);
+        assertEquals(listBook.getAllPersons(), new StorageFile(file.toString()).load().getAllPersons());
+    }
+}
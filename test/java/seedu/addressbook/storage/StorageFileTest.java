@@ -2,11 +2,13 @@ package seedu.addressbook.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +20,7 @@ import seedu.addressbook.data.person.Email;
 import seedu.addressbook.data.person.Name;
 import seedu.addressbook.data.person.Person;
 import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
 import seedu.addressbook.data.tag.Tag;
 import seedu.addressbook.storage.StorageFile.StorageOperationException;
 
@@ -60,6 +63,36 @@ public class StorageFileTest {
         assertEquals(actualAB.getAllPersons(), expectedAB.getAllPersons());
     }
 
+    @Test
+    public void load_validFormat_progressComplete() throws Exception {
+        StorageFile storage = getStorage("ValidData.txt");
+        assertEquals(LoadProgress.UNKNOWN, storage.getLoadProgress().getTotal());
+
+        AddressBook actualAB = storage.load();
+        assertEquals(actualAB.size(), storage.getLoadProgress().getTotal());
+        assertEquals(actualAB.size(), storage.getLoadProgress().getLoaded());
+    }
+
+    @Test
+    public void loadColumnar_validFormat_samePersonsAsLoad() throws Exception {
+        StorageFile storage = getStorage("ValidData.txt");
+        AddressBook actualAB = storage.loadColumnar();
+
+        assertEquals(getTestAddressBook().getAllPersons(), actualAB.getAllPersons());
+        assertEquals(actualAB.size(), storage.getLoadProgress().getLoaded());
+    }
+
+    @Test
+    public void loadColumnar_duplicatePersons_exceptionThrown() throws Exception {
+        Path duplicated = testFolder.resolve("duplicated.txt");
+        List<String> lines = Files.readAllLines(Paths.get(TEST_DATA_FOLDER, "ValidData.txt"));
+        lines.add(lines.get(0));
+        Files.write(duplicated, lines);
+
+        StorageFile storage = new StorageFile(duplicated.toString());
+        assertThrows(StorageOperationException.class, () -> storage.loadColumnar());
+    }
+
     @Test
     public void load_nonExistantFile_returnsEmptyAddressBook() throws Exception {
         AddressBook actualAB = getStorage(NON_EXISTANT_FILE_NAME).load();
@@ -86,6 +119,21 @@ public class StorageFileTest {
         assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
     }
 
+    @Test
+    public void close_mappedAddressBookWithPersonRemoved_lineLeftOutOfFile() throws Exception {
+        StorageFile storage = new StorageFile(testFolder.resolve("mapped.txt").toString());
+        storage.save(getTestAddressBook());
+        AddressBook mapped = storage.loadMapped();
+        ReadOnlyPerson removed = mapped.getAllPersonsSnapshot().get(1);
+        mapped.removePerson(removed);
+        String keptLine = AddressBookEncoder.encodePerson(mapped.getAllPersonsSnapshot().get(0));
+        storage.save(mapped);
+        storage.close();
+
+        assertEquals(Collections.singletonList(keptLine), Files.readAllLines(storage.path));
+        assertFileDoesNotExist(MappedPersonStore.getRemovedFile(storage.path).toString());
+    }
+
     // getPath() method in StorageFile class is trivial so it is not tested
 
     /**
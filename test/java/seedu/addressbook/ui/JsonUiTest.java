@@ -0,0 +1,61 @@
+package seedu.addressbook.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class JsonUiTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+    private final List<ReadOnlyPerson> persons = Arrays.asList(td.bill, td.dan);
+
+    @Test
+    public void formatResult_noPersons_feedbackOnly() {
+        assertEquals("{\"feedback\":\"Deleted \\\"x\\\"\"}\n", newUi().formatResult(new CommandResult("Deleted \"x\"")));
+    }
+
+    @Test
+    public void formatResult_persons_privateDetailsLeftOut() {
+        // bill's address is private; dan's phone, email and address are all private
+        assertEquals("{\"feedback\":\"2 persons listed!\",\"total\":2,\"persons\":["
+                + "{\"index\":1,\"name\":\"Bill Clint\",\"phone\":\"92229222\",\"email\":\"bc@gmail.com\",\"tags\":[]},"
+                + "{\"index\":2,\"name\":\"Dan Smith\",\"tags\":[\"test\"]}]}\n",
+                newUi().formatResult(new CommandResult("2 persons listed!", persons)));
+    }
+
+    @Test
+    public void formatResult_page_onlyPageStreamed() {
+        assertEquals("{\"feedback\":\"listed\",\"total\":2,\"persons\":["
+                + "{\"index\":2,\"name\":\"Dan Smith\",\"tags\":[\"test\"]}]}\n",
+                newUi().formatResult(new CommandResult("listed", persons).showingOnly(1, 2)));
+    }
+
+    @Test
+    public void session_onlyJsonLinesWritten() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final JsonUi ui = new JsonUi(new ByteArrayInputStream("# comment\nlist\n".getBytes()), new PrintStream(output));
+
+        ui.showWelcomeMessage("version", "path");
+        assertEquals("list", ui.getUserCommand());
+        ui.showResultToUser(new CommandResult("0 persons listed!", Arrays.asList()));
+        ui.showToUser("a\nb");
+        ui.showGoodbyeMessage();
+
+        assertEquals("{\"feedback\":\"0 persons listed!\",\"total\":0,\"persons\":[]}\n{\"message\":\"a\\nb\"}\n",
+                output.toString());
+    }
+
+    private static JsonUi newUi() {
+        return new JsonUi(new ByteArrayInputStream(new byte[0]), new PrintStream(new ByteArrayOutputStream()));
+    }
+}
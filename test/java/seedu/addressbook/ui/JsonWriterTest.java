@@ -0,0 +1,36 @@
+package seedu.addressbook.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+public class JsonWriterTest {
+
+    @Test
+    public void write_nestedObjectsAndArrays_separatedByCommas() throws IOException {
+        final StringBuilder out = new StringBuilder();
+        new JsonWriter(out).beginObject()
+                .name("a").value(1)
+                .name("b").beginArray().value(true).beginObject().endObject().beginArray().endArray().endArray()
+                .name("c").value("x")
+                .endObject();
+        assertEquals("{\"a\":1,\"b\":[true,{},[]],\"c\":\"x\"}", out.toString());
+    }
+
+    @Test
+    public void value_specialCharacters_escaped() throws IOException {
+        final StringBuilder out = new StringBuilder();
+        new JsonWriter(out).value("q\"b\\n\nr\rt\tc\u0001s\u2028e\u00e9");
+        assertEquals("\"q\\\"b\\\\n\\nr\\rt\\tc\\u0001s\\u2028e\u00e9\"", out.toString());
+    }
+
+    @Test
+    public void endObject_nothingOpen_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder()).endObject());
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder())
+                .beginObject().name("dangling").endObject());
+    }
+}
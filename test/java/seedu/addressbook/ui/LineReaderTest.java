@@ -0,0 +1,94 @@
+package seedu.addressbook.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+
+import org.junit.jupiter.api.Test;
+
+public class LineReaderTest {
+
+    private static final String[] PIECES = { "a", "bc", " ", "#", "\n", "\r", "\r\n", "\u0085", "\u2028", "\u2029",
+        "\t", "" };
+
+    @Test
+    public void readLine_endsWithoutSeparator_lastLineReturned() throws IOException {
+        final LineReader reader = new LineReader(new StringReader("list\r\nexit"));
+        assertEquals("list", reader.readLine());
+        assertEquals("exit", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void readLine_lineLongerThanBuffer_readWhole() throws IOException {
+        final StringBuilder longLine = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            longLine.append((char) ('a' + i % 26));
+        }
+        final LineReader reader = new LineReader(new StringReader(longLine + "\nnext"));
+        assertEquals(longLine.toString(), reader.readLine());
+        assertEquals("next", reader.readLine());
+    }
+
+    @Test
+    public void readLine_randomInput_sameLinesAsScanner() throws IOException {
+        final Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            final StringBuilder input = new StringBuilder();
+            final int pieces = random.nextInt(10);
+            for (int j = 0; j < pieces; j++) {
+                input.append(PIECES[random.nextInt(PIECES.length)]);
+            }
+            final List<String> expected = readAllWithScanner(input.toString());
+            assertEquals(expected, readAll(new LineReader(new StringReader(input.toString()))), input.toString());
+            // a reader that returns one character at a time, as an interactive user typing would
+            assertEquals(expected, readAll(new LineReader(new OneCharReader(input.toString()))), input.toString());
+        }
+    }
+
+    private static List<String> readAllWithScanner(String input) {
+        final Scanner scanner = new Scanner(input);
+        final List<String> lines = new ArrayList<>();
+        while (scanner.hasNextLine()) {
+            lines.add(scanner.nextLine());
+        }
+        return lines;
+    }
+
+    private static List<String> readAll(LineReader reader) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * Returns at most one character per read.
+     */
+    private static class OneCharReader extends Reader {
+        private final StringReader in;
+
+        OneCharReader(String input) {
+            in = new StringReader(input);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return in.read(buffer, offset, Math.min(length, 1));
+        }
+
+        @Override
+        public void close() {
+            in.close();
+        }
+    }
+}
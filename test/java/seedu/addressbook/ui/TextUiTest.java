@@ -0,0 +1,86 @@
+package seedu.addressbook.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.util.TypicalPersons;
+
+public class TextUiTest {
+
+    private final TypicalPersons td = new TypicalPersons();
+    private final List<ReadOnlyPerson> persons = Arrays.asList(td.getTypicalPersons());
+
+    @Test
+    public void formatResult_wholeList_noPageLine() {
+        final String formatted = newUi(new ByteArrayOutputStream()).formatResult(new CommandResult("listed", persons));
+
+        assertTrue(formatted.contains("1. " + td.amy.getAsTextHidePrivate()));
+        assertTrue(formatted.contains("4. " + td.dan.getAsTextHidePrivate()));
+        assertFalse(formatted.contains("Showing"));
+    }
+
+    @Test
+    public void formatResult_page_onlyPageFormattedWithIndicesInWholeList() {
+        final CommandResult page = new CommandResult("listed", persons).showingOnly(2, 3);
+
+        final String formatted = newUi(new ByteArrayOutputStream()).formatResult(page);
+
+        assertFalse(formatted.contains(td.amy.getAsTextHidePrivate()));
+        assertTrue(formatted.contains("3. " + td.candy.getAsTextHidePrivate()));
+        assertFalse(formatted.contains(td.dan.getAsTextHidePrivate()));
+        assertTrue(formatted.contains("Showing 3-3 of 4."));
+    }
+
+    @Test
+    public void showingOnly_rangeOutsideList_throwsIndexOutOfBoundsException() {
+        final CommandResult result = new CommandResult("listed", persons);
+        assertThrows(IndexOutOfBoundsException.class, () -> result.showingOnly(3, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> result.showingOnly(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new CommandResult("no list").showingOnly(0, 0));
+    }
+
+    @Test
+    public void showResultToUser_writtenOutWhole() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final TextUi ui = newUi(output);
+
+        ui.showResultToUser(new CommandResult("listed", persons));
+
+        assertEquals(ui.formatResult(new CommandResult("listed", persons)), output.toString());
+    }
+
+    @Test
+    public void getUserCommand_promptWrittenOutBeforeReading() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final TextUi ui = new TextUi(new ByteArrayInputStream("list\n".getBytes()), new PrintStream(output));
+
+        assertEquals("list", ui.getUserCommand());
+        assertTrue(output.toString().startsWith("|| Enter command: "));
+    }
+
+    @Test
+    public void shouldIgnore_sameAsTrimmedRegexChecks() {
+        final String[] lines = { "", " ", "\t \f", "#", " # comment ", "#\u0085", "# a\u2028b", "#\r", " \n#x\n",
+            "list", " list # not a comment", "\u00a0#", "##", "#\u0001" };
+        for (String line : lines) {
+            final String trimmed = line.trim();
+            assertEquals(trimmed.isEmpty() || trimmed.matches("#.*"), TextUi.shouldIgnore(line), line);
+        }
+    }
+
+    private static TextUi newUi(ByteArrayOutputStream output) {
+        return new TextUi(new ByteArrayInputStream(new byte[0]), new PrintStream(output));
+    }
+}
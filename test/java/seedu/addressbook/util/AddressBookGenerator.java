@@ -0,0 +1,252 @@
+package seedu.addressbook.util;
+
+import java.io.BufferedOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.storage.AddressBookEncoder;
+
+/**
+ * Generates address books of any size that look like real ones: surnames, tags and email domains are shared
+ * unevenly between persons, following Zipf distributions, and some of each person's details are private.
+ * The same seed always generates the same persons, in the same order.
+ * Every person generated by one generator is different from the others, for up to 10 million persons.
+ */
+public class AddressBookGenerator {
+
+    public static final double DEFAULT_PRIVATE_PHONE_RATIO = 0.3;
+    public static final double DEFAULT_PRIVATE_EMAIL_RATIO = 0.2;
+    public static final double DEFAULT_PRIVATE_ADDRESS_RATIO = 0.5;
+
+    private static final String[] GIVEN_NAMES = {
+        "Aaron", "Alice", "Amy", "Ben", "Bernice", "Bill", "Candy", "Charlotte", "Daniel", "David", "Elaine", "Ethan",
+        "Fiona", "Gabriel", "Grace", "Hannah", "Henry", "Irfan", "Isabel", "Jason", "Jia Hui", "John", "Kavya",
+        "Kevin", "Li Ting", "Marcus", "Mei Ling", "Muhammad", "Nadia", "Nicholas", "Nur Aisyah", "Priya", "Rachel",
+        "Rajesh", "Roy", "Sarah", "Siti", "Wei Jie", "Xin Yi", "Zachary"
+    };
+
+    /** In order of how common they are. */
+    private static final String[] SURNAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho",
+        "Low", "Toh", "Sim", "Chong", "Chia", "Kumar", "Singh", "Abdullah", "Rahman", "Nair", "Pillai", "Smith",
+        "Fernandez", "Da Silva", "Muller"
+    };
+
+    /** In order of how common they are. Tags after these are numbered groups. */
+    private static final String[] COMMON_TAGS = {
+        "friends", "colleagues", "family", "classmates", "neighbours", "cca", "gym", "project", "owesMoney", "vip"
+    };
+    private static final int TAG_COUNT = 200;
+    private static final double[] TAGS_PER_PERSON_CUMULATIVE = { 0.3, 0.7, 0.9, 1.0 };
+
+    /** In order of how common they are. */
+    private static final String[] EMAIL_DOMAINS = {
+        "gmail.com", "yahoo.com", "hotmail.com", "u.nus.edu", "outlook.com", "icloud.com", "singnet.com.sg",
+        "comp.nus.edu.sg", "example.org", "mail.com"
+    };
+
+    private static final String[] STREETS = {
+        "Clementi Road", "Kent Ridge Drive", "Dover Road", "Commonwealth Avenue", "Holland Drive",
+        "Pasir Panjang Road", "Bukit Timah Road", "Orchard Road", "Tampines Street 81", "Jurong West Street 42",
+        "Ang Mo Kio Avenue 3", "Toa Payoh Lorong 1"
+    };
+
+    private static final int PHONE_SUFFIX_RANGE = 10_000_000;
+    /** Coprime with {@link #PHONE_SUFFIX_RANGE}, so that multiplying by it gives each person a different phone. */
+    private static final long PHONE_SUFFIX_MULTIPLIER = 7_654_321L;
+
+    private static final ZipfDistribution SURNAME_DISTRIBUTION = new ZipfDistribution(SURNAMES.length, 1.0);
+    private static final ZipfDistribution TAG_DISTRIBUTION = new ZipfDistribution(TAG_COUNT, 1.1);
+    private static final ZipfDistribution DOMAIN_DISTRIBUTION = new ZipfDistribution(EMAIL_DOMAINS.length, 1.2);
+
+    private final Random random;
+    private final long phoneSuffixOffset;
+    private final double privatePhoneRatio;
+    private final double privateEmailRatio;
+    private final double privateAddressRatio;
+    private int generatedCount;
+
+    public AddressBookGenerator(long seed) {
+        this(seed, DEFAULT_PRIVATE_PHONE_RATIO, DEFAULT_PRIVATE_EMAIL_RATIO, DEFAULT_PRIVATE_ADDRESS_RATIO);
+    }
+
+    /**
+     * @param privatePhoneRatio the share of persons whose phone is private; likewise for email and address.
+     */
+    public AddressBookGenerator(long seed, double privatePhoneRatio, double privateEmailRatio,
+            double privateAddressRatio) {
+        this.random = new Random(seed);
+        this.phoneSuffixOffset = random.nextInt(PHONE_SUFFIX_RANGE);
+        this.privatePhoneRatio = privatePhoneRatio;
+        this.privateEmailRatio = privateEmailRatio;
+        this.privateAddressRatio = privateAddressRatio;
+    }
+
+    /**
+     * Prints a generated address book to standard output, either as the lines of a storage file or as a script
+     * of add commands. Arguments: {@code storage|script PERSONS [SEED]}.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || !(args[0].equals("storage") || args[0].equals("script"))) {
+            System.err.println("Arguments: storage|script PERSONS [SEED]");
+            System.exit(1);
+        }
+        final AddressBookGenerator generator = new AddressBookGenerator(args.length > 2 ? Long.parseLong(args[2]) : 0);
+        final List<Person> persons = generator.nextPersons(Integer.parseInt(args[1]));
+        final PrintStream out = new PrintStream(new BufferedOutputStream(System.out), false);
+        (args[0].equals("storage") ? toStorageLines(persons) : toAddCommands(persons)).forEach(out::println);
+        out.flush();
+    }
+
+    /**
+     * Returns the most common surname of generated persons.
+     */
+    public static String getCommonSurname() {
+        return SURNAMES[0];
+    }
+
+    /**
+     * Returns a surname drawn from the same distribution as the surnames of generated persons.
+     */
+    public String nextSurname() {
+        return SURNAMES[SURNAME_DISTRIBUTION.sample(random)];
+    }
+
+    /**
+     * Returns a person different from all the persons this generator has returned before.
+     */
+    public Person nextPerson() {
+        if (generatedCount == PHONE_SUFFIX_RANGE) {
+            throw new IllegalStateException("Cannot generate more than " + PHONE_SUFFIX_RANGE + " different persons");
+        }
+        final int number = generatedCount++;
+        final String givenName = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+        final String surname = nextSurname();
+        final String phone = (random.nextBoolean() ? "8" : "9") + String.format("%07d",
+                (number * PHONE_SUFFIX_MULTIPLIER + phoneSuffixOffset) % PHONE_SUFFIX_RANGE);
+        final String email = (givenName + "." + surname).replaceAll("[^\\p{Alpha}.]", "").toLowerCase()
+                + random.nextInt(1000) + "@" + EMAIL_DOMAINS[DOMAIN_DISTRIBUTION.sample(random)];
+        final String address = (1 + random.nextInt(999)) + " " + STREETS[random.nextInt(STREETS.length)]
+                + (random.nextBoolean() ? "" : String.format(", #%02d-%02d", 1 + random.nextInt(30),
+                1 + random.nextInt(99)));
+        try {
+            return new Person(new Name(givenName + " " + surname),
+                    new Phone(phone, random.nextDouble() < privatePhoneRatio),
+                    new Email(email, random.nextDouble() < privateEmailRatio),
+                    new Address(address, random.nextDouble() < privateAddressRatio),
+                    nextTags());
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Generated person is invalid", ive);
+        }
+    }
+
+    /**
+     * Returns {@code count} persons, each different from all the persons this generator has returned before.
+     */
+    public List<Person> nextPersons(int count) {
+        final List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(nextPerson());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} persons, each different from all the persons this generator
+     * has returned before.
+     */
+    public AddressBook nextAddressBook(int count) {
+        try {
+            return new AddressBook(new UniquePersonList(nextPersons(count)));
+        } catch (UniquePersonList.DuplicatePersonException dpe) {
+            throw new AssertionError("Generated persons are not different", dpe);
+        }
+    }
+
+    /**
+     * Returns the lines of a storage file holding the {@code persons}.
+     */
+    public static List<String> toStorageLines(List<? extends ReadOnlyPerson> persons) {
+        final List<String> lines = new ArrayList<>(persons.size());
+        for (ReadOnlyPerson person : persons) {
+            lines.add(AddressBookEncoder.encodePerson(person));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns a script of add commands that adds the {@code persons}.
+     */
+    public static List<String> toAddCommands(List<? extends ReadOnlyPerson> persons) {
+        final List<String> commands = new ArrayList<>(persons.size());
+        for (ReadOnlyPerson person : persons) {
+            // the storage format of a person is the arguments of the add command
+            commands.add(AddCommand.COMMAND_WORD + " " + AddressBookEncoder.encodePerson(person));
+        }
+        return commands;
+    }
+
+    private Set<Tag> nextTags() throws IllegalValueException {
+        final double tagCountSample = random.nextDouble();
+        int tagCount = 0;
+        while (tagCountSample >= TAGS_PER_PERSON_CUMULATIVE[tagCount]) {
+            tagCount++;
+        }
+        final Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            final int tag = TAG_DISTRIBUTION.sample(random);
+            tags.add(new Tag(tag < COMMON_TAGS.length ? COMMON_TAGS[tag] : "group" + tag));
+        }
+        return tags;
+    }
+
+    /**
+     * Draws ranks from 0 to {@code n - 1}, where rank {@code k} is drawn in proportion to {@code 1 / (k + 1)^s}.
+     */
+    private static class ZipfDistribution {
+
+        private final double[] cumulativeProbabilities;
+
+        ZipfDistribution(int n, double s) {
+            cumulativeProbabilities = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1 / Math.pow(k + 1, s);
+                cumulativeProbabilities[k] = total;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulativeProbabilities[k] /= total;
+            }
+        }
+
+        int sample(Random random) {
+            final double sample = random.nextDouble();
+            int low = 0;
+            int high = cumulativeProbabilities.length - 1;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (cumulativeProbabilities[middle] > sample) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
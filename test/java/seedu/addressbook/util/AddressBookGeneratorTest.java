@@ -0,0 +1,73 @@
+package seedu.addressbook.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.addressbook.commands.AddCommand;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.parser.Parser;
+import seedu.addressbook.storage.AddressBookDecoder;
+
+public class AddressBookGeneratorTest {
+
+    private static final int PERSONS = 5_000;
+
+    @Test
+    public void nextPersons_sameSeed_samePersons() {
+        assertEquals(new AddressBookGenerator(3).nextPersons(100), new AddressBookGenerator(3).nextPersons(100));
+        assertNotEquals(new AddressBookGenerator(3).nextPersons(100), new AddressBookGenerator(4).nextPersons(100));
+    }
+
+    @Test
+    public void nextAddressBook_storageLines_decodeToSamePersons() throws Exception {
+        final AddressBook addressBook = new AddressBookGenerator(1).nextAddressBook(PERSONS);
+        final List<String> lines = AddressBookGenerator.toStorageLines(addressBook.getAllPersonsSnapshot());
+        final AddressBook decoded = AddressBookDecoder.decodeAddressBook(lines);
+        assertEquals(addressBook, decoded);
+        assertEquals(lines, AddressBookGenerator.toStorageLines(decoded.getAllPersonsSnapshot()));
+    }
+
+    @Test
+    public void nextPersons_addCommands_addSamePersons() {
+        final List<Person> persons = new AddressBookGenerator(2).nextPersons(PERSONS);
+        final List<String> commands = AddressBookGenerator.toAddCommands(persons);
+        final Parser parser = new Parser();
+        for (int i = 0; i < persons.size(); i++) {
+            final ReadOnlyPerson added = ((AddCommand) parser.parseCommand(commands.get(i))).getPerson();
+            assertEquals(persons.get(i).getAsTextShowAll(), added.getAsTextShowAll());
+        }
+    }
+
+    @Test
+    public void nextPersons_distributions_skewedAndPrivateAsRequested() {
+        final List<Person> persons = new AddressBookGenerator(5, 0.25, 0, 1).nextPersons(PERSONS);
+        final Map<String, Integer> surnameCounts = new HashMap<>();
+        final Map<String, Integer> tagCounts = new HashMap<>();
+        int privatePhones = 0;
+        for (ReadOnlyPerson person : persons) {
+            final List<String> words = person.getName().getWordsInName();
+            surnameCounts.merge(words.get(words.size() - 1), 1, Integer::sum);
+            for (Tag tag : person.getTags()) {
+                tagCounts.merge(tag.tagName, 1, Integer::sum);
+            }
+            privatePhones += person.getPhone().isPrivate() ? 1 : 0;
+            assertTrue(!person.getEmail().isPrivate() && person.getAddress().isPrivate());
+        }
+        assertEquals(0.25, (double) privatePhones / PERSONS, 0.03);
+        // with Zipf distributions, the most common surname and tag are far more common than the average ones
+        final int commonSurnameCount = surnameCounts.get(AddressBookGenerator.getCommonSurname());
+        assertTrue(commonSurnameCount > 3 * PERSONS / surnameCounts.size(), surnameCounts.toString());
+        assertTrue(tagCounts.get("friends") > 10 * tagCounts.values().stream().mapToInt(Integer::intValue).sum()
+                / tagCounts.size(), tagCounts.toString());
+    }
+}
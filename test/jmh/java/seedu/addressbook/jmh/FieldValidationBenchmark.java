@@ -0,0 +1,83 @@
+package seedu.addressbook.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Measures validating the details of a person, as decoding does for every person it loads,
+ * with the validators and with {@code String.matches} on their regexes.
+ * {@link StorageBenchmark} measures decoding as a whole.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidationBenchmark {
+
+    private static final int PERSONS = 1_000;
+
+    /** The name, phone, email, address and tag name of each person. */
+    private List<String[]> details;
+
+    @Setup
+    public void setUp() {
+        details = new ArrayList<>(PERSONS);
+        for (Person person : GeneratedPersons.generate(PERSONS)) {
+            details.add(new String[] { person.getName().fullName, person.getPhone().value, person.getEmail().getValue(),
+                person.getAddress().value, person.getTags().iterator().next().tagName });
+        }
+    }
+
+    /**
+     * Validates the details of every person; the time reported is per person.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PERSONS)
+    public int validators() {
+        int valid = 0;
+        for (String[] person : details) {
+            valid += Name.isValidName(person[0]) && Phone.isValidPhone(person[1]) && Email.isValidEmail(person[2])
+                    && Address.isValidAddress(person[3]) && Tag.isValidTagName(person[4]) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    /**
+     * Validates the details of every person with the regexes; the time reported is per person.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PERSONS)
+    public int regexes() {
+        int valid = 0;
+        for (String[] person : details) {
+            valid += person[0].matches(Name.NAME_VALIDATION_REGEX)
+                    && person[1].matches(Phone.PHONE_VALIDATION_REGEX)
+                    && person[2].matches(Email.EMAIL_VALIDATION_REGEX)
+                    && person[3].matches(Address.ADDRESS_VALIDATION_REGEX)
+                    && person[4].matches(Tag.TAG_VALIDATION_REGEX) ? 1 : 0;
+        }
+        return valid;
+    }
+}
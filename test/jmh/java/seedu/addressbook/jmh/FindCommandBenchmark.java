@@ -0,0 +1,48 @@
+package seedu.addressbook.jmh;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.FindCommand;
+
+/**
+ * Measures the find command on address books of growing size, for a keyword matching a tenth of the persons.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    private FindCommand command;
+
+    @Setup
+    public void setUp() {
+        command = new FindCommand(new HashSet<>(Collections.singleton(GeneratedPersons.SURNAMES[0])));
+        command.setData(GeneratedPersons.generateAddressBook(size), Collections.emptyList());
+    }
+
+    @Benchmark
+    public CommandResult execute() {
+        return command.execute();
+    }
+}
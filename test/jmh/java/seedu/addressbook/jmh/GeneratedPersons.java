@@ -0,0 +1,74 @@
+package seedu.addressbook.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.person.Address;
+import seedu.addressbook.data.person.Email;
+import seedu.addressbook.data.person.Name;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.Phone;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.tag.Tag;
+
+/**
+ * Generates the same persons on every run, so that results of different runs can be compared.
+ */
+final class GeneratedPersons {
+
+    /** Every person has one of these surnames, in turn. */
+    static final String[] SURNAMES = { "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh" };
+
+    private GeneratedPersons() {}
+
+    /**
+     * Returns {@code count} different persons.
+     */
+    static List<Person> generate(int count) {
+        final List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generate(i, SURNAMES[i % SURNAMES.length]));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the person numbered {@code number}, with the given surname.
+     * Persons with different numbers are never the same person.
+     */
+    static Person generate(int number, String surname) {
+        try {
+            return new Person(new Name(givenName(number) + " " + surname),
+                    new Phone(Integer.toString(80_000_000 + number), number % 2 == 0),
+                    new Email("person" + number + "@example.com", number % 3 == 0),
+                    new Address(number + " Clementi Road", number % 5 == 0),
+                    Collections.singleton(new Tag("team" + number % 7)));
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Generated person is invalid", ive);
+        }
+    }
+
+    static AddressBook generateAddressBook(int count) {
+        try {
+            return new AddressBook(new UniquePersonList(generate(count)));
+        } catch (UniquePersonList.DuplicatePersonException dpe) {
+            throw new AssertionError("Generated persons are not unique", dpe);
+        }
+    }
+
+    /**
+     * Returns a name made of letters only, as names may not contain digits.
+     */
+    private static String givenName(int number) {
+        final StringBuilder name = new StringBuilder("P");
+        int remaining = number;
+        do {
+            name.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return name.toString();
+    }
+}
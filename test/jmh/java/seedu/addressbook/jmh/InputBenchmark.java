@@ -0,0 +1,120 @@
+package seedu.addressbook.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.ui.LineReader;
+import seedu.addressbook.ui.TextUi;
+
+/**
+ * Measures reading the lines of a piped script up to the command loop: with {@code Scanner.nextLine} and
+ * a comment regex, with {@link LineReader} and {@link TextUi#shouldIgnore}, and through
+ * {@link TextUi#getUserCommand()}, which also writes the prompt and the echo of every command.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputBenchmark {
+
+    private static final int LINES = 100_000;
+
+    @Param({ "scanner", "lineReader", "textUi" })
+    private String reader;
+
+    private byte[] script;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            switch (i % 10) {
+            case 0:
+                lines.append("# section ").append(i / 10).append('\n');
+                break;
+            case 1:
+                lines.append('\n');
+                break;
+            default:
+                lines.append("add Person ").append((char) ('a' + i % 26)).append(" p/").append(90000000 + i)
+                        .append(" e/p").append(i).append("@example.com a/").append(i).append(" Clementi Road\n");
+                break;
+            }
+        }
+        script = lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the whole script and counts its commands; the time reported is per line.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public int readScript() throws IOException {
+        switch (reader) {
+        case "scanner":
+            return readWithScanner();
+        case "lineReader":
+            return readWithLineReader();
+        default:
+            return readWithTextUi();
+        }
+    }
+
+    private int readWithScanner() {
+        final Scanner scanner = new Scanner(new ByteArrayInputStream(script));
+        int commands = 0;
+        while (scanner.hasNextLine()) {
+            final String line = scanner.nextLine();
+            if (!line.trim().isEmpty() && !line.trim().matches("#.*")) {
+                commands++;
+            }
+        }
+        return commands;
+    }
+
+    private int readWithLineReader() throws IOException {
+        final LineReader lineReader = new LineReader(new ByteArrayInputStream(script));
+        int commands = 0;
+        String line;
+        while ((line = lineReader.readLine()) != null) {
+            if (!TextUi.shouldIgnore(line)) {
+                commands++;
+            }
+        }
+        return commands;
+    }
+
+    private int readWithTextUi() {
+        final TextUi ui = new TextUi(new ByteArrayInputStream(script), new PrintStream(new ByteArrayOutputStream()));
+        int commands = 0;
+        try {
+            while (true) {
+                ui.getUserCommand();
+                commands++;
+            }
+        } catch (NoSuchElementException endOfScript) {
+            return commands;
+        }
+    }
+}
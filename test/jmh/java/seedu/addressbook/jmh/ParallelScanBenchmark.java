@@ -0,0 +1,60 @@
+package seedu.addressbook.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.data.person.ParallelPersonScanner;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+
+/**
+ * Measures scanning person lists of growing size with the predicate used by the find command, sequentially and
+ * in parallel, to find the list size from which the parallel scan is faster.
+ * The sequential threshold is the one shipped ({@link ParallelPersonScanner#DEFAULT_SEQUENTIAL_THRESHOLD}),
+ * a finer one, and {@link Integer#MAX_VALUE}, with which every list is scanned sequentially.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelScanBenchmark {
+
+    @Param({ "1000", "16384", "2147483647" })
+    private int sequentialThreshold;
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    private ParallelPersonScanner scanner;
+    private List<ReadOnlyPerson> persons;
+    private Predicate<ReadOnlyPerson> hasSurname;
+
+    @Setup
+    public void setUp() {
+        scanner = new ParallelPersonScanner(ForkJoinPool.commonPool(), sequentialThreshold);
+        persons = new ArrayList<>(GeneratedPersons.generate(size));
+        final String surname = GeneratedPersons.SURNAMES[0];
+        hasSurname = person -> person.getName().getWordsInName().contains(surname);
+    }
+
+    @Benchmark
+    public List<ReadOnlyPerson> filter() {
+        return scanner.filter(persons, hasSurname);
+    }
+}
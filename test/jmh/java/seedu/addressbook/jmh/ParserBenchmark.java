@@ -0,0 +1,79 @@
+package seedu.addressbook.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.addressbook.parser.Parser;
+import seedu.addressbook.parser.TokenizingParser;
+
+/**
+ * Measures parsing a mix of commands typical of a script that builds and queries an address book,
+ * with the regex-based {@link Parser} and the {@link TokenizingParser}.
+ * Parsing does not depend on the size of the address book, so this is not parameterised by it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final int COMMANDS = 1_000;
+
+    @Param({ "regex", "tokenizing" })
+    private String parserKind;
+
+    private Parser parser;
+    private List<String> commands;
+
+    @Setup
+    public void setUp() {
+        parser = parserKind.equals("regex") ? new Parser() : new TokenizingParser();
+        commands = new ArrayList<>(COMMANDS);
+        for (int i = 0; i < COMMANDS; i++) {
+            switch (i % 5) {
+            case 0:
+            case 1:
+                commands.add("add Person Number " + (char) ('a' + i % 26) + " p/" + (90000000 + i)
+                        + " pe/person" + i + "@example.com a/" + i + " Clementi Road t/friends t/team" + i % 7);
+                break;
+            case 2:
+                commands.add("find Number Person" + i % 100);
+                break;
+            case 3:
+                commands.add("view " + (i % 1000 + 1));
+                break;
+            default:
+                commands.add("list");
+                break;
+            }
+        }
+    }
+
+    /**
+     * Parses every command once; the time reported is per command.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS)
+    public void parseCommand(Blackhole blackhole) {
+        for (String command : commands) {
+            blackhole.consume(parser.parseCommand(command));
+        }
+    }
+}
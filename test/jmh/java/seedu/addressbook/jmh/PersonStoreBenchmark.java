@@ -0,0 +1,109 @@
+package seedu.addressbook.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.data.person.ColumnarPersonStore;
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.PersonStore;
+import seedu.addressbook.data.person.ReadOnlyPerson;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.storage.MappedPersonStore;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Compares scanning the persons kept as objects in a {@link UniquePersonList} with scanning them kept as columns
+ * in a {@link ColumnarPersonStore}, or in a file mapped by a {@link MappedPersonStore}.
+ * {@code PersonFootprintTest}, a performance test, checks the memory they take.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonStoreBenchmark {
+
+    @Param({ "list", "columnar", "mapped" })
+    private String store;
+
+    @Param({ "100000", "1000000" })
+    private int size;
+
+    private PersonStore persons;
+    private Person absentPerson;
+    private Path mappedFile;
+
+    @Setup
+    public void setUp() throws DuplicatePersonException, IOException, StorageOperationException {
+        final UniquePersonList list = new UniquePersonList(GeneratedPersons.generate(size));
+        if ("mapped".equals(store)) {
+            mappedFile = Files.createTempFile("addressbook", ".txt");
+            final MappedPersonStore mappedStore = MappedPersonStore.open(mappedFile);
+            mappedStore.setPersons(list);
+            persons = mappedStore;
+        } else {
+            persons = "columnar".equals(store) ? new ColumnarPersonStore(list) : list;
+        }
+        absentPerson = GeneratedPersons.generate(size, "Absent");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (mappedFile != null) {
+            ((MappedPersonStore) persons).close();
+            Files.delete(mappedFile);
+        }
+    }
+
+    /**
+     * Counts the persons with a surname by reading the name of every person, as {@code find} does.
+     */
+    @Benchmark
+    public int scanNames() {
+        final String surname = GeneratedPersons.SURNAMES[0];
+        final int[] matches = new int[1];
+        persons.forEachPerson(person -> {
+            if (person.getName().fullName.endsWith(surname)) {
+                matches[0]++;
+            }
+        });
+        return matches[0];
+    }
+
+    /**
+     * Reads every detail of every person through a snapshot, as listing all persons does.
+     */
+    @Benchmark
+    public int readSnapshot() {
+        int characters = 0;
+        for (ReadOnlyPerson person : persons.immutableSnapshot()) {
+            characters += person.getAsTextShowAll().length();
+        }
+        return characters;
+    }
+
+    /**
+     * Looks for a person who is not in the store, which compares against every person.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absentPerson);
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.addressbook.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.storage.AddressBookDecoder;
+import seedu.addressbook.storage.AddressBookEncoder;
+import seedu.addressbook.storage.StorageFile;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Measures encoding and decoding address books of growing size, and saving them to and loading them from a file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    private AddressBook addressBook;
+    private List<String> encoded;
+    private Path directory;
+    private StorageFile storageFile;
+
+    @Setup
+    public void setUp() throws IOException, IllegalValueException, StorageOperationException {
+        addressBook = GeneratedPersons.generateAddressBook(size);
+        encoded = AddressBookEncoder.encodeAddressBook(addressBook);
+        directory = Files.createTempDirectory("addressbook-benchmark");
+        storageFile = new StorageFile(directory.resolve("addressbook.txt").toString());
+        storageFile.save(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storageFile.path);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public List<String> encode() {
+        return AddressBookEncoder.encodeAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook decode() throws IllegalValueException, StorageOperationException {
+        return AddressBookDecoder.decodeAddressBook(encoded);
+    }
+
+    @Benchmark
+    public AddressBook roundTrip() throws IllegalValueException, StorageOperationException {
+        return AddressBookDecoder.decodeAddressBook(AddressBookEncoder.encodeAddressBook(addressBook));
+    }
+
+    @Benchmark
+    public StorageFile save() throws StorageOperationException {
+        storageFile.save(addressBook);
+        return storageFile;
+    }
+
+    @Benchmark
+    public AddressBook load() throws StorageOperationException {
+        return storageFile.load();
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.addressbook.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.addressbook.data.person.Person;
+import seedu.addressbook.data.person.UniquePersonList;
+import seedu.addressbook.data.person.UniquePersonList.DuplicatePersonException;
+import seedu.addressbook.data.person.UniquePersonList.PersonNotFoundException;
+
+/**
+ * Measures adding, looking up and removing a person in lists of growing size.
+ * Each lookup goes through the whole list: the person looked up is either the last one or not in the list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    private UniquePersonList persons;
+    private Person lastPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() throws DuplicatePersonException {
+        persons = new UniquePersonList(GeneratedPersons.generate(size));
+        lastPerson = GeneratedPersons.generate(size - 1, GeneratedPersons.SURNAMES[(size - 1)
+                % GeneratedPersons.SURNAMES.length]);
+        absentPerson = GeneratedPersons.generate(size, "Absent");
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return persons.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absentPerson);
+    }
+
+    /**
+     * Adds a person and removes it again, so that the list keeps its size.
+     */
+    @Benchmark
+    public UniquePersonList addThenRemove() throws DuplicatePersonException, PersonNotFoundException {
+        persons.add(absentPerson);
+        persons.remove(absentPerson);
+        return persons;
+    }
+}
@@ -19,3 +19,13 @@ java -classpath ..\bin seedu.addressbook.Main < input.txt > ACTUAL.TXT
 
 REM compare the output to the expected output
 FC ACTUAL.TXT EXPECTED.TXT
+IF ERRORLEVEL 1 (
+    echo Test result: FAILED
+    exit /b 1
+)
+
+REM run the same commands through the batch pipeline, which must produce the same output
+del ACTUAL.TXT
+java -classpath ..\bin seedu.addressbook.Main --batch < input.txt > ACTUAL.TXT
+
+FC ACTUAL.TXT EXPECTED.TXT
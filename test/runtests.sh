@@ -23,12 +23,23 @@ fi
 java -classpath ../bin seedu.addressbook.Main < input.txt > ACTUAL.TXT
 
 # compare the output to the expected output
+diff ACTUAL.TXT EXPECTED.TXT
+if [ $? -ne 0 ]
+then
+    echo "Test result: FAILED"
+    exit 1
+fi
+
+# run the same commands through the batch pipeline, which must produce the same output
+rm ACTUAL.TXT
+java -classpath ../bin seedu.addressbook.Main --batch < input.txt > ACTUAL.TXT
+
 diff ACTUAL.TXT EXPECTED.TXT
 if [ $? -eq 0 ]
 then
     echo "Test result: PASSED"
     exit 0
 else
-    echo "Test result: FAILED"
+    echo "Test result: FAILED (batch mode)"
     exit 1
 fi